@@ -1,18 +1,22 @@
 package com.Travellers.DreamRoute;
 
+import com.Travellers.DreamRoute.security.password.BoundedBCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 @SpringBootApplication
+@EnableScheduling
 public class DreamRouteApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(DreamRouteApplication.class, args);
 	}
-	@Bean
-	public BCryptPasswordEncoder bCryptPasswordEncoder() {
-		return new BCryptPasswordEncoder();
+	@Bean(destroyMethod = "shutdown")
+	public BCryptPasswordEncoder bCryptPasswordEncoder(@Value("${security.password.bcrypt-strength:12}") int strength) {
+		return BoundedBCryptPasswordEncoder.withStrength(strength);
 	}
 }
\ No newline at end of file
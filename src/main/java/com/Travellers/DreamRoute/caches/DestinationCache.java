@@ -0,0 +1,147 @@
+package com.Travellers.DreamRoute.caches;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.DestinationsCreatedEvent;
+import com.Travellers.DreamRoute.events.ReplicaResyncEvent;
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.events.UserRenamedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+@Component
+public class DestinationCache {
+    public static final long MAX_DESTINATION_BYTES = 16L * 1024 * 1024;
+    public static final long MAX_USER_DESTINATION_BYTES = 16L * 1024 * 1024;
+
+    private static final int OBJECT_OVERHEAD_BYTES = 64;
+    private static final int LIST_ENTRY_BYTES = 8;
+
+    private final Cache<Long, DestinationResponse> destinations;
+    private final Cache<Long, List<DestinationResponse>> userDestinations;
+    private final AtomicLong catalogGeneration = new AtomicLong();
+    private final AtomicLong renameGeneration = new AtomicLong();
+    private volatile CatalogVersion catalogVersion;
+
+    public DestinationCache(MeterRegistry meterRegistry) {
+        this.destinations = Caffeine.newBuilder()
+                .maximumWeight(MAX_DESTINATION_BYTES)
+                .weigher((Long id, DestinationResponse destination) -> weigh(destination))
+                .recordStats()
+                .build();
+        this.userDestinations = Caffeine.newBuilder()
+                .maximumWeight(MAX_USER_DESTINATION_BYTES)
+                .weigher((Long userId, List<DestinationResponse> list) -> weigh(list))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, destinations, "destinations");
+        CaffeineCacheMetrics.monitor(meterRegistry, userDestinations, "userDestinations");
+    }
+
+    /**
+     * Returns a destination, loading it on a miss. A rename sweeps entries by value rather than by key, so a load that
+     * overlapped one may have read the previous username after the sweep ran; such a load is returned but not kept.
+     */
+    public Optional<DestinationResponse> getDestination(Long id, Function<Long, Optional<DestinationResponse>> loader) {
+        long generation = renameGeneration.get();
+        DestinationResponse destination = destinations.get(id, key -> loader.apply(key).orElse(null));
+        if (destination != null && renameGeneration.get() != generation) {
+            destinations.asMap().remove(id, destination);
+        }
+        return Optional.ofNullable(destination);
+    }
+
+    public List<DestinationResponse> getUserDestinations(Long userId, Function<Long, List<DestinationResponse>> loader) {
+        List<DestinationResponse> cached = userDestinations.get(userId, key -> {
+            List<DestinationResponse> loaded = loader.apply(key);
+            return loaded.isEmpty() ? null : List.copyOf(loaded);
+        });
+        return cached == null ? List.of() : cached;
+    }
+
+    /**
+     * Returns the catalog version, loading it only after a change has been seen. A load that overlaps an invalidation
+     * is kept under the generation it started in, so the next call loads again instead of trusting it.
+     */
+    public long getCatalogVersion(LongSupplier loader) {
+        long generation = catalogGeneration.get();
+        CatalogVersion cached = catalogVersion;
+        if (cached != null && cached.generation() == generation) {
+            return cached.value();
+        }
+        long value = loader.getAsLong();
+        catalogVersion = new CatalogVersion(generation, value);
+        return value;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDestinationChanged(DestinationChangedEvent event) {
+        destinations.invalidate(event.destinationId());
+        if (event.userId() != null) {
+            userDestinations.invalidate(event.userId());
+        }
+        catalogGeneration.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDestinationsCreated(DestinationsCreatedEvent event) {
+        destinations.invalidateAll(event.destinationIds());
+        if (event.userId() != null) {
+            userDestinations.invalidate(event.userId());
+        }
+        catalogGeneration.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRenamed(UserRenamedEvent event) {
+        userDestinations.invalidate(event.userId());
+        renameGeneration.incrementAndGet();
+        destinations.asMap().values()
+                .removeIf(destination -> destination.username().equals(event.previousUsername()));
+        catalogGeneration.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() == UserChangedEvent.Type.DELETED) {
+            catalogGeneration.incrementAndGet();
+        }
+    }
+
+    @EventListener(ReplicaResyncEvent.class)
+    public void invalidateAll() {
+        destinations.invalidateAll();
+        userDestinations.invalidateAll();
+        catalogGeneration.incrementAndGet();
+    }
+
+    private static int weigh(DestinationResponse destination) {
+        return OBJECT_OVERHEAD_BYTES + 2 * (length(destination.country()) + length(destination.city())
+                + length(destination.description()) + length(destination.image()) + length(destination.username()));
+    }
+
+    private static int weigh(List<DestinationResponse> list) {
+        int weight = OBJECT_OVERHEAD_BYTES;
+        for (DestinationResponse destination : list) {
+            weight += LIST_ENTRY_BYTES + weigh(destination);
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record CatalogVersion(long generation, long value) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.Travellers.DreamRoute.caches;
+
+import com.Travellers.DreamRoute.models.Role;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RoleChangeListener {
+    private final ObjectProvider<RoleRegistry> roleRegistry;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onRoleChanged(Role role) {
+        roleRegistry.ifAvailable(RoleRegistry::invalidate);
+    }
+}
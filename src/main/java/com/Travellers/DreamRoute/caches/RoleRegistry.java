@@ -0,0 +1,132 @@
+package com.Travellers.DreamRoute.caches;
+
+import com.Travellers.DreamRoute.events.ReplicaResyncEvent;
+import com.Travellers.DreamRoute.models.Role;
+import com.Travellers.DreamRoute.repositories.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class RoleRegistry {
+    public static final long REFRESH_INTERVAL_MS = 60_000;
+    static final Duration MIN_RELOAD_INTERVAL = Duration.ofSeconds(1);
+
+    private final RoleRepository roleRepository;
+    private volatile Snapshot snapshot;
+    private long generation;
+
+    private record Snapshot(List<Role> roles, Map<String, Role> byName, Map<Long, Role> byId, long loadedAt) {
+    }
+
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MS, initialDelay = REFRESH_INTERVAL_MS)
+    @EventListener({ApplicationReadyEvent.class, ReplicaResyncEvent.class})
+    public void refresh() {
+        load();
+    }
+
+    public void invalidate() {
+        discard();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    discard();
+                }
+            });
+        }
+    }
+
+    public List<Role> all() {
+        return current().roles();
+    }
+
+    public Optional<Role> findById(Long id) {
+        return Optional.ofNullable(lookup(snapshot -> snapshot.byId().get(id)));
+    }
+
+    public Optional<Role> findByName(String roleName) {
+        return Optional.ofNullable(lookup(snapshot -> snapshot.byName().get(key(roleName))));
+    }
+
+    public Set<Role> resolveAll(Collection<String> roleNames) {
+        Set<Role> resolved = new LinkedHashSet<>();
+        Snapshot current = current();
+        for (String roleName : roleNames) {
+            Role role = current.byName().get(key(roleName));
+            if (role == null) {
+                current = reloadAfterMiss(current);
+                role = current.byName().get(key(roleName));
+            }
+            if (role == null) {
+                throw new RuntimeException("Role not found: " + roleName);
+            }
+            resolved.add(role);
+        }
+        return resolved;
+    }
+
+    private Role lookup(Function<Snapshot, Role> finder) {
+        Snapshot current = current();
+        Role role = finder.apply(current);
+        return role != null ? role : finder.apply(reloadAfterMiss(current));
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : load();
+    }
+
+    private Snapshot reloadAfterMiss(Snapshot current) {
+        if (System.nanoTime() - current.loadedAt() < MIN_RELOAD_INTERVAL.toNanos()) {
+            return current;
+        }
+        return load();
+    }
+
+    private Snapshot load() {
+        long expectedGeneration;
+        synchronized (this) {
+            expectedGeneration = generation;
+        }
+        List<Role> roles = roleRepository.findAll(Sort.by("id")).stream()
+                .map(role -> new Role(role.getId(), role.getRoleName(), List.of()))
+                .toList();
+        Snapshot loaded = new Snapshot(roles,
+                roles.stream().collect(Collectors.toUnmodifiableMap(role -> key(role.getRoleName()), Function.identity(),
+                        (first, second) -> first)),
+                roles.stream().collect(Collectors.toUnmodifiableMap(Role::getId, Function.identity())),
+                System.nanoTime());
+        synchronized (this) {
+            if (generation == expectedGeneration) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private synchronized void discard() {
+        generation++;
+        snapshot = null;
+    }
+
+    private static String key(String roleName) {
+        return roleName == null ? "" : roleName.toUpperCase(Locale.ROOT);
+    }
+}
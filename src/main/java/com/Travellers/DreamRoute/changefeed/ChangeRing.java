@@ -0,0 +1,88 @@
+package com.Travellers.DreamRoute.changefeed;
+
+import java.time.Duration;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed-size ring of the most recent changes, numbered from 1. Publishing is serialised so there is a single writer;
+ * readers keep their own sequence and never block it, so a reader that falls a full ring behind simply finds its next
+ * change overwritten and has to resynchronise. The writer fills the slot, then moves the volatile cursor, then advances
+ * a {@link Phaser} that waiting readers park on; readers never take the writer's lock.
+ */
+class ChangeRing<T> {
+    private record Slot<T>(long sequence, T change) {
+    }
+
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final int mask;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Phaser published = new Phaser(1);
+    private volatile long cursor;
+
+    ChangeRing(int minimumCapacity) {
+        if (minimumCapacity < 2) {
+            throw new IllegalArgumentException("Ring capacity must be at least 2");
+        }
+        int capacity = Integer.highestOneBit(minimumCapacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    long cursor() {
+        return cursor;
+    }
+
+    long publish(T change) {
+        long sequence;
+        writeLock.lock();
+        try {
+            sequence = cursor + 1;
+            slots.set((int) (sequence & mask), new Slot<>(sequence, change));
+            cursor = sequence;
+        } finally {
+            writeLock.unlock();
+        }
+        published.arrive();
+        return sequence;
+    }
+
+    /**
+     * Returns the change published as {@code sequence}, or {@code null} once it has been overwritten.
+     */
+    T get(long sequence) {
+        Slot<T> slot = slots.get((int) (sequence & mask));
+        return slot != null && slot.sequence() == sequence ? slot.change() : null;
+    }
+
+    /**
+     * Waits until something is published after {@code sequence} or the timeout passes, and returns the cursor.
+     */
+    long awaitAfter(long sequence, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            int phase = published.getPhase();
+            long current = cursor;
+            long remaining = deadline - System.nanoTime();
+            if (current > sequence || remaining <= 0) {
+                return current;
+            }
+            try {
+                published.awaitAdvanceInterruptibly(phase, remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return cursor;
+            }
+        }
+    }
+
+    long oldestAvailable() {
+        return Math.max(1, cursor - mask);
+    }
+}
@@ -0,0 +1,208 @@
+package com.Travellers.DreamRoute.changefeed;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationChange;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.DestinationsCreatedEvent;
+import com.Travellers.DreamRoute.events.ReplicaResyncEvent;
+import com.Travellers.DreamRoute.exceptions.ServiceBusyException;
+import com.Travellers.DreamRoute.invalidation.ReplicaIdentity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent stream of destination changes seen by this replica, local and relayed alike. Changes are rendered to
+ * JSON once and go into a {@link ChangeRing}; every subscriber reads it from its own position on a virtual thread while the servlet thread
+ * is released. A subscriber more than a ring behind, or reconnecting with an event id the ring no longer holds, gets a
+ * {@code resync} event and should reload the list.
+ */
+@Slf4j
+@Component
+public class DestinationChangeFeed implements AutoCloseable {
+    static final long RECONNECT_MS = 3_000;
+    private static final String ID_SEPARATOR = ":";
+
+    private final ChangeRing<RenderedChange> ring;
+    private final ObjectMapper objectMapper;
+    private final RenderedChange resync;
+    private final String epoch;
+    private final Duration heartbeat;
+    private final int maxSubscribers;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("destination-stream-", 0).factory());
+
+    @Autowired
+    public DestinationChangeFeed(ReplicaIdentity replicaIdentity, ObjectMapper objectMapper,
+                                 @Value("${destinations.stream.buffer-size:1024}") int bufferSize,
+                                 @Value("${destinations.stream.max-subscribers:10000}") int maxSubscribers,
+                                 @Value("${destinations.stream.heartbeat:15s}") Duration heartbeat) {
+        this(replicaIdentity.getId(), objectMapper, bufferSize, maxSubscribers, heartbeat);
+    }
+
+    public DestinationChangeFeed(String epoch, ObjectMapper objectMapper, int bufferSize, int maxSubscribers,
+                                 Duration heartbeat) {
+        this.ring = new ChangeRing<>(bufferSize);
+        this.objectMapper = objectMapper;
+        this.resync = render(DestinationChange.RESYNC);
+        this.epoch = epoch;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeat = heartbeat;
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter();
+        Future<?> subscription = open(lastEventId, emitter::send);
+        emitter.onCompletion(() -> subscription.cancel(true));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscription.cancel(true));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDestinationChanged(DestinationChangedEvent event) {
+        ring.publish(render(DestinationChange.of(event)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDestinationsCreated(DestinationsCreatedEvent event) {
+        event.destinations().forEach(destination -> ring.publish(render(
+                new DestinationChange(DestinationChange.Type.CREATED, destination.id(), destination))));
+    }
+
+    /**
+     * The bus repeats a stale resync on every poll while the change log is unreadable, so clients are only told when
+     * this replica turns stale and again when it has caught up and rebuilt its indexes.
+     */
+    @EventListener
+    public void onReplicaResync(ReplicaResyncEvent event) {
+        boolean wasStale = stale.getAndSet(event.stale());
+        if (event.rebuildIndexes() || (event.stale() && !wasStale)) {
+            ring.publish(resync);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    interface EventSink {
+        void send(SseEmitter.SseEventBuilder event) throws IOException;
+    }
+
+    Future<?> open(String lastEventId, EventSink sink) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new ServiceBusyException("Too many open destination streams, please retry");
+        }
+        long start = ring.cursor() + 1;
+        FutureTask<Void> subscription = new FutureTask<>(() -> {
+            try {
+                stream(resumeFrom(lastEventId, start), sink);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Destination stream closed: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, null) {
+            /** Runs once whether the stream ends or is cancelled, even before it started. */
+            @Override
+            protected void done() {
+                subscribers.decrementAndGet();
+            }
+        };
+        executor.execute(subscription);
+        return subscription;
+    }
+
+    int subscribers() {
+        return subscribers.get();
+    }
+
+    private void stream(long next, EventSink sink) throws IOException, InterruptedException {
+        sink.send(SseEmitter.event().reconnectTime(RECONNECT_MS).comment("subscribed"));
+        if (next < 0) {
+            next = resync(sink);
+        }
+        while (!Thread.currentThread().isInterrupted()) {
+            long cursor = ring.awaitAfter(next - 1, heartbeat);
+            if (cursor < next) {
+                sink.send(SseEmitter.event().comment("heartbeat"));
+                continue;
+            }
+            for (; next <= cursor; next++) {
+                RenderedChange change = ring.get(next);
+                if (change == null) {
+                    next = resync(sink);
+                    break;
+                }
+                send(sink, next, change);
+            }
+        }
+    }
+
+    private long resync(EventSink sink) throws IOException {
+        long cursor = ring.cursor();
+        send(sink, cursor, resync);
+        return cursor + 1;
+    }
+
+    private void send(EventSink sink, long sequence, RenderedChange change) throws IOException {
+        sink.send(SseEmitter.event()
+                .id(epoch + ID_SEPARATOR + sequence)
+                .name(change.name())
+                .data(change.json(), MediaType.APPLICATION_JSON));
+    }
+
+    private RenderedChange render(DestinationChange change) {
+        try {
+            return new RenderedChange(change.type().name().toLowerCase(Locale.ROOT),
+                    objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Picks up after the event a reconnecting client saw last, or returns -1 when that event is from another epoch
+     * or no longer in the ring.
+     */
+    private long resumeFrom(String lastEventId, long start) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return start;
+        }
+        int separator = lastEventId.lastIndexOf(ID_SEPARATOR);
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            long next = Long.parseLong(lastEventId.substring(separator + 1)) + 1;
+            return next >= ring.oldestAvailable() && next <= start ? next : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /** A change as every subscriber sends it: the event name and the JSON payload, serialized once. */
+    private record RenderedChange(String name, String json) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.Travellers.DreamRoute.collaboration;
+
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wall-clock milliseconds that never go backwards and never repeat, and that move past every clock observed from
+ * other replicas, so an edit made after seeing another one always wins over it.
+ */
+@Component
+public class HybridClock {
+    private final AtomicLong last = new AtomicLong();
+
+    public long next() {
+        return last.updateAndGet(previous -> Math.max(previous + 1, System.currentTimeMillis()));
+    }
+
+    public void observe(long clock) {
+        last.accumulateAndGet(clock, Math::max);
+    }
+}
@@ -0,0 +1,44 @@
+package com.Travellers.DreamRoute.collaboration;
+
+import com.Travellers.DreamRoute.dtos.trip.TripOperation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+@Component
+@RequiredArgsConstructor
+public class TripCollaborationHandler extends TextWebSocketHandler {
+    private final TripCollaborationHub hub;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        hub.join(session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        TripOperation operation;
+        try {
+            operation = objectMapper.readValue(message.getPayload(), TripOperation.class);
+        } catch (JsonProcessingException e) {
+            hub.reject(session, "Malformed operation");
+            return;
+        }
+        try {
+            hub.apply(session, operation);
+        } catch (IllegalArgumentException e) {
+            hub.reject(session, e.getMessage());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        hub.leave(session);
+    }
+}
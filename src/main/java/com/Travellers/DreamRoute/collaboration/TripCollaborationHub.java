@@ -0,0 +1,294 @@
+package com.Travellers.DreamRoute.collaboration;
+
+import com.Travellers.DreamRoute.dtos.trip.CollaborationMessage;
+import com.Travellers.DreamRoute.dtos.trip.TripOperation;
+import com.Travellers.DreamRoute.events.TripChangedEvent;
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.invalidation.ReplicaIdentity;
+import com.Travellers.DreamRoute.ordering.RankKeys;
+import com.Travellers.DreamRoute.services.DestinationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live editing of shared trips. Operations from a session are merged into the trip's {@link TripDocument} and
+ * broadcast to every session on it straight away; dirty stops are written back in batches on a fixed interval, and
+ * that write is announced through the change log so other replicas reload the trip and relay it to their sessions.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TripCollaborationHub {
+    public static final String TRIP_ID_ATTRIBUTE = "tripId";
+    public static final String OWNER_ID_ATTRIBUTE = "ownerId";
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    public static final String ADMIN_ATTRIBUTE = "admin";
+    public static final int MAX_ELEMENT_ID_LENGTH = 64;
+    static final int SEND_TIME_LIMIT_MS = 5_000;
+    static final int SEND_BUFFER_LIMIT = 512 * 1024;
+
+    private final TripSnapshotStore snapshotStore;
+    private final DestinationService destinationService;
+    private final HybridClock clock;
+    private final ReplicaIdentity replicaIdentity;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, TripDocument> documents = new ConcurrentHashMap<>();
+
+    public void join(WebSocketSession session) {
+        Long tripId = tripId(session);
+        Long ownerId = (Long) session.getAttributes().get(OWNER_ID_ATTRIBUTE);
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT);
+        // The snapshot is loaded outside the map so a slow load never holds a bin lock. If two joins load it at once
+        // the first stays; if the last session leaves before this one is added, the document is opened again.
+        TripDocument document = null;
+        while (document == null) {
+            if (!documents.containsKey(tripId)) {
+                documents.putIfAbsent(tripId, open(tripId, ownerId));
+            }
+            document = documents.computeIfPresent(tripId, (id, existing) -> {
+                existing.addSession(decorated);
+                return existing;
+            });
+        }
+        send(decorated, CollaborationMessage.snapshot(document.elements()));
+    }
+
+    public void leave(WebSocketSession session) {
+        Long tripId = tripId(session);
+        TripDocument document = documents.get(tripId);
+        if (document == null) {
+            return;
+        }
+        documents.computeIfPresent(tripId, (id, current) -> {
+            current.removeSession(session.getId());
+            return current.hasSessions() ? current : null;
+        });
+        if (!document.hasSessions()) {
+            flush(document);
+        }
+    }
+
+    public void apply(WebSocketSession session, TripOperation operation) {
+        TripDocument document = documents.get(tripId(session));
+        if (document == null) {
+            return;
+        }
+        TripElement element = toElement(document, operation);
+        if (document.merge(element)) {
+            document.markDirty(element.elementId());
+            broadcast(document, CollaborationMessage.update(List.of(element)));
+        }
+    }
+
+    public void reject(WebSocketSession session, String reason) {
+        TripDocument document = documents.get(tripId(session));
+        WebSocketSession decorated = document == null ? null : document.session(session.getId());
+        if (decorated != null) {
+            send(decorated, CollaborationMessage.error(reason));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trips.collaboration.flush-interval:1s}")
+    public void flushAll() {
+        documents.values().forEach(this::flush);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTripChanged(TripChangedEvent event) {
+        TripDocument document = documents.get(event.tripId());
+        if (document != null) {
+            reload(document);
+            closeSessionsWithoutAccess(document);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (!event.revokesTokens()) {
+            return;
+        }
+        documents.values().forEach(document -> document.sessions().stream()
+                .filter(session -> event.userId().equals(session.getAttributes().get(USER_ID_ATTRIBUTE)))
+                .forEach(session -> close(session, CloseStatus.POLICY_VIOLATION.withReason("Access revoked"))));
+    }
+
+    int openDocuments() {
+        return documents.size();
+    }
+
+    private TripDocument open(Long tripId, Long ownerId) {
+        List<TripElement> stored = snapshotStore.load(tripId)
+                .orElseThrow(() -> new IllegalStateException("Trip " + tripId + " no longer exists"));
+        stored.forEach(element -> clock.observe(element.clock()));
+        return new TripDocument(tripId, ownerId, stored);
+    }
+
+    private void flush(TripDocument document) {
+        List<TripElement> batch = document.drainDirty();
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            snapshotStore.persist(document.tripId(), document.ownerId(), batch);
+        } catch (DataIntegrityViolationException e) {
+            persistEach(document, batch);
+        } catch (RuntimeException e) {
+            log.warn("Saving edits to trip {} failed, retrying: {}", document.tripId(), e.getMessage());
+            batch.forEach(element -> document.markDirty(element.elementId()));
+        }
+    }
+
+    private void persistEach(TripDocument document, List<TripElement> batch) {
+        List<TripElement> rejected = new ArrayList<>();
+        for (TripElement element : batch) {
+            try {
+                snapshotStore.persist(document.tripId(), document.ownerId(), List.of(element));
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Dropping edit to stop {} of trip {} that conflicts with stored data: {}",
+                        element.elementId(), document.tripId(), e.getMessage());
+                rejected.add(element);
+            } catch (RuntimeException e) {
+                log.warn("Saving stop {} of trip {} failed, retrying: {}", element.elementId(), document.tripId(), e.getMessage());
+                document.markDirty(element.elementId());
+            }
+        }
+        if (!rejected.isEmpty()) {
+            discard(document, rejected);
+        }
+    }
+
+    private void discard(TripDocument document, List<TripElement> rejected) {
+        Optional<List<TripElement>> stored = snapshotStore.load(document.tripId());
+        if (stored.isEmpty()) {
+            reload(document);
+            return;
+        }
+        Map<String, TripElement> storedById = new HashMap<>();
+        stored.get().forEach(element -> storedById.put(element.elementId(), element));
+        rejected.forEach(element -> document.revert(element, storedById.get(element.elementId())));
+        document.mergeAll(stored.get());
+        broadcast(document, CollaborationMessage.snapshot(document.elements()));
+    }
+
+    private void reload(TripDocument document) {
+        Optional<List<TripElement>> stored = snapshotStore.load(document.tripId());
+        if (stored.isEmpty()) {
+            documents.remove(document.tripId(), document);
+            document.sessions().forEach(session -> close(session, CloseStatus.GOING_AWAY.withReason("Trip deleted")));
+            return;
+        }
+        stored.get().forEach(element -> clock.observe(element.clock()));
+        List<TripElement> changed = document.mergeAll(stored.get());
+        if (!changed.isEmpty()) {
+            broadcast(document, CollaborationMessage.update(changed));
+        }
+    }
+
+    private void closeSessionsWithoutAccess(TripDocument document) {
+        if (!document.hasSessions()) {
+            return;
+        }
+        Set<Long> editorIds = snapshotStore.editorIds(document.tripId());
+        document.sessions().stream()
+                .filter(session -> !Boolean.TRUE.equals(session.getAttributes().get(ADMIN_ATTRIBUTE))
+                        && !editorIds.contains((Long) session.getAttributes().get(USER_ID_ATTRIBUTE)))
+                .forEach(session -> close(session, CloseStatus.POLICY_VIOLATION.withReason("Access revoked")));
+    }
+
+    private TripElement toElement(TripDocument document, TripOperation operation) {
+        String elementId = operation.elementId();
+        if (operation.type() == null || elementId == null || elementId.isBlank() || elementId.length() > MAX_ELEMENT_ID_LENGTH) {
+            throw new IllegalArgumentException("Operations need a type and an element id of at most " + MAX_ELEMENT_ID_LENGTH + " characters");
+        }
+        TripElement current = document.get(elementId);
+        if (operation.type() == TripOperation.Type.INSERT) {
+            if (current != null) {
+                throw new IllegalArgumentException("Stop " + elementId + " already exists");
+            }
+            requireRank(operation.rank());
+            requireOwnedDestination(document.ownerId(), operation.destinationId());
+            return new TripElement(elementId, operation.destinationId(), operation.rank(), false, clock.next(), replicaIdentity.getId());
+        }
+        if (current == null || current.removed()) {
+            throw new IllegalArgumentException("Stop " + elementId + " does not exist");
+        }
+        if (operation.type() == TripOperation.Type.MOVE) {
+            requireRank(operation.rank());
+            return new TripElement(elementId, current.destinationId(), operation.rank(), false, clock.next(), replicaIdentity.getId());
+        }
+        return new TripElement(elementId, current.destinationId(), current.rank(), true, clock.next(), replicaIdentity.getId());
+    }
+
+    private void requireRank(String rank) {
+        if (!RankKeys.isValid(rank) || rank.length() > RankKeys.MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid rank " + rank);
+        }
+    }
+
+    private void requireOwnedDestination(Long ownerId, Long destinationId) {
+        boolean owned = destinationId != null && destinationService.getDestinationsByUserId(ownerId).stream()
+                .anyMatch(destination -> destination.id().equals(destinationId));
+        if (!owned) {
+            throw new IllegalArgumentException("Destination not found for user " + ownerId + ": " + destinationId);
+        }
+    }
+
+    private void broadcast(TripDocument document, CollaborationMessage message) {
+        TextMessage text = toText(message);
+        document.sessions().forEach(session -> send(session, text));
+    }
+
+    private void send(WebSocketSession session, CollaborationMessage message) {
+        send(session, toText(message));
+    }
+
+    private void send(WebSocketSession session, TextMessage message) {
+        try {
+            session.sendMessage(message);
+        } catch (IOException | SessionLimitExceededException e) {
+            log.debug("Dropping collaboration session {}: {}", session.getId(), e.getMessage());
+            close(session, CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    private void close(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("Closing collaboration session {} failed: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    private TextMessage toText(CollaborationMessage message) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Long tripId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(TRIP_ID_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,108 @@
+package com.Travellers.DreamRoute.collaboration;
+
+import org.springframework.web.socket.WebSocketSession;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of a trip's stop list shared by the sessions editing it. Every stop is merged independently and
+ * removals stay as tombstones, so merging is commutative and idempotent: edits from local sessions, the REST API and
+ * other replicas can arrive in any order, any number of times, and every copy converges.
+ */
+class TripDocument {
+    private final Long tripId;
+    private final Long ownerId;
+    private final Map<String, TripElement> elements = new ConcurrentHashMap<>();
+    private final Set<String> dirtyElementIds = ConcurrentHashMap.newKeySet();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    TripDocument(Long tripId, Long ownerId, Collection<TripElement> stored) {
+        this.tripId = tripId;
+        this.ownerId = ownerId;
+        stored.forEach(this::merge);
+    }
+
+    Long tripId() {
+        return tripId;
+    }
+
+    Long ownerId() {
+        return ownerId;
+    }
+
+    TripElement get(String elementId) {
+        return elements.get(elementId);
+    }
+
+    boolean merge(TripElement incoming) {
+        boolean[] changed = {false};
+        elements.compute(incoming.elementId(), (elementId, current) -> {
+            changed[0] = incoming.supersedes(current);
+            return changed[0] ? incoming : current;
+        });
+        return changed[0];
+    }
+
+    /**
+     * Puts back the stored state of a stop whose edit could not be saved, unless a later edit has replaced it since.
+     */
+    void revert(TripElement rejected, TripElement stored) {
+        elements.compute(rejected.elementId(), (elementId, current) -> rejected.equals(current) ? stored : current);
+    }
+
+    List<TripElement> mergeAll(Collection<TripElement> incoming) {
+        List<TripElement> changed = new ArrayList<>();
+        for (TripElement element : incoming) {
+            if (merge(element)) {
+                changed.add(element);
+            }
+        }
+        return changed;
+    }
+
+    List<TripElement> elements() {
+        List<TripElement> ordered = new ArrayList<>(elements.values());
+        ordered.sort(TripElement.ORDER);
+        return ordered;
+    }
+
+    void markDirty(String elementId) {
+        dirtyElementIds.add(elementId);
+    }
+
+    List<TripElement> drainDirty() {
+        List<TripElement> drained = new ArrayList<>();
+        Iterator<String> dirty = dirtyElementIds.iterator();
+        while (dirty.hasNext()) {
+            String elementId = dirty.next();
+            dirty.remove();
+            drained.add(elements.get(elementId));
+        }
+        return drained;
+    }
+
+    void addSession(WebSocketSession session) {
+        sessions.put(session.getId(), session);
+    }
+
+    void removeSession(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    WebSocketSession session(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    Collection<WebSocketSession> sessions() {
+        return sessions.values();
+    }
+
+    boolean hasSessions() {
+        return !sessions.isEmpty();
+    }
+}
@@ -0,0 +1,23 @@
+package com.Travellers.DreamRoute.collaboration;
+
+import java.util.Comparator;
+
+/**
+ * State of one stop in a shared trip: a last-writer-wins register over its rank and removal flag, stamped with a
+ * hybrid clock and the writing replica so concurrent writes resolve the same way everywhere.
+ */
+public record TripElement(
+        String elementId,
+        Long destinationId,
+        String rank,
+        boolean removed,
+        long clock,
+        String site
+) {
+    public static final Comparator<TripElement> ORDER = Comparator.comparing(TripElement::rank)
+            .thenComparing(TripElement::elementId);
+
+    public boolean supersedes(TripElement other) {
+        return other == null || clock > other.clock || (clock == other.clock && site.compareTo(other.site) > 0);
+    }
+}
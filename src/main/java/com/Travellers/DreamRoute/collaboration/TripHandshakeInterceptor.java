@@ -0,0 +1,58 @@
+package com.Travellers.DreamRoute.collaboration;
+
+import com.Travellers.DreamRoute.exceptions.EntityNotFoundException;
+import com.Travellers.DreamRoute.security.UserDetail;
+import com.Travellers.DreamRoute.services.TripService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class TripHandshakeInterceptor implements HandshakeInterceptor {
+    private final TripService tripService;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+                                   Map<String, Object> attributes) {
+        if (!(request.getPrincipal() instanceof Authentication authentication)
+                || !(authentication.getPrincipal() instanceof UserDetail userDetail)) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        String path = request.getURI().getPath();
+        Long tripId;
+        try {
+            tripId = Long.valueOf(path.substring(path.lastIndexOf('/') + 1));
+        } catch (NumberFormatException e) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+        try {
+            attributes.put(TripCollaborationHub.OWNER_ID_ATTRIBUTE, tripService.getEditableTripOwnerId(tripId, userDetail));
+        } catch (EntityNotFoundException e) {
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return false;
+        } catch (AccessDeniedException e) {
+            response.setStatusCode(HttpStatus.FORBIDDEN);
+            return false;
+        }
+        attributes.put(TripCollaborationHub.TRIP_ID_ATTRIBUTE, tripId);
+        attributes.put(TripCollaborationHub.USER_ID_ATTRIBUTE, userDetail.getId());
+        attributes.put(TripCollaborationHub.ADMIN_ATTRIBUTE, userDetail.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN")));
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+                               Exception exception) {
+    }
+}
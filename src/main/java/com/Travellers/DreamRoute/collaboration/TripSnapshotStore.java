@@ -0,0 +1,79 @@
+package com.Travellers.DreamRoute.collaboration;
+
+import com.Travellers.DreamRoute.events.TripChangedEvent;
+import com.Travellers.DreamRoute.invalidation.InvalidationBus;
+import com.Travellers.DreamRoute.models.TripStop;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.Travellers.DreamRoute.repositories.TripRepository;
+import com.Travellers.DreamRoute.repositories.TripStopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TripSnapshotStore {
+    private final TripRepository tripRepository;
+    private final TripStopRepository tripStopRepository;
+    private final DestinationRepository destinationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Optional<List<TripElement>> load(Long tripId) {
+        if (!tripRepository.existsById(tripId)) {
+            return Optional.empty();
+        }
+        return Optional.of(tripStopRepository.findAllElementsByTripId(tripId));
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Long> editorIds(Long tripId) {
+        return tripRepository.findById(tripId)
+                .map(trip -> {
+                    Set<Long> editorIds = new HashSet<>(trip.getCollaboratorIds());
+                    editorIds.add(trip.getUser().getId());
+                    return editorIds;
+                })
+                .orElse(Set.of());
+    }
+
+    @Transactional
+    public void persist(Long tripId, Long ownerId, Collection<TripElement> elements) {
+        if (tripRepository.findByIdForUpdate(tripId).isEmpty()) {
+            return;
+        }
+        for (TripElement element : elements) {
+            int updated = tripStopRepository.updateIfNewer(tripId, element.elementId(), element.rank(), element.removed(),
+                    element.clock(), element.site());
+            if (updated == 0 && !tripStopRepository.existsByTripIdAndElementId(tripId, element.elementId())) {
+                tripStopRepository.save(TripStop.builder()
+                        .elementId(element.elementId())
+                        .trip(tripRepository.getReferenceById(tripId))
+                        .destination(destinationRepository.getReferenceById(element.destinationId()))
+                        .rank(element.rank())
+                        .removed(element.removed())
+                        .clock(element.clock())
+                        .site(element.site())
+                        .build());
+            }
+        }
+        eventPublisher.publishEvent(TripChangedEvent.changed(tripId, ownerId));
+    }
+
+    @Scheduled(fixedDelay = 600_000, initialDelay = 60_000)
+    public void pruneTombstones() {
+        int pruned = tripStopRepository.deleteTombstonesOlderThan(Instant.now().minus(InvalidationBus.RETENTION).toEpochMilli());
+        if (pruned > 0) {
+            log.debug("Pruned {} removed trip stops", pruned);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.Travellers.DreamRoute.config;
 
+import com.Travellers.DreamRoute.controllers.DestinationController;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -16,6 +17,7 @@ public class CorsConfig {
                         .allowedOrigins("http://localhost:3000")
                         .allowedMethods("GET", "POST", "PUT", "DELETE","OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders(DestinationController.NEXT_CURSOR_HEADER)
                         .allowCredentials(true);
             }
         };
@@ -0,0 +1,24 @@
+package com.Travellers.DreamRoute.config;
+
+import com.Travellers.DreamRoute.collaboration.TripCollaborationHandler;
+import com.Travellers.DreamRoute.collaboration.TripHandshakeInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+    private final TripCollaborationHandler tripCollaborationHandler;
+    private final TripHandshakeInterceptor tripHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(tripCollaborationHandler, "/ws/trips/*")
+                .addInterceptors(tripHandshakeInterceptor)
+                .setAllowedOrigins("http://localhost:3000");
+    }
+}
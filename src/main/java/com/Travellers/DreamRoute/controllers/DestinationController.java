@@ -1,40 +1,138 @@
 package com.Travellers.DreamRoute.controllers;
 
+import com.Travellers.DreamRoute.changefeed.DestinationChangeFeed;
+import com.Travellers.DreamRoute.dtos.destination.BulkDestinationResponse;
+import com.Travellers.DreamRoute.dtos.destination.DestinationClusterResponse;
+import com.Travellers.DreamRoute.dtos.destination.DestinationDelta;
+import com.Travellers.DreamRoute.dtos.destination.DestinationFeedPage;
 import com.Travellers.DreamRoute.dtos.destination.DestinationRequest;
 import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.dtos.destination.NearbyDestinationResponse;
 import com.Travellers.DreamRoute.security.UserDetail;
+import com.Travellers.DreamRoute.services.DestinationExportService;
+import com.Travellers.DreamRoute.services.DestinationImportService;
+import com.Travellers.DreamRoute.services.DestinationSearchService;
 import com.Travellers.DreamRoute.services.DestinationService;
+import com.Travellers.DreamRoute.services.DestinationSyncService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/destinations")
 public class DestinationController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final DestinationService destinationService;
+    private final DestinationSearchService destinationSearchService;
+    private final DestinationImportService destinationImportService;
+    private final DestinationExportService destinationExportService;
+    private final DestinationSyncService destinationSyncService;
+    private final DestinationChangeFeed destinationChangeFeed;
 
     @GetMapping
-    public ResponseEntity<List<DestinationResponse>> getAllDestinations() {
-        List<DestinationResponse> orderedDestinations = destinationService.getDestinationsStartingWithCurrentUser();
-        return ResponseEntity.ok(orderedDestinations);
+    public ResponseEntity<List<DestinationResponse>> getAllDestinations(
+            @RequestParam(required = false) String after, @RequestParam(defaultValue = "20") int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal UserDetail userDetail) {
+        Long viewerId = userDetail == null ? null : userDetail.getId();
+        ETag etag = catalogETag(viewerId);
+        if (matches(ifNoneMatch, etag)) {
+            return validated(HttpStatus.NOT_MODIFIED, etag, viewerId != null).build();
+        }
+        DestinationFeedPage page = destinationService.getDestinationFeed(after, limit);
+        ResponseEntity.BodyBuilder response = validated(HttpStatus.OK, etag, viewerId != null);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<DestinationResponse>> searchDestinations(
+            @RequestParam String q, @RequestParam(defaultValue = "10") int limit) {
+        List<DestinationResponse> destinations = destinationSearchService.searchDestinations(q, limit);
+        return ResponseEntity.ok(destinations);
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam String field,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<String> suggestions = destinationSearchService.autocomplete(prefix, field, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyDestinationResponse>> nearbyDestinations(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") int k) {
+        List<NearbyDestinationResponse> destinations = destinationSearchService.nearbyDestinations(lat, lon, k);
+        return ResponseEntity.ok(destinations);
+    }
+
+    @GetMapping("/clusters")
+    public ResponseEntity<List<DestinationClusterResponse>> clusters(@RequestParam String bbox, @RequestParam int zoom) {
+        List<DestinationClusterResponse> clusters = destinationSearchService.clusters(bbox, zoom);
+        return ResponseEntity.ok(clusters);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<DestinationDelta> getDestinationChanges(
+            @RequestParam(required = false) String since, @RequestParam(defaultValue = "500") int limit) {
+        DestinationDelta delta = destinationSyncService.getChangesSince(since, limit);
+        return ResponseEntity.ok(delta);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDestinationChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return destinationChangeFeed.subscribe(lastEventId);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportDestinations() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"destinations.ndjson\"")
+                .body(destinationExportService::exportDestinations);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<DestinationResponse> getDestinationById(@PathVariable Long id) {
+    public ResponseEntity<DestinationResponse> getDestinationById(
+            @PathVariable Long id, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ETag etag = catalogETag(null);
+        if (matches(ifNoneMatch, etag)) {
+            return validated(HttpStatus.NOT_MODIFIED, etag, false).build();
+        }
         DestinationResponse destination  = destinationService.getDestinationById(id);
-        return ResponseEntity.ok(destination);
+        return validated(HttpStatus.OK, etag, false).body(destination);
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<DestinationResponse>> getDestinationByUserId(@PathVariable Long userId){
+    public ResponseEntity<List<DestinationResponse>> getDestinationByUserId(
+            @PathVariable Long userId, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ETag etag = catalogETag(null);
+        if (matches(ifNoneMatch, etag)) {
+            return validated(HttpStatus.NOT_MODIFIED, etag, false).build();
+        }
         List<DestinationResponse> destinations = destinationService.getDestinationsByUserId(userId);
-        return ResponseEntity.ok(destinations);
+        return validated(HttpStatus.OK, etag, false).body(destinations);
     }
 
     @PostMapping
@@ -44,6 +142,13 @@ public class DestinationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<BulkDestinationResponse> addDestinations(InputStream body, @AuthenticationPrincipal UserDetail userDetail) {
+        BulkDestinationResponse response = destinationImportService.importDestinations(body, userDetail);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<DestinationResponse> updateDestination(
@@ -58,4 +163,22 @@ public class DestinationController {
         String message = destinationService.deleteDestination(id, userDetail);
         return new ResponseEntity<>(message, HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    private ETag catalogETag(Long viewerId) {
+        long version = destinationService.getCatalogVersion();
+        return new ETag(viewerId == null ? "c" + version : "c" + version + "-u" + viewerId, false);
+    }
+
+    private static boolean matches(String ifNoneMatch, ETag etag) {
+        return ifNoneMatch != null && ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(etag, false));
+    }
+
+    private static ResponseEntity.BodyBuilder validated(HttpStatus status, ETag etag, boolean personalized) {
+        CacheControl cacheControl = CacheControl.noCache();
+        return ResponseEntity.status(status)
+                .eTag(etag.formattedTag())
+                .cacheControl(personalized ? cacheControl.cachePrivate() : cacheControl.cachePublic())
+                .varyBy(HttpHeaders.AUTHORIZATION);
+    }
+}
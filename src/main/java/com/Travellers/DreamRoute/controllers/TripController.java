@@ -0,0 +1,89 @@
+package com.Travellers.DreamRoute.controllers;
+
+import com.Travellers.DreamRoute.dtos.trip.MoveStopRequest;
+import com.Travellers.DreamRoute.dtos.trip.TripRequest;
+import com.Travellers.DreamRoute.dtos.trip.TripResponse;
+import com.Travellers.DreamRoute.dtos.trip.TripStopRequest;
+import com.Travellers.DreamRoute.dtos.trip.TripStopResponse;
+import com.Travellers.DreamRoute.dtos.trip.TripSummary;
+import com.Travellers.DreamRoute.security.UserDetail;
+import com.Travellers.DreamRoute.services.TripService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/trips")
+public class TripController {
+    private final TripService tripService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TripResponse> getTripById(@PathVariable Long id) {
+        TripResponse trip = tripService.getTrip(id);
+        return ResponseEntity.ok(trip);
+    }
+
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<TripSummary>> getTripsByUserId(@PathVariable Long userId) {
+        List<TripSummary> trips = tripService.getTripsByUserId(userId);
+        return ResponseEntity.ok(trips);
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<TripResponse> createTrip(@RequestBody @Valid TripRequest request, @AuthenticationPrincipal UserDetail userDetail) {
+        TripResponse response = tripService.createTrip(request, userDetail);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<String> deleteTrip(@PathVariable Long id, @AuthenticationPrincipal UserDetail userDetail) {
+        String message = tripService.deleteTrip(id, userDetail);
+        return new ResponseEntity<>(message, HttpStatus.OK);
+    }
+
+    @PostMapping("/{id}/stops")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<TripStopResponse> addStop(
+            @PathVariable Long id, @RequestBody @Valid TripStopRequest request, @AuthenticationPrincipal UserDetail userDetail) {
+        TripStopResponse response = tripService.addStop(id, request, userDetail);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/{id}/stops/{stopId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<TripStopResponse> moveStop(
+            @PathVariable Long id, @PathVariable Long stopId, @RequestBody MoveStopRequest request,
+            @AuthenticationPrincipal UserDetail userDetail) {
+        TripStopResponse response = tripService.moveStop(id, stopId, request, userDetail);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}/stops/{stopId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<String> removeStop(@PathVariable Long id, @PathVariable Long stopId, @AuthenticationPrincipal UserDetail userDetail) {
+        String message = tripService.removeStop(id, stopId, userDetail);
+        return new ResponseEntity<>(message, HttpStatus.OK);
+    }
+
+    @PutMapping("/{id}/collaborators/{userId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<String> addCollaborator(@PathVariable Long id, @PathVariable Long userId, @AuthenticationPrincipal UserDetail userDetail) {
+        String message = tripService.addCollaborator(id, userId, userDetail);
+        return new ResponseEntity<>(message, HttpStatus.OK);
+    }
+
+    @DeleteMapping("/{id}/collaborators/{userId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<String> removeCollaborator(@PathVariable Long id, @PathVariable Long userId, @AuthenticationPrincipal UserDetail userDetail) {
+        String message = tripService.removeCollaborator(id, userId, userDetail);
+        return new ResponseEntity<>(message, HttpStatus.OK);
+    }
+}
@@ -1,9 +1,12 @@
 package com.Travellers.DreamRoute.controllers;
 
+import com.Travellers.DreamRoute.dtos.route.RouteRequest;
+import com.Travellers.DreamRoute.dtos.route.RouteResponse;
 import com.Travellers.DreamRoute.dtos.user.UserRequest;
 import com.Travellers.DreamRoute.dtos.user.UserResponse;
 import com.Travellers.DreamRoute.dtos.user.UserUpdateRequest;
 import com.Travellers.DreamRoute.security.UserDetail;
+import com.Travellers.DreamRoute.services.RouteService;
 import com.Travellers.DreamRoute.services.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +22,7 @@ import java.util.List;
 @RequestMapping("/users")
 public class UserController {
     private final UserService userService;
+    private final RouteService routeService;
 
     @GetMapping("/all")
     public ResponseEntity<List<UserResponse>> getAllUsers() {
@@ -38,6 +42,18 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
 
+    @GetMapping("/{id}/route")
+    public ResponseEntity<RouteResponse> getRoute(@PathVariable Long id) {
+        RouteResponse route = routeService.planRoute(id);
+        return ResponseEntity.ok(route);
+    }
+
+    @PostMapping("/{id}/route")
+    public ResponseEntity<RouteResponse> planRoute(@PathVariable Long id, @RequestBody @Valid RouteRequest request) {
+        RouteResponse route = routeService.planRoute(id, request.destinationIds());
+        return ResponseEntity.ok(route);
+    }
+
     @PostMapping("/create")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponse> addUser(@RequestBody @Valid UserRequest request){
@@ -0,0 +1,10 @@
+package com.Travellers.DreamRoute.dtos.destination;
+
+import java.util.List;
+
+public record BulkDestinationResponse(
+        int created,
+        int rejected,
+        List<BulkDestinationResult> results
+) {
+}
@@ -0,0 +1,26 @@
+package com.Travellers.DreamRoute.dtos.destination;
+
+import java.util.Map;
+
+public record BulkDestinationResult(
+        int index,
+        Status status,
+        Long id,
+        Map<String, String> errors
+) {
+    public enum Status {
+        CREATED, INVALID, FAILED
+    }
+
+    public static BulkDestinationResult created(int index, Long id) {
+        return new BulkDestinationResult(index, Status.CREATED, id, null);
+    }
+
+    public static BulkDestinationResult invalid(int index, Map<String, String> errors) {
+        return new BulkDestinationResult(index, Status.INVALID, null, errors);
+    }
+
+    public static BulkDestinationResult failed(int index, String message) {
+        return new BulkDestinationResult(index, Status.FAILED, null, Map.of("item", message));
+    }
+}
@@ -0,0 +1,19 @@
+package com.Travellers.DreamRoute.dtos.destination;
+
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+
+public record DestinationChange(
+        Type type,
+        Long destinationId,
+        DestinationResponse destination
+) {
+    public enum Type {
+        CREATED, UPDATED, DELETED, RESYNC
+    }
+
+    public static final DestinationChange RESYNC = new DestinationChange(Type.RESYNC, null, null);
+
+    public static DestinationChange of(DestinationChangedEvent event) {
+        return new DestinationChange(Type.valueOf(event.type().name()), event.destinationId(), event.destination());
+    }
+}
@@ -0,0 +1,11 @@
+package com.Travellers.DreamRoute.dtos.destination;
+
+import java.util.List;
+
+public record DestinationClusterResponse(
+        double latitude,
+        double longitude,
+        int count,
+        List<Long> sampleIds
+) {
+}
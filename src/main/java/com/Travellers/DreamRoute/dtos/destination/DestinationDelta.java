@@ -0,0 +1,12 @@
+package com.Travellers.DreamRoute.dtos.destination;
+
+import java.util.List;
+
+public record DestinationDelta(
+        List<DestinationResponse> changed,
+        List<Long> deleted,
+        String nextToken,
+        boolean hasMore,
+        boolean reset
+) {
+}
@@ -0,0 +1,11 @@
+package com.Travellers.DreamRoute.dtos.destination;
+
+public record DestinationDeltaEntry(
+        long changeSeq,
+        Long destinationId,
+        DestinationResponse destination
+) {
+    public boolean deleted() {
+        return destination == null;
+    }
+}
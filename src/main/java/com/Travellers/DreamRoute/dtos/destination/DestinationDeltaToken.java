@@ -0,0 +1,39 @@
+package com.Travellers.DreamRoute.dtos.destination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record DestinationDeltaToken(long changeSeq, long lastId) {
+    public static final DestinationDeltaToken START = new DestinationDeltaToken(0L, 0L);
+
+    private static final String SEPARATOR = ":";
+
+    public static DestinationDeltaToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator > 0) {
+                long changeSeq = Long.parseLong(decoded.substring(0, separator));
+                long lastId = Long.parseLong(decoded.substring(separator + 1));
+                if (changeSeq >= 0 && lastId >= 0) {
+                    return new DestinationDeltaToken(changeSeq, lastId);
+                }
+            }
+        } catch (IllegalArgumentException exception) {
+            // falls through to the invalid token error below
+        }
+        throw new IllegalArgumentException("Invalid change token");
+    }
+
+    public String encode() {
+        String raw = changeSeq + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isStart() {
+        return equals(START);
+    }
+}
@@ -0,0 +1,42 @@
+package com.Travellers.DreamRoute.dtos.destination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record DestinationFeedCursor(boolean owned, long lastId) {
+    public static final DestinationFeedCursor START = new DestinationFeedCursor(true, 0L);
+
+    private static final String OWNED_PREFIX = "o:";
+    private static final String OTHERS_PREFIX = "x:";
+
+    public static DestinationFeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(OWNED_PREFIX)) {
+                return new DestinationFeedCursor(true, Long.parseLong(decoded.substring(OWNED_PREFIX.length())));
+            }
+            if (decoded.startsWith(OTHERS_PREFIX)) {
+                return new DestinationFeedCursor(false, Long.parseLong(decoded.substring(OTHERS_PREFIX.length())));
+            }
+        } catch (IllegalArgumentException exception) {
+            // falls through to the invalid cursor error below
+        }
+        throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    public String encode() {
+        String raw = (owned ? OWNED_PREFIX : OTHERS_PREFIX) + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long ownedAfterId() {
+        return owned ? lastId : 0L;
+    }
+
+    public long othersAfterId() {
+        return owned ? 0L : lastId;
+    }
+}
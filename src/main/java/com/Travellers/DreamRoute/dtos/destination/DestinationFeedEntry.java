@@ -0,0 +1,7 @@
+package com.Travellers.DreamRoute.dtos.destination;
+
+public record DestinationFeedEntry(
+        DestinationResponse destination,
+        boolean owned
+) {
+}
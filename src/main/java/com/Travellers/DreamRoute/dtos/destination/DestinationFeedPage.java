@@ -0,0 +1,9 @@
+package com.Travellers.DreamRoute.dtos.destination;
+
+import java.util.List;
+
+public record DestinationFeedPage(
+        List<DestinationResponse> items,
+        String nextCursor
+) {
+}
@@ -13,6 +13,8 @@ public class DestinationMapperImpl implements DestinationMapper{
                 .city(dto.city())
                 .description(dto.description())
                 .image(dto.image())
+                .latitude(dto.latitude())
+                .longitude(dto.longitude())
                 .user(user)
                 .build();
     }
@@ -26,7 +28,9 @@ public class DestinationMapperImpl implements DestinationMapper{
                 destination.getCity(),
                 destination.getDescription(),
                 destination.getImage(),
-                username
+                username,
+                destination.getLatitude(),
+                destination.getLongitude()
         );
     }
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.Travellers.DreamRoute.dtos.destination;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
@@ -19,5 +23,23 @@ public record DestinationRequest(
 
         @NotBlank(message = "Image is required")
         @Pattern(message = "Must be a valid URL", regexp = "^(http|https)://.*$")
-        String image
-) {}
\ No newline at end of file
+        String image,
+
+        @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+        @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+        Double latitude,
+
+        @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+        @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+        Double longitude
+) {
+    public DestinationRequest(String country, String city, String description, String image) {
+        this(country, city, description, image, null, null);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Latitude and longitude must be provided together")
+    public boolean isCoordinatesComplete() {
+        return (latitude == null) == (longitude == null);
+    }
+}
@@ -6,6 +6,11 @@ public record DestinationResponse(
         String city,
         String description,
         String image,
-        String username
+        String username,
+        Double latitude,
+        Double longitude
 ) {
-}
\ No newline at end of file
+    public DestinationResponse(Long id, String country, String city, String description, String image, String username) {
+        this(id, country, city, description, image, username, null, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.Travellers.DreamRoute.dtos.destination;
+
+public record NearbyDestinationResponse(
+        DestinationResponse destination,
+        double distanceKm
+) {
+}
@@ -0,0 +1,10 @@
+package com.Travellers.DreamRoute.dtos.route;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public record RouteRequest(
+        @NotEmpty(message = "At least one destination is required")
+        List<Long> destinationIds
+) {
+}
@@ -0,0 +1,11 @@
+package com.Travellers.DreamRoute.dtos.route;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import java.util.List;
+
+public record RouteResponse(
+        List<DestinationResponse> stops,
+        double totalDistanceKm,
+        List<Long> unlocatedDestinationIds
+) {
+}
@@ -0,0 +1,26 @@
+package com.Travellers.DreamRoute.dtos.trip;
+
+import com.Travellers.DreamRoute.collaboration.TripElement;
+import java.util.List;
+
+public record CollaborationMessage(
+        Type type,
+        List<TripElement> elements,
+        String message
+) {
+    public enum Type {
+        SNAPSHOT, UPDATE, ERROR
+    }
+
+    public static CollaborationMessage snapshot(List<TripElement> elements) {
+        return new CollaborationMessage(Type.SNAPSHOT, elements, null);
+    }
+
+    public static CollaborationMessage update(List<TripElement> elements) {
+        return new CollaborationMessage(Type.UPDATE, elements, null);
+    }
+
+    public static CollaborationMessage error(String message) {
+        return new CollaborationMessage(Type.ERROR, List.of(), message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.Travellers.DreamRoute.dtos.trip;
+
+public record MoveStopRequest(
+        Long afterStopId,
+        Long beforeStopId
+) {
+}
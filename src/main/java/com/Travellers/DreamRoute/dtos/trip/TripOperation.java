@@ -0,0 +1,12 @@
+package com.Travellers.DreamRoute.dtos.trip;
+
+public record TripOperation(
+        Type type,
+        String elementId,
+        Long destinationId,
+        String rank
+) {
+    public enum Type {
+        INSERT, MOVE, REMOVE
+    }
+}
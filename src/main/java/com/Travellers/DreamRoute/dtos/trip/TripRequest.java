@@ -0,0 +1,14 @@
+package com.Travellers.DreamRoute.dtos.trip;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record TripRequest(
+        @NotBlank(message = "Name is required")
+        @Size(max = 100, message = "Name must be less than 100 characters")
+        String name,
+
+        List<Long> destinationIds
+) {
+}
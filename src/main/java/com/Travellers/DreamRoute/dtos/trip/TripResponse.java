@@ -0,0 +1,11 @@
+package com.Travellers.DreamRoute.dtos.trip;
+
+import java.util.List;
+
+public record TripResponse(
+        Long id,
+        String name,
+        String username,
+        List<TripStopResponse> stops
+) {
+}
@@ -0,0 +1,13 @@
+package com.Travellers.DreamRoute.dtos.trip;
+
+import jakarta.validation.constraints.NotNull;
+
+public record TripStopRequest(
+        @NotNull(message = "Destination is required")
+        Long destinationId,
+
+        Long afterStopId,
+
+        Long beforeStopId
+) {
+}
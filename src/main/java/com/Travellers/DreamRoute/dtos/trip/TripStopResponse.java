@@ -0,0 +1,15 @@
+package com.Travellers.DreamRoute.dtos.trip;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+
+public record TripStopResponse(
+        Long id,
+        String elementId,
+        String rank,
+        DestinationResponse destination
+) {
+    public TripStopResponse(Long id, String elementId, String rank, Long destinationId, String country, String city,
+                            String description, String image, String username, Double latitude, Double longitude) {
+        this(id, elementId, rank, new DestinationResponse(destinationId, country, city, description, image, username, latitude, longitude));
+    }
+}
@@ -0,0 +1,9 @@
+package com.Travellers.DreamRoute.dtos.trip;
+
+public record TripSummary(
+        Long id,
+        String name,
+        Long userId,
+        String username
+) {
+}
@@ -0,0 +1,31 @@
+package com.Travellers.DreamRoute.events;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+
+public record DestinationChangedEvent(
+        Type type,
+        Long destinationId,
+        Long userId,
+        DestinationResponse destination,
+        boolean remote
+) {
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static DestinationChangedEvent created(DestinationResponse destination, Long userId) {
+        return new DestinationChangedEvent(Type.CREATED, destination.id(), userId, destination, false);
+    }
+
+    public static DestinationChangedEvent updated(DestinationResponse destination, Long userId) {
+        return new DestinationChangedEvent(Type.UPDATED, destination.id(), userId, destination, false);
+    }
+
+    public static DestinationChangedEvent deleted(Long destinationId, Long userId) {
+        return new DestinationChangedEvent(Type.DELETED, destinationId, userId, null, false);
+    }
+
+    public DestinationChangedEvent asRemote() {
+        return new DestinationChangedEvent(type, destinationId, userId, destination, true);
+    }
+}
@@ -0,0 +1,26 @@
+package com.Travellers.DreamRoute.events;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import java.util.List;
+
+/**
+ * Destinations one owner created together, such as a chunk of a bulk import. Listeners get the whole chunk at once,
+ * so they can apply it in one step instead of once per destination.
+ */
+public record DestinationsCreatedEvent(
+        List<DestinationResponse> destinations,
+        Long userId,
+        boolean remote
+) {
+    public static DestinationsCreatedEvent of(List<DestinationResponse> destinations, Long userId) {
+        return new DestinationsCreatedEvent(List.copyOf(destinations), userId, false);
+    }
+
+    public List<Long> destinationIds() {
+        return destinations.stream().map(DestinationResponse::id).toList();
+    }
+
+    public DestinationsCreatedEvent asRemote() {
+        return new DestinationsCreatedEvent(destinations, userId, true);
+    }
+}
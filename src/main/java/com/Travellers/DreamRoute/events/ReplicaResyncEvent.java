@@ -0,0 +1,19 @@
+package com.Travellers.DreamRoute.events;
+
+/**
+ * Asks local caches to drop what they learned from the change log. {@code stale} is set while the log cannot be read,
+ * {@code rebuildIndexes} once the replica has skipped ahead to the head of the log and must reload its indexes.
+ */
+public record ReplicaResyncEvent(boolean rebuildIndexes, boolean stale) {
+    public static ReplicaResyncEvent whileStale() {
+        return new ReplicaResyncEvent(false, true);
+    }
+
+    public static ReplicaResyncEvent afterGap() {
+        return new ReplicaResyncEvent(false, false);
+    }
+
+    public static ReplicaResyncEvent afterCatchUp() {
+        return new ReplicaResyncEvent(true, false);
+    }
+}
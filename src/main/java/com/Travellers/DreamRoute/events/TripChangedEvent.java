@@ -0,0 +1,11 @@
+package com.Travellers.DreamRoute.events;
+
+public record TripChangedEvent(Long tripId, Long userId, boolean remote) {
+    public static TripChangedEvent changed(Long tripId, Long userId) {
+        return new TripChangedEvent(tripId, userId, false);
+    }
+
+    public TripChangedEvent asRemote() {
+        return new TripChangedEvent(tripId, userId, true);
+    }
+}
@@ -0,0 +1,29 @@
+package com.Travellers.DreamRoute.events;
+
+import java.time.Instant;
+
+public record UserChangedEvent(Type type, Long userId, Instant changedAt, boolean remote) {
+    public enum Type {
+        UPDATED, REVOKED, DELETED
+    }
+
+    public static UserChangedEvent updated(Long userId) {
+        return new UserChangedEvent(Type.UPDATED, userId, Instant.now(), false);
+    }
+
+    public static UserChangedEvent revoked(Long userId) {
+        return new UserChangedEvent(Type.REVOKED, userId, Instant.now(), false);
+    }
+
+    public static UserChangedEvent deleted(Long userId) {
+        return new UserChangedEvent(Type.DELETED, userId, Instant.now(), false);
+    }
+
+    public boolean revokesTokens() {
+        return type != Type.UPDATED;
+    }
+
+    public UserChangedEvent asRemote() {
+        return new UserChangedEvent(type, userId, changedAt, true);
+    }
+}
@@ -0,0 +1,11 @@
+package com.Travellers.DreamRoute.events;
+
+public record UserRenamedEvent(Long userId, String previousUsername, String username, boolean remote) {
+    public UserRenamedEvent(Long userId, String previousUsername, String username) {
+        this(userId, previousUsername, username, false);
+    }
+
+    public UserRenamedEvent asRemote() {
+        return new UserRenamedEvent(userId, previousUsername, username, true);
+    }
+}
@@ -1,5 +1,7 @@
 package com.Travellers.DreamRoute.exceptions;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -54,6 +56,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException exception) {
+        return UniqueConstraintMessages.messageFor(exception)
+                .map(message -> ResponseEntity.badRequest().body(ErrorResponse.builder()
+                        .message(message)
+                        .build()))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).body(ErrorResponse.builder()
+                        .message("Request conflicts with existing data")
+                        .build()));
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusyException(ServiceBusyException exception) {
+        ErrorResponse error = ErrorResponse.builder()
+                .message(exception.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException exception) {
         ErrorResponse error = ErrorResponse.builder()
@@ -0,0 +1,37 @@
+package com.Travellers.DreamRoute.exceptions;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public final class UniqueConstraintMessages {
+    public static final String USERNAME_TAKEN = "Username already taken";
+    public static final String EMAIL_REGISTERED = "Email already registered";
+
+    private static final Map<String, String> MESSAGES_BY_CONSTRAINT = Map.of(
+            "uk_users_username_lc", USERNAME_TAKEN,
+            "uk_users_email_lc", EMAIL_REGISTERED);
+
+    private UniqueConstraintMessages() {
+    }
+
+    public static Optional<String> messageFor(DataIntegrityViolationException exception) {
+        String violated = constraintName(exception).toLowerCase(Locale.ROOT);
+        return MESSAGES_BY_CONSTRAINT.entrySet().stream()
+                .filter(entry -> violated.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst();
+    }
+
+    private static String constraintName(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName();
+            }
+        }
+        String message = exception.getMostSpecificCause().getMessage();
+        return message == null ? "" : message;
+    }
+}
@@ -0,0 +1,22 @@
+package com.Travellers.DreamRoute.indexes;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import java.util.Collection;
+
+public interface DestinationIndex {
+    void upsert(DestinationResponse destination);
+
+    /** Upserts a batch, taking the index's lock once rather than once per destination. */
+    void upsertAll(Collection<DestinationResponse> destinations);
+
+    void remove(Long destinationId);
+
+    /** Returns a new, empty index of the same kind, so a rebuild can load it while this one keeps serving. */
+    DestinationIndex emptyCopy();
+
+    /**
+     * Takes over the contents of a copy returned by {@link #emptyCopy()} once it has been loaded. Only the swap runs
+     * under this index's lock; the copy must not be used afterwards.
+     */
+    void replaceWith(DestinationIndex loaded);
+}
@@ -0,0 +1,62 @@
+package com.Travellers.DreamRoute.indexes;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.events.ReplicaResyncEvent;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DestinationIndexLoader {
+    private final DestinationIndexUpdater destinationIndexUpdater;
+    private final DestinationRepository destinationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Loads fresh copies of the indexes from a table scan while the live ones keep serving, then swaps them in. Changes
+     * committed during the scan are journaled by the updater and replayed onto the copies first.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildIndexes() {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        AtomicLong indexed = new AtomicLong();
+        long start = System.nanoTime();
+
+        List<DestinationIndex> copies = destinationIndexUpdater.beginRebuild();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<DestinationResponse> destinations = destinationRepository.streamAllResponses()) {
+                    destinations.forEach(destination -> {
+                        copies.forEach(copy -> copy.upsert(destination));
+                        indexed.incrementAndGet();
+                    });
+                }
+            });
+        } catch (RuntimeException e) {
+            destinationIndexUpdater.abandonRebuild();
+            throw e;
+        }
+        destinationIndexUpdater.completeRebuild(copies);
+
+        log.info("Rebuilt {} destination indexes from {} rows in {} ms",
+                copies.size(), indexed.get(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    public void onReplicaResync(ReplicaResyncEvent event) {
+        if (event.rebuildIndexes()) {
+            rebuildIndexes();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.Travellers.DreamRoute.indexes;
+
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.DestinationsCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Applies committed destination changes to every index. While a rebuild loads copies of the indexes, the changes are
+ * also journaled so they can be replayed onto the copies before those are swapped in.
+ */
+@Component
+@RequiredArgsConstructor
+public class DestinationIndexUpdater {
+    private final List<DestinationIndex> destinationIndexes;
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private Queue<Consumer<DestinationIndex>> journal;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDestinationChanged(DestinationChangedEvent event) {
+        if (event.type() == DestinationChangedEvent.Type.DELETED) {
+            apply(index -> index.remove(event.destinationId()));
+        } else {
+            apply(index -> index.upsert(event.destination()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDestinationsCreated(DestinationsCreatedEvent event) {
+        apply(index -> index.upsertAll(event.destinations()));
+    }
+
+    /** Starts journaling changes and returns empty copies of the indexes, in the same order, for the caller to load. */
+    List<DestinationIndex> beginRebuild() {
+        swapLock.writeLock().lock();
+        try {
+            journal = new ConcurrentLinkedQueue<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        return destinationIndexes.stream().map(DestinationIndex::emptyCopy).toList();
+    }
+
+    /**
+     * Replays the journal onto the loaded copies and swaps them in. Most of the journal is replayed before taking the
+     * lock; only the changes that arrive meanwhile and the swaps themselves hold back new changes.
+     */
+    void completeRebuild(List<DestinationIndex> loaded) {
+        replay(loaded);
+        swapLock.writeLock().lock();
+        try {
+            replay(loaded);
+            for (int i = 0; i < destinationIndexes.size(); i++) {
+                destinationIndexes.get(i).replaceWith(loaded.get(i));
+            }
+        } finally {
+            journal = null;
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    void abandonRebuild() {
+        swapLock.writeLock().lock();
+        try {
+            journal = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<DestinationIndex> change) {
+        swapLock.readLock().lock();
+        try {
+            if (journal != null) {
+                journal.add(change);
+            }
+            destinationIndexes.forEach(change);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void replay(List<DestinationIndex> loaded) {
+        Consumer<DestinationIndex> change;
+        while ((change = journal.poll()) != null) {
+            loaded.forEach(change);
+        }
+    }
+}
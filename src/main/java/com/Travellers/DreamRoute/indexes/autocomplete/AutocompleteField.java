@@ -0,0 +1,30 @@
+package com.Travellers.DreamRoute.indexes.autocomplete;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import java.util.function.Function;
+
+public enum AutocompleteField {
+    CITY(DestinationResponse::city),
+    COUNTRY(DestinationResponse::country);
+
+    private final Function<DestinationResponse, String> extractor;
+
+    AutocompleteField(Function<DestinationResponse, String> extractor) {
+        this.extractor = extractor;
+    }
+
+    public String valueOf(DestinationResponse destination) {
+        return extractor.apply(destination);
+    }
+
+    public static AutocompleteField from(String field) {
+        if (field != null) {
+            for (AutocompleteField candidate : values()) {
+                if (candidate.name().equalsIgnoreCase(field.trim())) {
+                    return candidate;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Field must be one of: city, country");
+    }
+}
@@ -0,0 +1,204 @@
+package com.Travellers.DreamRoute.indexes.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+final class CompletionTrie {
+    static final CompletionTrie EMPTY = new CompletionTrie(new Node("", null, new char[0], new Node[0], new Completion[0]));
+
+    private static final Comparator<Completion> BY_WEIGHT = Comparator.comparingInt(Completion::weight).reversed()
+            .thenComparing(Completion::value);
+
+    private final Node root;
+
+    private CompletionTrie(Node root) {
+        this.root = root;
+    }
+
+    static CompletionTrie build(SortedMap<String, Completion> completionsByKey, int topK) {
+        if (completionsByKey.isEmpty()) {
+            return EMPTY;
+        }
+        String[] keys = completionsByKey.keySet().toArray(new String[0]);
+        return new CompletionTrie(buildNode(keys, 0, keys.length, "", 0, completionsByKey, topK));
+    }
+
+    /**
+     * Returns a trie where {@code key} completes to {@code completion}, or no longer exists when it is null. Only the
+     * nodes on the key's path are copied, each recomputing its top completions from its own value and its children.
+     */
+    CompletionTrie with(String key, Completion completion, int topK) {
+        return new CompletionTrie(update(root, key, 0, completion, topK));
+    }
+
+    List<String> complete(String foldedPrefix, int limit) {
+        Node node = root;
+        int position = 0;
+        while (position < foldedPrefix.length()) {
+            int childIndex = Arrays.binarySearch(node.firstChars, foldedPrefix.charAt(position));
+            if (childIndex < 0) {
+                return List.of();
+            }
+            node = node.children[childIndex];
+            String label = node.label;
+            int overlap = Math.min(label.length(), foldedPrefix.length() - position);
+            if (!foldedPrefix.regionMatches(position, label, 0, overlap)) {
+                return List.of();
+            }
+            position += label.length();
+        }
+        List<String> suggestions = node.suggestions;
+        return suggestions.size() <= limit ? suggestions : suggestions.subList(0, limit);
+    }
+
+    private static Node buildNode(String[] keys, int from, int to, String label, int depth,
+                                  Map<String, Completion> completionsByKey, int topK) {
+        List<Completion> candidates = new ArrayList<>();
+        Completion own = null;
+        if (keys[from].length() == depth) {
+            own = completionsByKey.get(keys[from]);
+            candidates.add(own);
+            from++;
+        }
+
+        List<Node> children = new ArrayList<>();
+        int groupStart = from;
+        while (groupStart < to) {
+            char first = keys[groupStart].charAt(depth);
+            int groupEnd = groupStart + 1;
+            while (groupEnd < to && keys[groupEnd].charAt(depth) == first) {
+                groupEnd++;
+            }
+            int shared = commonPrefixLength(keys[groupStart], keys[groupEnd - 1], depth);
+            Node child = buildNode(keys, groupStart, groupEnd, keys[groupStart].substring(depth, shared), shared,
+                    completionsByKey, topK);
+            children.add(child);
+            candidates.addAll(Arrays.asList(child.top));
+            groupStart = groupEnd;
+        }
+
+        Completion[] top = candidates.stream().sorted(BY_WEIGHT).limit(topK).toArray(Completion[]::new);
+        char[] firstChars = new char[children.size()];
+        for (int i = 0; i < firstChars.length; i++) {
+            firstChars[i] = children.get(i).label.charAt(0);
+        }
+        return new Node(label, own, firstChars, children.toArray(new Node[0]), top);
+    }
+
+    /** {@code depth} is the length of the key consumed once this node's label has been matched. */
+    private static Node update(Node node, String key, int depth, Completion completion, int topK) {
+        if (key.length() == depth) {
+            return node(node.label, completion, List.of(node.children), topK);
+        }
+        List<Node> children = new ArrayList<>(List.of(node.children));
+        int childIndex = Arrays.binarySearch(node.firstChars, key.charAt(depth));
+        if (childIndex < 0) {
+            if (completion == null) {
+                return node;
+            }
+            children.add(-childIndex - 1, node(key.substring(depth), completion, List.of(), topK));
+            return node(node.label, node.own, children, topK);
+        }
+
+        Node child = node.children[childIndex];
+        int shared = sharedLength(child.label, key, depth);
+        if (shared < child.label.length()) {
+            if (completion == null) {
+                return node;
+            }
+            Node tail = node(child.label.substring(shared), child.own, List.of(child.children), topK);
+            Node split = depth + shared == key.length()
+                    ? node(child.label.substring(0, shared), completion, List.of(tail), topK)
+                    : node(child.label.substring(0, shared), null, sorted(tail,
+                            node(key.substring(depth + shared), completion, List.of(), topK)), topK);
+            children.set(childIndex, split);
+            return node(node.label, node.own, children, topK);
+        }
+
+        Node updated = compact(update(child, key, depth + child.label.length(), completion, topK), topK);
+        if (updated == child) {
+            return node;
+        }
+        if (updated == null) {
+            children.remove(childIndex);
+        } else {
+            children.set(childIndex, updated);
+        }
+        return node(node.label, node.own, children, topK);
+    }
+
+    /** Drops a child left without completions and folds one left with a single child, as {@link #build} would. */
+    private static Node compact(Node node, int topK) {
+        if (node.own != null || node.children.length > 1) {
+            return node;
+        }
+        if (node.children.length == 0) {
+            return null;
+        }
+        Node only = node.children[0];
+        return node(node.label + only.label, only.own, List.of(only.children), topK);
+    }
+
+    private static List<Node> sorted(Node first, Node second) {
+        return first.label.charAt(0) < second.label.charAt(0) ? List.of(first, second) : List.of(second, first);
+    }
+
+    private static Node node(String label, Completion own, List<Node> children, int topK) {
+        List<Completion> candidates = new ArrayList<>();
+        if (own != null) {
+            candidates.add(own);
+        }
+        char[] firstChars = new char[children.size()];
+        for (int i = 0; i < firstChars.length; i++) {
+            Node child = children.get(i);
+            firstChars[i] = child.label.charAt(0);
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        Completion[] top = candidates.stream().sorted(BY_WEIGHT).limit(topK).toArray(Completion[]::new);
+        return new Node(label, own, firstChars, children.toArray(new Node[0]), top);
+    }
+
+    private static int commonPrefixLength(String first, String last, int from) {
+        int length = from;
+        int max = Math.min(first.length(), last.length());
+        while (length < max && first.charAt(length) == last.charAt(length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /** Length of the common prefix of {@code label} and {@code key} from {@code offset} on. */
+    private static int sharedLength(String label, String key, int offset) {
+        int length = 0;
+        int max = Math.min(label.length(), key.length() - offset);
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    record Completion(String value, int weight) {
+    }
+
+    private static final class Node {
+        private final String label;
+        private final Completion own;
+        private final char[] firstChars;
+        private final Node[] children;
+        private final Completion[] top;
+        private final List<String> suggestions;
+
+        private Node(String label, Completion own, char[] firstChars, Node[] children, Completion[] top) {
+            this.label = label;
+            this.own = own;
+            this.firstChars = firstChars;
+            this.children = children;
+            this.top = top;
+            this.suggestions = Arrays.stream(top).map(Completion::value).toList();
+        }
+    }
+}
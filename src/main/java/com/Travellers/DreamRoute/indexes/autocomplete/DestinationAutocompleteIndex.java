@@ -0,0 +1,154 @@
+package com.Travellers.DreamRoute.indexes.autocomplete;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.indexes.DestinationIndex;
+import com.Travellers.DreamRoute.indexes.search.TextNormalizer;
+import org.springframework.stereotype.Component;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+public class DestinationAutocompleteIndex implements DestinationIndex {
+    public static final int TOP_K = 10;
+
+    private static final AutocompleteField[] FIELDS = AutocompleteField.values();
+
+    /** Only the completed values of each destination, indexed by field ordinal. */
+    private Map<Long, String[]> valuesById = new HashMap<>();
+    private Map<AutocompleteField, Map<String, Map<String, Integer>>> usage = new EnumMap<>(AutocompleteField.class);
+    private volatile Map<AutocompleteField, CompletionTrie> tries;
+    /** Set on copies being loaded by a rebuild, which only count usage and build their tries once when swapped in. */
+    private boolean loading;
+
+    public DestinationAutocompleteIndex() {
+        Map<AutocompleteField, CompletionTrie> emptyTries = new EnumMap<>(AutocompleteField.class);
+        for (AutocompleteField field : AutocompleteField.values()) {
+            usage.put(field, new HashMap<>());
+            emptyTries.put(field, CompletionTrie.EMPTY);
+        }
+        tries = emptyTries;
+    }
+
+    public List<String> complete(AutocompleteField field, String prefix, int limit) {
+        return tries.get(field).complete(TextNormalizer.fold(prefix), limit);
+    }
+
+    @Override
+    public synchronized void upsert(DestinationResponse destination) {
+        Map<AutocompleteField, CompletionTrie> updated = new EnumMap<>(tries);
+        upsertInto(updated, destination);
+        tries = updated;
+    }
+
+    @Override
+    public synchronized void upsertAll(Collection<DestinationResponse> destinations) {
+        Map<AutocompleteField, CompletionTrie> updated = new EnumMap<>(tries);
+        destinations.forEach(destination -> upsertInto(updated, destination));
+        tries = updated;
+    }
+
+    @Override
+    public synchronized void remove(Long destinationId) {
+        String[] previous = valuesById.remove(destinationId);
+        if (previous == null) {
+            return;
+        }
+        Map<AutocompleteField, CompletionTrie> updated = new EnumMap<>(tries);
+        for (AutocompleteField field : FIELDS) {
+            publish(updated, field, decrement(field, previous[field.ordinal()]));
+        }
+        tries = updated;
+    }
+
+    @Override
+    public DestinationAutocompleteIndex emptyCopy() {
+        DestinationAutocompleteIndex copy = new DestinationAutocompleteIndex();
+        copy.loading = true;
+        return copy;
+    }
+
+    @Override
+    public void replaceWith(DestinationIndex loaded) {
+        DestinationAutocompleteIndex source = (DestinationAutocompleteIndex) loaded;
+        Map<AutocompleteField, CompletionTrie> rebuilt = new EnumMap<>(AutocompleteField.class);
+        for (AutocompleteField field : FIELDS) {
+            TreeMap<String, CompletionTrie.Completion> completions = new TreeMap<>();
+            source.usage.get(field).forEach((key, spellings) -> completions.put(key, completion(spellings)));
+            rebuilt.put(field, CompletionTrie.build(completions, TOP_K));
+        }
+        synchronized (this) {
+            valuesById = source.valuesById;
+            usage = source.usage;
+            tries = rebuilt;
+        }
+    }
+
+    private void upsertInto(Map<AutocompleteField, CompletionTrie> updated, DestinationResponse destination) {
+        String[] values = new String[FIELDS.length];
+        for (AutocompleteField field : FIELDS) {
+            values[field.ordinal()] = field.valueOf(destination);
+        }
+        String[] previous = valuesById.put(destination.id(), values);
+        for (AutocompleteField field : FIELDS) {
+            String value = values[field.ordinal()];
+            if (previous != null && value != null && value.equals(previous[field.ordinal()])) {
+                continue;
+            }
+            if (previous != null) {
+                publish(updated, field, decrement(field, previous[field.ordinal()]));
+            }
+            publish(updated, field, increment(field, value));
+        }
+    }
+
+    /** Returns the folded key whose usage changed, or null when the value has no key. */
+    private String increment(AutocompleteField field, String value) {
+        String key = TextNormalizer.fold(value).trim();
+        if (key.isEmpty()) {
+            return null;
+        }
+        usage.get(field).computeIfAbsent(key, ignored -> new HashMap<>()).merge(value.trim(), 1, Integer::sum);
+        return key;
+    }
+
+    private String decrement(AutocompleteField field, String value) {
+        String key = TextNormalizer.fold(value).trim();
+        Map<String, Integer> spellings = usage.get(field).get(key);
+        if (spellings == null) {
+            return null;
+        }
+        spellings.computeIfPresent(value.trim(), (spelling, count) -> count > 1 ? count - 1 : null);
+        if (spellings.isEmpty()) {
+            usage.get(field).remove(key);
+        }
+        return key;
+    }
+
+    /** Rewrites only the path of one key; a copy being loaded publishes everything at once when it is swapped in. */
+    private void publish(Map<AutocompleteField, CompletionTrie> updated, AutocompleteField field, String key) {
+        if (loading || key == null) {
+            return;
+        }
+        Map<String, Integer> spellings = usage.get(field).get(key);
+        updated.put(field, updated.get(field).with(key, spellings == null ? null : completion(spellings), TOP_K));
+    }
+
+    private static CompletionTrie.Completion completion(Map<String, Integer> spellings) {
+        int weight = 0;
+        String display = null;
+        int displayCount = 0;
+        for (Map.Entry<String, Integer> spelling : spellings.entrySet()) {
+            weight += spelling.getValue();
+            if (spelling.getValue() > displayCount
+                    || spelling.getValue() == displayCount && spelling.getKey().compareTo(display) < 0) {
+                display = spelling.getKey();
+                displayCount = spelling.getValue();
+            }
+        }
+        return new CompletionTrie.Completion(display, weight);
+    }
+}
@@ -0,0 +1,312 @@
+package com.Travellers.DreamRoute.indexes.geo;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationClusterResponse;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.indexes.DestinationIndex;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Map clusters for every zoom level. Destinations are projected to Web Mercator and aggregated into a quadtree of
+ * grid cells (64 px cells on 256 px tiles), one level per zoom, each cell keeping its count, coordinate sums for the
+ * centroid and the lowest destination ids as a sample. A write touches one cell per level; a query only visits the
+ * cells inside the requested bounding box.
+ */
+@Component
+public class DestinationClusterIndex implements DestinationIndex {
+    public static final int MAX_CLUSTER_ZOOM = 16;
+    public static final int SAMPLE_SIZE = 3;
+
+    private static final int CELL_BITS = 2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, double[]> positionsByDestinationId = new HashMap<>();
+    private List<Map<Long, Cell>> levels = new ArrayList<>();
+
+    public DestinationClusterIndex() {
+        for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    @Override
+    public void upsert(DestinationResponse destination) {
+        lock.writeLock().lock();
+        try {
+            upsertLocked(destination);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsertAll(Collection<DestinationResponse> destinations) {
+        lock.writeLock().lock();
+        try {
+            destinations.forEach(this::upsertLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long destinationId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(destinationId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public DestinationClusterIndex emptyCopy() {
+        return new DestinationClusterIndex();
+    }
+
+    @Override
+    public void replaceWith(DestinationIndex loaded) {
+        DestinationClusterIndex source = (DestinationClusterIndex) loaded;
+        lock.writeLock().lock();
+        try {
+            positionsByDestinationId = source.positionsByDestinationId;
+            levels = source.levels;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<DestinationClusterResponse> clusters(double west, double south, double east, double north, int zoom) {
+        lock.readLock().lock();
+        try {
+            List<DestinationClusterResponse> clusters = new ArrayList<>();
+            if (west > east) {
+                collect(west, south, 180, north, zoom, clusters);
+                collect(-180, south, east, north, zoom, clusters);
+            } else {
+                collect(west, south, east, north, zoom, clusters);
+            }
+            return clusters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return positionsByDestinationId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static double mercatorX(double longitude) {
+        return Math.min(1, Math.max(0, longitude / 360 + 0.5));
+    }
+
+    static double mercatorY(double latitude) {
+        double sin = Math.sin(Math.toRadians(latitude));
+        double y = 0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI;
+        return Math.min(1, Math.max(0, y));
+    }
+
+    private static double longitude(double x) {
+        return (x - 0.5) * 360;
+    }
+
+    private static double latitude(double y) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y))));
+    }
+
+    private static int cellsPerAxis(int zoom) {
+        return 1 << (zoom + CELL_BITS);
+    }
+
+    private static int cell(double coordinate, int zoom) {
+        int cells = cellsPerAxis(zoom);
+        return Math.min(cells - 1, (int) (coordinate * cells));
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | cellY;
+    }
+
+    private void collect(double west, double south, double east, double north, int zoom, List<DestinationClusterResponse> clusters) {
+        int level = Math.min(zoom, MAX_CLUSTER_ZOOM);
+        Map<Long, Cell> cells = levels.get(level);
+        int minX = cell(mercatorX(west), level);
+        int maxX = cell(mercatorX(east), level);
+        int minY = cell(mercatorY(north), level);
+        int maxY = cell(mercatorY(south), level);
+        boolean pointsOnly = zoom > MAX_CLUSTER_ZOOM;
+
+        long cellsInView = (long) (maxX - minX + 1) * (maxY - minY + 1);
+        if (cellsInView > cells.size()) {
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                int cellX = (int) (entry.getKey() >>> 32);
+                int cellY = (int) (long) entry.getKey();
+                if (cellX >= minX && cellX <= maxX && cellY >= minY && cellY <= maxY) {
+                    emit(entry.getValue(), pointsOnly, west, south, east, north, clusters);
+                }
+            }
+            return;
+        }
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellY = minY; cellY <= maxY; cellY++) {
+                Cell cell = cells.get(key(cellX, cellY));
+                if (cell != null) {
+                    emit(cell, pointsOnly, west, south, east, north, clusters);
+                }
+            }
+        }
+    }
+
+    private void emit(Cell cell, boolean pointsOnly, double west, double south, double east, double north,
+                      List<DestinationClusterResponse> clusters) {
+        if (!pointsOnly) {
+            clusters.add(new DestinationClusterResponse(latitude(cell.sumY / cell.count), longitude(cell.sumX / cell.count),
+                    cell.count, cell.sample()));
+            return;
+        }
+        for (int i = 0; i < cell.idCount; i++) {
+            double[] position = positionsByDestinationId.get(cell.ids[i]);
+            if (position[0] >= south && position[0] <= north && position[1] >= west && position[1] <= east) {
+                clusters.add(new DestinationClusterResponse(position[0], position[1], 1, List.of(cell.ids[i])));
+            }
+        }
+    }
+
+    private void upsertLocked(DestinationResponse destination) {
+        removeLocked(destination.id());
+        if (destination.latitude() != null && destination.longitude() != null) {
+            addLocked(destination.id(), destination.latitude(), destination.longitude());
+        }
+    }
+
+    private void addLocked(long destinationId, double latitude, double longitude) {
+        double x = mercatorX(longitude);
+        double y = mercatorY(latitude);
+        positionsByDestinationId.put(destinationId, new double[]{latitude, longitude, x, y});
+        for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+            Cell cell = levels.get(zoom).computeIfAbsent(key(cell(x, zoom), cell(y, zoom)), ignored -> new Cell());
+            cell.count++;
+            cell.sumX += x;
+            cell.sumY += y;
+            cell.offerSample(destinationId);
+            if (zoom == MAX_CLUSTER_ZOOM) {
+                cell.addId(destinationId);
+            }
+        }
+    }
+
+    private void removeLocked(Long destinationId) {
+        double[] position = positionsByDestinationId.remove(destinationId);
+        if (position == null) {
+            return;
+        }
+        double x = position[2];
+        double y = position[3];
+        for (int zoom = MAX_CLUSTER_ZOOM; zoom >= 0; zoom--) {
+            int cellX = cell(x, zoom);
+            int cellY = cell(y, zoom);
+            Map<Long, Cell> cells = levels.get(zoom);
+            Cell cell = cells.get(key(cellX, cellY));
+            if (--cell.count == 0) {
+                cells.remove(key(cellX, cellY));
+                continue;
+            }
+            cell.sumX -= x;
+            cell.sumY -= y;
+            if (zoom == MAX_CLUSTER_ZOOM) {
+                cell.removeId(destinationId);
+            }
+            if (cell.sampleContains(destinationId)) {
+                cell.sampleSize = 0;
+                if (zoom == MAX_CLUSTER_ZOOM) {
+                    for (int i = 0; i < cell.idCount; i++) {
+                        cell.offerSample(cell.ids[i]);
+                    }
+                } else {
+                    refillSampleFromChildren(cell, cellX, cellY, levels.get(zoom + 1));
+                }
+            }
+        }
+    }
+
+    private void refillSampleFromChildren(Cell cell, int cellX, int cellY, Map<Long, Cell> children) {
+        for (int dx = 0; dx < 2; dx++) {
+            for (int dy = 0; dy < 2; dy++) {
+                Cell child = children.get(key(cellX * 2 + dx, cellY * 2 + dy));
+                if (child != null) {
+                    for (int i = 0; i < child.sampleSize; i++) {
+                        cell.offerSample(child.sample[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Cell {
+        private int count;
+        private double sumX;
+        private double sumY;
+        private final long[] sample = new long[SAMPLE_SIZE];
+        private int sampleSize;
+        private long[] ids;
+        private int idCount;
+
+        void offerSample(long destinationId) {
+            if (sampleSize == SAMPLE_SIZE && destinationId >= sample[SAMPLE_SIZE - 1]) {
+                return;
+            }
+            int position = sampleSize == SAMPLE_SIZE ? SAMPLE_SIZE - 1 : sampleSize++;
+            while (position > 0 && sample[position - 1] > destinationId) {
+                sample[position] = sample[position - 1];
+                position--;
+            }
+            sample[position] = destinationId;
+        }
+
+        boolean sampleContains(long destinationId) {
+            for (int i = 0; i < sampleSize; i++) {
+                if (sample[i] == destinationId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        List<Long> sample() {
+            List<Long> ids = new ArrayList<>(sampleSize);
+            for (int i = 0; i < sampleSize; i++) {
+                ids.add(sample[i]);
+            }
+            return ids;
+        }
+
+        void addId(long destinationId) {
+            if (ids == null) {
+                ids = new long[1];
+            } else if (idCount == ids.length) {
+                ids = Arrays.copyOf(ids, idCount * 2);
+            }
+            ids[idCount++] = destinationId;
+        }
+
+        void removeId(long destinationId) {
+            for (int i = 0; i < idCount; i++) {
+                if (ids[i] == destinationId) {
+                    ids[i] = ids[--idCount];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.Travellers.DreamRoute.indexes.geo;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.indexes.DestinationIndex;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Nearest-neighbour index over destination coordinates. Points are stored as unit vectors in primitive arrays so
+ * that straight-line (chord) distance orders them exactly like great-circle distance. A static k-d tree covers the
+ * points present at the last rebuild; points written since then are scanned linearly until the next rebuild.
+ */
+@Component
+public class DestinationGeoIndex implements DestinationIndex {
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MIN_PENDING_BEFORE_REBUILD = 256;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Integer> slotsByDestinationId = new HashMap<>();
+
+    private long[] slotDestinationIds = new long[INITIAL_CAPACITY];
+    private double[] slotCoordinates = new double[INITIAL_CAPACITY * 3];
+    private boolean[] slotLive = new boolean[INITIAL_CAPACITY];
+    private int slotCount;
+    private int removedSlots;
+    private int[] tree = new int[0];
+    private int treeSlots;
+
+    @Override
+    public void upsert(DestinationResponse destination) {
+        lock.writeLock().lock();
+        try {
+            upsertLocked(destination);
+            rebuildIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsertAll(Collection<DestinationResponse> destinations) {
+        lock.writeLock().lock();
+        try {
+            destinations.forEach(this::upsertLocked);
+            rebuildIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long destinationId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(destinationId);
+            rebuildIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public DestinationGeoIndex emptyCopy() {
+        return new DestinationGeoIndex();
+    }
+
+    @Override
+    public void replaceWith(DestinationIndex loaded) {
+        DestinationGeoIndex source = (DestinationGeoIndex) loaded;
+        source.rebuild();
+        lock.writeLock().lock();
+        try {
+            slotsByDestinationId = source.slotsByDestinationId;
+            slotDestinationIds = source.slotDestinationIds;
+            slotCoordinates = source.slotCoordinates;
+            slotLive = source.slotLive;
+            slotCount = source.slotCount;
+            removedSlots = source.removedSlots;
+            tree = source.tree;
+            treeSlots = source.treeSlots;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<GeoHit> nearest(double latitude, double longitude, int k) {
+        double[] query = toUnitVector(latitude, longitude);
+
+        lock.readLock().lock();
+        try {
+            NearestCollector nearest = new NearestCollector(k);
+            search(0, treeSlots, 0, query, nearest);
+            for (int slot = treeSlots; slot < slotCount; slot++) {
+                if (slotLive[slot]) {
+                    nearest.offer(slot, squaredDistance(slot, query));
+                }
+            }
+            return nearest.hits(slotDestinationIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByDestinationId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static double[] toUnitVector(double latitude, double longitude) {
+        double phi = Math.toRadians(latitude);
+        double lambda = Math.toRadians(longitude);
+        double cosPhi = Math.cos(phi);
+        return new double[]{cosPhi * Math.cos(lambda), cosPhi * Math.sin(lambda), Math.sin(phi)};
+    }
+
+    public static double chordToKm(double squaredChord) {
+        double halfChord = Math.min(1.0, Math.sqrt(squaredChord) / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(halfChord);
+    }
+
+    private void upsertLocked(DestinationResponse destination) {
+        removeLocked(destination.id());
+        if (destination.latitude() != null && destination.longitude() != null) {
+            addLocked(destination.id(), destination.latitude(), destination.longitude());
+        }
+    }
+
+    private void addLocked(long destinationId, double latitude, double longitude) {
+        if (slotCount == slotDestinationIds.length) {
+            int capacity = slotCount * 2;
+            slotDestinationIds = Arrays.copyOf(slotDestinationIds, capacity);
+            slotCoordinates = Arrays.copyOf(slotCoordinates, capacity * 3);
+            slotLive = Arrays.copyOf(slotLive, capacity);
+        }
+        int slot = slotCount++;
+        double[] vector = toUnitVector(latitude, longitude);
+        System.arraycopy(vector, 0, slotCoordinates, slot * 3, 3);
+        slotDestinationIds[slot] = destinationId;
+        slotLive[slot] = true;
+        slotsByDestinationId.put(destinationId, slot);
+    }
+
+    private void removeLocked(Long destinationId) {
+        Integer slot = slotsByDestinationId.remove(destinationId);
+        if (slot != null) {
+            slotLive[slot] = false;
+            removedSlots++;
+        }
+    }
+
+    private void rebuildIfNeeded() {
+        int pending = slotCount - treeSlots;
+        boolean manyPending = pending > MIN_PENDING_BEFORE_REBUILD && pending * 8 > treeSlots;
+        boolean sparse = removedSlots > MIN_PENDING_BEFORE_REBUILD && removedSlots > slotsByDestinationId.size();
+        if (manyPending || sparse) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        int live = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!slotLive[slot]) {
+                continue;
+            }
+            if (live != slot) {
+                slotDestinationIds[live] = slotDestinationIds[slot];
+                System.arraycopy(slotCoordinates, slot * 3, slotCoordinates, live * 3, 3);
+                slotLive[live] = true;
+                slotsByDestinationId.put(slotDestinationIds[live], live);
+            }
+            live++;
+        }
+        Arrays.fill(slotLive, live, slotCount, false);
+        slotCount = live;
+        removedSlots = 0;
+
+        tree = new int[live];
+        for (int i = 0; i < live; i++) {
+            tree[i] = i;
+        }
+        build(0, live, 0);
+        treeSlots = live;
+    }
+
+    private void build(int from, int to, int depth) {
+        if (to - from <= 1) {
+            return;
+        }
+        int axis = depth % 3;
+        int median = (from + to) >>> 1;
+        select(from, to - 1, median, axis);
+        build(from, median, depth + 1);
+        build(median + 1, to, depth + 1);
+    }
+
+    private void select(int left, int right, int target, int axis) {
+        while (left < right) {
+            double pivot = coordinate(tree[(left + right) >>> 1], axis);
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinate(tree[i], axis) < pivot) {
+                    i++;
+                }
+                while (coordinate(tree[j], axis) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = tree[i];
+                    tree[i++] = tree[j];
+                    tree[j--] = swap;
+                }
+            }
+            if (target <= j) {
+                right = j;
+            } else if (target >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void search(int from, int to, int depth, double[] query, NearestCollector nearest) {
+        if (from >= to) {
+            return;
+        }
+        int median = (from + to) >>> 1;
+        int slot = tree[median];
+        if (slotLive[slot]) {
+            nearest.offer(slot, squaredDistance(slot, query));
+        }
+        int axis = depth % 3;
+        double difference = query[axis] - coordinate(slot, axis);
+        if (difference < 0) {
+            search(from, median, depth + 1, query, nearest);
+            if (difference * difference < nearest.worst()) {
+                search(median + 1, to, depth + 1, query, nearest);
+            }
+        } else {
+            search(median + 1, to, depth + 1, query, nearest);
+            if (difference * difference < nearest.worst()) {
+                search(from, median, depth + 1, query, nearest);
+            }
+        }
+    }
+
+    private double coordinate(int slot, int axis) {
+        return slotCoordinates[slot * 3 + axis];
+    }
+
+    private double squaredDistance(int slot, double[] query) {
+        int offset = slot * 3;
+        double dx = slotCoordinates[offset] - query[0];
+        double dy = slotCoordinates[offset + 1] - query[1];
+        double dz = slotCoordinates[offset + 2] - query[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static final class NearestCollector {
+        private final int[] slots;
+        private final double[] distances;
+        private int size;
+
+        NearestCollector(int k) {
+            this.slots = new int[k];
+            this.distances = new double[k];
+        }
+
+        double worst() {
+            return size < distances.length ? Double.POSITIVE_INFINITY : distances[0];
+        }
+
+        void offer(int slot, double distance) {
+            if (size < distances.length) {
+                slots[size] = slot;
+                distances[size] = distance;
+                siftUp(size++);
+            } else if (distance < distances[0]) {
+                slots[0] = slot;
+                distances[0] = distance;
+                siftDown(0);
+            }
+        }
+
+        List<GeoHit> hits(long[] destinationIds) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (first, second) -> {
+                int byDistance = Double.compare(distances[first], distances[second]);
+                return byDistance != 0 ? byDistance
+                        : Long.compare(destinationIds[slots[first]], destinationIds[slots[second]]);
+            });
+            List<GeoHit> hits = new ArrayList<>(size);
+            for (Integer i : order) {
+                hits.add(new GeoHit(destinationIds[slots[i]], chordToKm(distances[i])));
+            }
+            return hits;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (distances[parent] >= distances[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int largest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && distances[left] > distances[largest]) {
+                    largest = left;
+                }
+                if (right < size && distances[right] > distances[largest]) {
+                    largest = right;
+                }
+                if (largest == index) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private void swap(int first, int second) {
+            int slot = slots[first];
+            slots[first] = slots[second];
+            slots[second] = slot;
+            double distance = distances[first];
+            distances[first] = distances[second];
+            distances[second] = distance;
+        }
+    }
+}
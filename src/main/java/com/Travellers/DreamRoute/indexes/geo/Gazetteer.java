@@ -0,0 +1,185 @@
+package com.Travellers.DreamRoute.indexes.geo;
+
+import com.Travellers.DreamRoute.indexes.search.TextNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Offline city lookup over a tab-separated gazetteer ({@code city, country, latitude, longitude} per line, {@code #}
+ * for comments, first line wins for duplicate names). The file stays memory-mapped; the heap only holds an
+ * open-addressing table of line offsets keyed by the normalized city and country, so a lookup is one probe plus
+ * a parse of the matching line.
+ */
+@Slf4j
+@Component
+public class Gazetteer {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int EMPTY = 0;
+
+    private final ByteBuffer data;
+    private int[] lineOffsets = new int[INITIAL_CAPACITY];
+    private int[] keyHashes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    public Gazetteer(@Value("${destinations.gazetteer.location:classpath:gazetteer/cities.tsv}") Resource location) {
+        this(map(location));
+        log.info("Gazetteer indexed {} places from {}", size, location.getDescription());
+    }
+
+    Gazetteer(ByteBuffer data) {
+        this.data = data.asReadOnlyBuffer();
+        index();
+    }
+
+    public Optional<GeoPoint> locate(String city, String country) {
+        String key = key(city, country);
+        if (key == null) {
+            return Optional.empty();
+        }
+        int hash = hash(key);
+        int mask = lineOffsets.length - 1;
+        for (int slot = hash & mask; lineOffsets[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keyHashes[slot] == hash) {
+                String[] fields = fields(lineOffsets[slot] - 1);
+                if (key.equals(key(fields[0], fields[1]))) {
+                    return Optional.of(new GeoPoint(Double.parseDouble(fields[2]), Double.parseDouble(fields[3])));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static ByteBuffer map(Resource location) {
+        if (!location.exists()) {
+            log.warn("Gazetteer {} not found; destinations will not be geocoded", location.getDescription());
+            return ByteBuffer.allocate(0);
+        }
+        try {
+            if (!location.isFile()) {
+                try (InputStream input = location.getInputStream()) {
+                    return ByteBuffer.wrap(input.readAllBytes());
+                }
+            }
+            try (FileChannel channel = FileChannel.open(location.getFile().toPath(), StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("Gazetteer files larger than 2 GB are not supported: " + location.getDescription());
+                }
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read gazetteer " + location.getDescription(), e);
+        }
+    }
+
+    private void index() {
+        int limit = data.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineEnd(lineStart);
+            if (data.get(lineStart) != '#') {
+                String[] fields = fields(lineStart);
+                String key = fields.length >= 4 && validCoordinates(fields[2], fields[3]) ? key(fields[0], fields[1]) : null;
+                if (key != null) {
+                    insert(key, lineStart);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    private void insert(String key, int lineStart) {
+        if ((size + 1) * 2 > lineOffsets.length) {
+            grow();
+        }
+        int hash = hash(key);
+        int mask = lineOffsets.length - 1;
+        int slot = hash & mask;
+        for (; lineOffsets[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keyHashes[slot] == hash) {
+                String[] existing = fields(lineOffsets[slot] - 1);
+                if (key.equals(key(existing[0], existing[1]))) {
+                    return;
+                }
+            }
+        }
+        lineOffsets[slot] = lineStart + 1;
+        keyHashes[slot] = hash;
+        size++;
+    }
+
+    private void grow() {
+        int[] oldOffsets = lineOffsets;
+        int[] oldHashes = keyHashes;
+        lineOffsets = new int[oldOffsets.length * 2];
+        keyHashes = new int[oldOffsets.length * 2];
+        int mask = lineOffsets.length - 1;
+        for (int i = 0; i < oldOffsets.length; i++) {
+            if (oldOffsets[i] == EMPTY) {
+                continue;
+            }
+            int slot = oldHashes[i] & mask;
+            while (lineOffsets[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            lineOffsets[slot] = oldOffsets[i];
+            keyHashes[slot] = oldHashes[i];
+        }
+    }
+
+    private int lineEnd(int lineStart) {
+        int limit = data.limit();
+        int position = lineStart;
+        while (position < limit && data.get(position) != '\n') {
+            position++;
+        }
+        return position;
+    }
+
+    private String[] fields(int lineStart) {
+        int lineEnd = lineEnd(lineStart);
+        if (lineEnd > lineStart && data.get(lineEnd - 1) == '\r') {
+            lineEnd--;
+        }
+        byte[] line = new byte[lineEnd - lineStart];
+        data.get(lineStart, line);
+        return new String(line, StandardCharsets.UTF_8).split("\t", 5);
+    }
+
+    private static boolean validCoordinates(String latitude, String longitude) {
+        try {
+            double lat = Double.parseDouble(latitude);
+            double lon = Double.parseDouble(longitude);
+            return lat >= -90 && lat <= 90 && lon >= -180 && lon <= 180;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String key(String city, String country) {
+        String normalizedCity = String.join(" ", TextNormalizer.tokenize(city));
+        String normalizedCountry = String.join(" ", TextNormalizer.tokenize(country));
+        if (normalizedCity.isEmpty() || normalizedCountry.isEmpty()) {
+            return null;
+        }
+        return normalizedCity + '\t' + normalizedCountry;
+    }
+
+    private static int hash(String key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
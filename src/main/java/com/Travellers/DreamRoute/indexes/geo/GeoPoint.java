@@ -0,0 +1,4 @@
+package com.Travellers.DreamRoute.indexes.geo;
+
+public record GeoPoint(double latitude, double longitude) {
+}
@@ -0,0 +1,258 @@
+package com.Travellers.DreamRoute.indexes.search;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.indexes.DestinationIndex;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class DestinationSearchIndex implements DestinationIndex {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MIN_SLOTS_BEFORE_COMPACTION = 1024;
+
+    private static final Comparator<SearchHit> BY_RANK = Comparator.comparingDouble(SearchHit::score).reversed()
+            .thenComparingLong(SearchHit::destinationId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, PostingList> postings = new HashMap<>();
+    private Map<Long, Integer> slotsByDestinationId = new HashMap<>();
+
+    private long[] slotDestinationIds = new long[INITIAL_CAPACITY];
+    private int[] slotLengths = new int[INITIAL_CAPACITY];
+    private String[][] slotTerms = new String[INITIAL_CAPACITY][];
+    private int slotCount;
+    private int removedSlots;
+    private long totalLength;
+
+    @Override
+    public void upsert(DestinationResponse destination) {
+        Document document = Document.of(destination);
+
+        lock.writeLock().lock();
+        try {
+            upsertLocked(document);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsertAll(Collection<DestinationResponse> destinations) {
+        List<Document> documents = destinations.stream().map(Document::of).toList();
+
+        lock.writeLock().lock();
+        try {
+            documents.forEach(this::upsertLocked);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long destinationId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(destinationId);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public DestinationSearchIndex emptyCopy() {
+        return new DestinationSearchIndex();
+    }
+
+    @Override
+    public void replaceWith(DestinationIndex loaded) {
+        DestinationSearchIndex source = (DestinationSearchIndex) loaded;
+        lock.writeLock().lock();
+        try {
+            postings = source.postings;
+            slotsByDestinationId = source.slotsByDestinationId;
+            slotDestinationIds = source.slotDestinationIds;
+            slotLengths = source.slotLengths;
+            slotTerms = source.slotTerms;
+            slotCount = source.slotCount;
+            removedSlots = source.removedSlots;
+            totalLength = source.totalLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        LinkedHashSet<String> terms = new LinkedHashSet<>(TextNormalizer.tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            int documents = slotsByDestinationId.size();
+            if (terms.isEmpty() || documents == 0) {
+                return List.of();
+            }
+            float averageLength = (float) totalLength / documents;
+            return rank(terms, documents, averageLength, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Merges the posting lists of the query terms, which are sorted by slot, scoring one matching slot at a time. The
+     * scratch space grows with the number of terms, not with the index.
+     */
+    private List<SearchHit> rank(Iterable<String> terms, int documents, float averageLength, int limit) {
+        List<PostingList> matched = new ArrayList<>();
+        for (String term : terms) {
+            PostingList posting = postings.get(term);
+            if (posting != null) {
+                matched.add(posting);
+            }
+        }
+        PostingList[] lists = matched.toArray(new PostingList[0]);
+        float[] idfs = new float[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            int documentFrequency = lists[i].liveDocuments();
+            idfs[i] = (float) Math.log(1 + (documents - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+        int[] cursors = new int[lists.length];
+
+        PriorityQueue<SearchHit> best = new PriorityQueue<>(limit + 1, BY_RANK.reversed());
+        while (true) {
+            int slot = Integer.MAX_VALUE;
+            for (int i = 0; i < lists.length; i++) {
+                if (cursors[i] < lists[i].size()) {
+                    slot = Math.min(slot, lists[i].slot(cursors[i]));
+                }
+            }
+            if (slot == Integer.MAX_VALUE) {
+                break;
+            }
+            float lengthNorm = K1 * (1 - B + B * slotLengths[slot] / averageLength);
+            float score = 0;
+            for (int i = 0; i < lists.length; i++) {
+                if (cursors[i] < lists[i].size() && lists[i].slot(cursors[i]) == slot) {
+                    int frequency = lists[i].frequency(cursors[i]++);
+                    score += idfs[i] * frequency * (K1 + 1) / (frequency + lengthNorm);
+                }
+            }
+            if (slotTerms[slot] == null) {
+                continue;
+            }
+            best.add(new SearchHit(slotDestinationIds[slot], score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<SearchHit> hits = new ArrayList<>(best);
+        hits.sort(BY_RANK);
+        return hits;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByDestinationId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void upsertLocked(Document document) {
+        removeLocked(document.destinationId());
+        int slot = allocateSlot(document.destinationId());
+        String[] terms = document.frequencies().keySet().toArray(new String[0]);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, key -> new PostingList()).add(slot, document.frequencies().get(term));
+        }
+        slotTerms[slot] = terms;
+        slotLengths[slot] = document.length();
+        totalLength += document.length();
+    }
+
+    private int allocateSlot(long destinationId) {
+        if (slotCount == slotDestinationIds.length) {
+            int capacity = slotCount * 2;
+            slotDestinationIds = Arrays.copyOf(slotDestinationIds, capacity);
+            slotLengths = Arrays.copyOf(slotLengths, capacity);
+            slotTerms = Arrays.copyOf(slotTerms, capacity);
+        }
+        int slot = slotCount++;
+        slotDestinationIds[slot] = destinationId;
+        slotsByDestinationId.put(destinationId, slot);
+        return slot;
+    }
+
+    private void removeLocked(Long destinationId) {
+        Integer slot = slotsByDestinationId.remove(destinationId);
+        if (slot == null) {
+            return;
+        }
+        for (String term : slotTerms[slot]) {
+            PostingList posting = postings.get(term);
+            posting.markRemoved();
+            if (posting.liveDocuments() == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= slotLengths[slot];
+        slotTerms[slot] = null;
+        removedSlots++;
+    }
+
+    private void compactIfSparse() {
+        if (removedSlots > MIN_SLOTS_BEFORE_COMPACTION && removedSlots > slotsByDestinationId.size()) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        int[] newSlots = new int[slotCount];
+        int live = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotTerms[slot] == null) {
+                newSlots[slot] = -1;
+                continue;
+            }
+            newSlots[slot] = live;
+            slotDestinationIds[live] = slotDestinationIds[slot];
+            slotLengths[live] = slotLengths[slot];
+            slotTerms[live] = slotTerms[slot];
+            slotsByDestinationId.put(slotDestinationIds[live], live);
+            live++;
+        }
+        Arrays.fill(slotTerms, live, slotCount, null);
+        for (PostingList posting : postings.values()) {
+            posting.remap(newSlots);
+        }
+        slotCount = live;
+        removedSlots = 0;
+    }
+
+    /** A destination tokenized outside the lock: its term frequencies and length in tokens. */
+    private record Document(long destinationId, Map<String, Integer> frequencies, int length) {
+        static Document of(DestinationResponse destination) {
+            List<String> tokens = TextNormalizer.tokenize(
+                    destination.country() + " " + destination.city() + " " + destination.description());
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String token : tokens) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+            return new Document(destination.id(), frequencies, tokens.size());
+        }
+    }
+}
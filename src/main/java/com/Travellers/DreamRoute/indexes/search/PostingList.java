@@ -0,0 +1,55 @@
+package com.Travellers.DreamRoute.indexes.search;
+
+import java.util.Arrays;
+
+/** Slots are appended as they are allocated and compaction keeps their order, so every list is sorted by slot. */
+final class PostingList {
+    private int[] slots = new int[4];
+    private int[] frequencies = new int[4];
+    private int size;
+    private int liveDocuments;
+
+    void add(int slot, int frequency) {
+        if (size == slots.length) {
+            slots = Arrays.copyOf(slots, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+        slots[size] = slot;
+        frequencies[size] = frequency;
+        size++;
+        liveDocuments++;
+    }
+
+    void markRemoved() {
+        liveDocuments--;
+    }
+
+    void remap(int[] newSlots) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int newSlot = newSlots[slots[i]];
+            if (newSlot >= 0) {
+                slots[kept] = newSlot;
+                frequencies[kept] = frequencies[i];
+                kept++;
+            }
+        }
+        size = kept;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int slot(int index) {
+        return slots[index];
+    }
+
+    int frequency(int index) {
+        return frequencies[index];
+    }
+
+    int liveDocuments() {
+        return liveDocuments;
+    }
+}
@@ -0,0 +1,4 @@
+package com.Travellers.DreamRoute.indexes.search;
+
+public record SearchHit(long destinationId, float score) {
+}
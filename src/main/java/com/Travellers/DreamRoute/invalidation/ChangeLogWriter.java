@@ -0,0 +1,146 @@
+package com.Travellers.DreamRoute.invalidation;
+
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.DestinationsCreatedEvent;
+import com.Travellers.DreamRoute.events.TripChangedEvent;
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.events.UserRenamedEvent;
+import com.Travellers.DreamRoute.models.ChangeLogEntry;
+import com.Travellers.DreamRoute.models.ChangeLogEntry.ChangeType;
+import com.Travellers.DreamRoute.models.ChangeLogEntry.EntityType;
+import com.Travellers.DreamRoute.repositories.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+@RequiredArgsConstructor
+public class ChangeLogWriter {
+    private final ChangeLogRepository changeLogRepository;
+    private final ReplicaIdentity replicaIdentity;
+
+    /**
+     * Destination changes are collected until commit. Creations by the same owner are written as one entry covering
+     * the id range, with the highest id in {@code detail}, so a bulk import costs one row per chunk instead of one per
+     * destination; readers load the owner's destinations in that range.
+     */
+    @EventListener
+    public void onDestinationChanged(DestinationChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            append(EntityType.DESTINATION, ChangeType.valueOf(event.type().name()), event.destinationId(), event.userId(),
+                    null, Instant.now());
+            return;
+        }
+        pendingDestinationChanges().add(event);
+    }
+
+    @EventListener
+    public void onDestinationsCreated(DestinationsCreatedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        PendingDestinationChanges pending = inTransaction ? pendingDestinationChanges() : new PendingDestinationChanges();
+        event.destinations().forEach(destination ->
+                pending.add(DestinationChangedEvent.created(destination, event.userId())));
+        if (!inTransaction) {
+            pending.beforeCommit(false);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserRenamed(UserRenamedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        append(EntityType.USER, ChangeType.RENAMED, event.userId(), event.userId(), event.previousUsername(), Instant.now());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        append(EntityType.USER, ChangeType.valueOf(event.type().name()), event.userId(), event.userId(), null,
+                event.changedAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTripChanged(TripChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        append(EntityType.TRIP, ChangeType.UPDATED, event.tripId(), event.userId(), null, Instant.now());
+    }
+
+    private PendingDestinationChanges pendingDestinationChanges() {
+        PendingDestinationChanges pending = (PendingDestinationChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDestinationChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private void append(EntityType entityType, ChangeType changeType, Long entityId, Long ownerId, String detail,
+                        Instant createdAt) {
+        changeLogRepository.save(entry(entityType, changeType, entityId, ownerId, detail, createdAt));
+    }
+
+    private ChangeLogEntry entry(EntityType entityType, ChangeType changeType, Long entityId, Long ownerId, String detail,
+                                 Instant createdAt) {
+        return ChangeLogEntry.builder()
+                .entityType(entityType)
+                .changeType(changeType)
+                .entityId(entityId)
+                .ownerId(ownerId)
+                .detail(detail)
+                .origin(replicaIdentity.getId())
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private final class PendingDestinationChanges implements TransactionSynchronization {
+        private final Map<Long, long[]> createdRanges = new TreeMap<>();
+        private final List<DestinationChangedEvent> others = new ArrayList<>();
+
+        void add(DestinationChangedEvent event) {
+            if (event.type() != DestinationChangedEvent.Type.CREATED || event.userId() == null) {
+                others.add(event);
+                return;
+            }
+            long id = event.destinationId();
+            createdRanges.merge(event.userId(), new long[]{id, id},
+                    (range, single) -> new long[]{Math.min(range[0], id), Math.max(range[1], id)});
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            Instant now = Instant.now();
+            List<ChangeLogEntry> entries = new ArrayList<>(createdRanges.size() + others.size());
+            createdRanges.forEach((ownerId, range) -> entries.add(entry(EntityType.DESTINATION, ChangeType.CREATED,
+                    range[0], ownerId, range[0] == range[1] ? null : String.valueOf(range[1]), now)));
+            others.forEach(event -> entries.add(entry(EntityType.DESTINATION, ChangeType.valueOf(event.type().name()),
+                    event.destinationId(), event.userId(), null, now)));
+            changeLogRepository.saveAll(entries);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeLogWriter.this);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.Travellers.DreamRoute.invalidation;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.DestinationsCreatedEvent;
+import com.Travellers.DreamRoute.events.ReplicaResyncEvent;
+import com.Travellers.DreamRoute.events.TripChangedEvent;
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.events.UserRenamedEvent;
+import com.Travellers.DreamRoute.models.ChangeLogEntry;
+import com.Travellers.DreamRoute.models.ChangeLogEntry.ChangeType;
+import com.Travellers.DreamRoute.models.ChangeLogEntry.EntityType;
+import com.Travellers.DreamRoute.repositories.ChangeLogRepository;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class InvalidationBus {
+    public static final int BATCH_SIZE = 500;
+    public static final long POLL_INTERVAL_MS = 250;
+    public static final Duration STALENESS_BOUND = Duration.ofSeconds(5);
+    public static final Duration GAP_TIMEOUT = Duration.ofSeconds(30);
+    public static final Duration RETENTION = Duration.ofHours(1);
+    static final int MAX_PENDING_GAPS = 10_000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final DestinationRepository destinationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReplicaIdentity replicaIdentity;
+    private final Timer propagationLag;
+
+    private final Map<Long, Instant> pendingGaps = new TreeMap<>();
+    private long lastSeenId = -1;
+    private volatile Instant lastSuccessfulPoll;
+    private boolean stale;
+
+    public InvalidationBus(ChangeLogRepository changeLogRepository, DestinationRepository destinationRepository,
+                           ApplicationEventPublisher eventPublisher, ReplicaIdentity replicaIdentity,
+                           MeterRegistry meterRegistry) {
+        this.changeLogRepository = changeLogRepository;
+        this.destinationRepository = destinationRepository;
+        this.eventPublisher = eventPublisher;
+        this.replicaIdentity = replicaIdentity;
+        this.propagationLag = Timer.builder("invalidation.bus.lag")
+                .description("Time between a change being logged by one replica and applied by another")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("invalidation.bus.staleness", this, bus -> bus.secondsSinceLastPoll(Instant.now()))
+                .description("Seconds since this replica last caught up with the change log")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        start(Instant.now());
+    }
+
+    synchronized void start(Instant now) {
+        lastSeenId = changeLogRepository.findMaxId();
+        lastSuccessfulPoll = now;
+        log.info("Invalidation bus for replica {} starting after change {}", replicaIdentity.getId(), lastSeenId);
+    }
+
+    @Scheduled(fixedDelay = POLL_INTERVAL_MS)
+    public void pollChanges() {
+        poll(Instant.now());
+    }
+
+    @Scheduled(fixedDelay = 600_000, initialDelay = 60_000)
+    public void pruneChanges() {
+        int pruned = changeLogRepository.deleteOlderThan(Instant.now().minus(RETENTION));
+        if (pruned > 0) {
+            log.debug("Pruned {} change log entries", pruned);
+        }
+    }
+
+    synchronized void poll(Instant now) {
+        if (lastSeenId < 0) {
+            return;
+        }
+        try {
+            if (stale) {
+                resynchronize(now);
+                return;
+            }
+            List<ChangeLogEntry> recovered = pendingGaps.isEmpty() ? List.of()
+                    : changeLogRepository.findAllById(Set.copyOf(pendingGaps.keySet()));
+            List<ChangeLogEntry> batch = changeLogRepository.findByIdGreaterThanOrderByIdAsc(lastSeenId, Limit.of(BATCH_SIZE));
+            List<ChangeLogEntry> changes = new ArrayList<>(recovered);
+            changes.addAll(batch);
+            // The cursor and the gaps only move once the changes are applied, so a failed apply is retried next poll
+            apply(changes, now);
+            recovered.forEach(entry -> pendingGaps.remove(entry.getId()));
+            for (ChangeLogEntry entry : batch) {
+                for (long missing = lastSeenId + 1; missing < entry.getId(); missing++) {
+                    pendingGaps.put(missing, now);
+                }
+                lastSeenId = entry.getId();
+            }
+            expireGaps(now);
+            lastSuccessfulPoll = now;
+            if (pendingGaps.size() > MAX_PENDING_GAPS) {
+                log.warn("Too many unresolved gaps in the change log, resynchronizing");
+                resynchronize(now);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Polling the change log failed: {}", e.getMessage());
+        }
+        if (Duration.between(lastSuccessfulPoll, now).compareTo(STALENESS_BOUND) > 0) {
+            if (!stale) {
+                log.warn("Change log not read for more than {}, bypassing local caches until it recovers", STALENESS_BOUND);
+            }
+            stale = true;
+            eventPublisher.publishEvent(ReplicaResyncEvent.whileStale());
+        }
+    }
+
+    double secondsSinceLastPoll(Instant now) {
+        Instant last = lastSuccessfulPoll;
+        return last == null ? 0 : Duration.between(last, now).toMillis() / 1000.0;
+    }
+
+    private void resynchronize(Instant now) {
+        lastSeenId = changeLogRepository.findMaxId();
+        pendingGaps.clear();
+        stale = false;
+        lastSuccessfulPoll = now;
+        eventPublisher.publishEvent(ReplicaResyncEvent.afterCatchUp());
+    }
+
+    private void expireGaps(Instant now) {
+        boolean expired = false;
+        Iterator<Map.Entry<Long, Instant>> gaps = pendingGaps.entrySet().iterator();
+        while (gaps.hasNext()) {
+            if (Duration.between(gaps.next().getValue(), now).compareTo(GAP_TIMEOUT) > 0) {
+                gaps.remove();
+                expired = true;
+            }
+        }
+        if (expired) {
+            // Usually a rolled back transaction that never wrote anything; dropping the caches is enough
+            eventPublisher.publishEvent(ReplicaResyncEvent.afterGap());
+        }
+    }
+
+    private void apply(List<ChangeLogEntry> changes, Instant now) {
+        List<ChangeLogEntry> remoteChanges = changes.stream()
+                .filter(entry -> !replicaIdentity.getId().equals(entry.getOrigin()))
+                .sorted(Comparator.comparing(ChangeLogEntry::getId))
+                .toList();
+        if (remoteChanges.isEmpty()) {
+            return;
+        }
+
+        List<Long> changedDestinationIds = remoteChanges.stream()
+                .filter(entry -> entry.getEntityType() == EntityType.DESTINATION && entry.getChangeType() != ChangeType.DELETED)
+                .filter(entry -> !isCreatedRange(entry))
+                .map(ChangeLogEntry::getEntityId)
+                .distinct()
+                .toList();
+        Map<Long, DestinationResponse> destinationsById = changedDestinationIds.isEmpty() ? Map.of()
+                : destinationRepository.findAllResponsesByIdIn(changedDestinationIds).stream()
+                        .collect(Collectors.toMap(DestinationResponse::id, Function.identity()));
+
+        for (ChangeLogEntry entry : remoteChanges) {
+            if (isCreatedRange(entry)) {
+                List<DestinationResponse> created = destinationRepository.findAllResponsesByUserIdAndIdBetween(
+                        entry.getOwnerId(), entry.getEntityId(), Long.valueOf(entry.getDetail()));
+                eventPublisher.publishEvent(DestinationsCreatedEvent.of(created, entry.getOwnerId()).asRemote());
+            } else {
+                eventPublisher.publishEvent(toEvent(entry, destinationsById));
+            }
+            propagationLag.record(Duration.between(entry.getCreatedAt(), now));
+        }
+    }
+
+    private static boolean isCreatedRange(ChangeLogEntry entry) {
+        return entry.getEntityType() == EntityType.DESTINATION && entry.getChangeType() == ChangeType.CREATED
+                && entry.getDetail() != null;
+    }
+
+    private Object toEvent(ChangeLogEntry entry, Map<Long, DestinationResponse> destinationsById) {
+        if (entry.getEntityType() == EntityType.USER) {
+            return switch (entry.getChangeType()) {
+                case RENAMED -> new UserRenamedEvent(entry.getEntityId(), entry.getDetail(), null).asRemote();
+                case DELETED -> new UserChangedEvent(UserChangedEvent.Type.DELETED, entry.getEntityId(), entry.getCreatedAt(), true);
+                case REVOKED -> new UserChangedEvent(UserChangedEvent.Type.REVOKED, entry.getEntityId(), entry.getCreatedAt(), true);
+                default -> new UserChangedEvent(UserChangedEvent.Type.UPDATED, entry.getEntityId(), entry.getCreatedAt(), true);
+            };
+        }
+        if (entry.getEntityType() == EntityType.TRIP) {
+            return new TripChangedEvent(entry.getEntityId(), entry.getOwnerId(), true);
+        }
+        DestinationResponse destination = destinationsById.get(entry.getEntityId());
+        if (entry.getChangeType() == ChangeType.DELETED || destination == null) {
+            return DestinationChangedEvent.deleted(entry.getEntityId(), entry.getOwnerId()).asRemote();
+        }
+        if (entry.getChangeType() == ChangeType.CREATED) {
+            return DestinationChangedEvent.created(destination, entry.getOwnerId()).asRemote();
+        }
+        return DestinationChangedEvent.updated(destination, entry.getOwnerId()).asRemote();
+    }
+}
@@ -0,0 +1,13 @@
+package com.Travellers.DreamRoute.invalidation;
+
+import org.springframework.stereotype.Component;
+import java.util.UUID;
+
+@Component
+public class ReplicaIdentity {
+    private final String id = UUID.randomUUID().toString();
+
+    public String getId() {
+        return id;
+    }
+}
@@ -0,0 +1,17 @@
+package com.Travellers.DreamRoute.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "change_counters")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class ChangeCounter {
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+}
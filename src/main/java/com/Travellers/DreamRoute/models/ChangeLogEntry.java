@@ -0,0 +1,49 @@
+package com.Travellers.DreamRoute.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_created_at", columnList = "created_at")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ChangeLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private EntityType entityType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Column(name = "detail")
+    private String detail;
+
+    @Column(name = "origin", nullable = false, length = 36)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public enum EntityType {
+        DESTINATION, USER, TRIP
+    }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED, RENAMED, REVOKED
+    }
+}
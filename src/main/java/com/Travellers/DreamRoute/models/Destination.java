@@ -2,15 +2,20 @@ package com.Travellers.DreamRoute.models;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "destinations")
+@Table(name = "destinations", indexes = {
+        @Index(name = "idx_destinations_user_id_id", columnList = "user_id, id"),
+        @Index(name = "idx_destinations_change_seq_id", columnList = "change_seq, id")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class Destination {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "destinations_seq")
+    @SequenceGenerator(name = "destinations_seq", sequenceName = "destinations_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -25,9 +30,23 @@ public class Destination {
     @Column(name = "image_url", nullable = false)
     private String image;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     private User user;
-}
\ No newline at end of file
+
+    @Column(name = "change_seq", nullable = false)
+    @ColumnDefault("0")
+    private long changeSeq;
+
+    public Destination(Long id, String country, String city, String description, String image, User user) {
+        this(id, country, city, description, image, null, null, user, 0L);
+    }
+}
@@ -0,0 +1,27 @@
+package com.Travellers.DreamRoute.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "destination_tombstones", indexes = {
+        @Index(name = "idx_destination_tombstones_change_seq_id", columnList = "change_seq, destination_id")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class DestinationTombstone {
+    @Id
+    @Column(name = "destination_id")
+    private Long destinationId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+}
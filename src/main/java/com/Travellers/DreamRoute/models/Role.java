@@ -1,5 +1,6 @@
 package com.Travellers.DreamRoute.models;
 
+import com.Travellers.DreamRoute.caches.RoleChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 import java.util.ArrayList;
@@ -7,12 +8,14 @@ import java.util.List;
 
 @Entity
 @Table(name = "roles")
+@EntityListeners(RoleChangeListener.class)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class Role {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roles_seq")
+    @SequenceGenerator(name = "roles_seq", sequenceName = "roles_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, name = "role_name")
@@ -0,0 +1,39 @@
+package com.Travellers.DreamRoute.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "trips", indexes = {
+        @Index(name = "idx_trips_user_id_id", columnList = "user_id, id")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class Trip {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trips_seq")
+    @SequenceGenerator(name = "trips_seq", sequenceName = "trips_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private User user;
+
+    @ElementCollection
+    @CollectionTable(name = "trip_collaborators", joinColumns = @JoinColumn(name = "trip_id"))
+    @Column(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @Builder.Default
+    private Set<Long> collaboratorIds = new LinkedHashSet<>();
+}
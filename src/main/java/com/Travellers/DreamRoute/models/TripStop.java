@@ -0,0 +1,51 @@
+package com.Travellers.DreamRoute.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Table(name = "trip_stops", indexes = {
+        @Index(name = "idx_trip_stops_trip_id_rank", columnList = "trip_id, removed, stop_rank, element_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_trip_stops_trip_id_element_id", columnNames = {"trip_id", "element_id"})
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class TripStop {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trip_stops_seq")
+    @SequenceGenerator(name = "trip_stops_seq", sequenceName = "trip_stops_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "element_id", nullable = false, columnDefinition = "varchar(64) COLLATE utf8mb4_bin")
+    private String elementId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trip_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Trip trip;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "destination_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Destination destination;
+
+    @Column(name = "stop_rank", nullable = false, columnDefinition = "varchar(64) COLLATE utf8mb4_bin")
+    private String rank;
+
+    @Column(nullable = false)
+    private boolean removed;
+
+    @Column(nullable = false)
+    private long clock;
+
+    @Column(nullable = false, length = 64)
+    private String site;
+}
@@ -2,17 +2,23 @@ package com.Travellers.DreamRoute.models;
 
 import jakarta.persistence.*;
 import lombok.*;
-import java.util.ArrayList;
-import java.util.List;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_username_lc", columnNames = "username_lc"),
+        @UniqueConstraint(name = "uk_users_email_lc", columnNames = "email_lc")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -21,6 +27,16 @@ public class User {
     @Column(nullable = false)
     private String email;
 
+    @Column(name = "username_lc", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) COLLATE utf8mb4_bin GENERATED ALWAYS AS (lower(username)) STORED")
+    @Setter(AccessLevel.NONE)
+    private String usernameLc;
+
+    @Column(name = "email_lc", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) COLLATE utf8mb4_bin GENERATED ALWAYS AS (lower(email)) STORED")
+    @Setter(AccessLevel.NONE)
+    private String emailLc;
+
     @Column(nullable = false)
     private String password;
 
@@ -30,10 +46,15 @@ public class User {
             joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name = "role_id")
     )
-    private List<Role> roles = new ArrayList<>();
+    @OrderBy("id")
+    @Builder.Default
+    private Set<Role> roles = new LinkedHashSet<>();
 
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @OrderBy("id")
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
-    private List<Destination> destinations = new ArrayList<>();
+    @Builder.Default
+    private Set<Destination> destinations = new LinkedHashSet<>();
 }
\ No newline at end of file
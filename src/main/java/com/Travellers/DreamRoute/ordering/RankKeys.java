@@ -0,0 +1,89 @@
+package com.Travellers.DreamRoute.ordering;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fractional rank keys: strings of base-62 digits compared byte by byte, so a new key always fits between any two
+ * neighbours and moving an item rewrites only that item's key. Keys never end in the lowest digit, which leaves room
+ * in front of every key.
+ */
+public final class RankKeys {
+    public static final int MAX_LENGTH = 64;
+
+    static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private RankKeys() {
+    }
+
+    /**
+     * Returns a key strictly between {@code before} and {@code after}; a {@code null} bound is open.
+     */
+    public static String between(String before, String after) {
+        validate(before);
+        validate(after);
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Rank " + before + " must come before " + after);
+        }
+        return midpoint(before == null ? "" : before, after);
+    }
+
+    /**
+     * Returns {@code count} ascending keys between {@code before} and {@code after}, splitting the gap evenly so the
+     * keys stay as short as possible.
+     */
+    public static List<String> between(String before, String after, int count) {
+        List<String> keys = new ArrayList<>(count);
+        fill(before, after, count, keys);
+        return keys;
+    }
+
+    public static boolean isValid(String key) {
+        return key != null && !key.isEmpty() && key.charAt(key.length() - 1) != DIGITS.charAt(0)
+                && key.chars().allMatch(digit -> DIGITS.indexOf(digit) >= 0);
+    }
+
+    private static void fill(String before, String after, int count, List<String> keys) {
+        if (count == 0) {
+            return;
+        }
+        String middle = between(before, after);
+        int left = (count - 1) / 2;
+        fill(before, middle, left, keys);
+        keys.add(middle);
+        fill(middle, after, count - 1 - left, keys);
+    }
+
+    private static String midpoint(String lower, String upper) {
+        if (upper != null) {
+            int prefix = 0;
+            while (digitAt(lower, prefix) == upper.charAt(prefix)) {
+                prefix++;
+            }
+            if (prefix > 0) {
+                String rest = lower.length() > prefix ? lower.substring(prefix) : "";
+                return upper.substring(0, prefix) + midpoint(rest, upper.substring(prefix));
+            }
+        }
+        int low = lower.isEmpty() ? 0 : DIGITS.indexOf(lower.charAt(0));
+        int high = upper == null ? BASE : DIGITS.indexOf(upper.charAt(0));
+        if (high - low > 1) {
+            return String.valueOf(DIGITS.charAt((low + high) / 2));
+        }
+        if (upper != null && upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+        return DIGITS.charAt(low) + midpoint(lower.isEmpty() ? "" : lower.substring(1), null);
+    }
+
+    private static char digitAt(String key, int position) {
+        return position < key.length() ? key.charAt(position) : DIGITS.charAt(0);
+    }
+
+    private static void validate(String key) {
+        if (key != null && !isValid(key)) {
+            throw new IllegalArgumentException("Invalid rank " + key);
+        }
+    }
+}
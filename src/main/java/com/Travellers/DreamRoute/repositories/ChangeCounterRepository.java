@@ -0,0 +1,20 @@
+package com.Travellers.DreamRoute.repositories;
+
+import com.Travellers.DreamRoute.models.ChangeCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface ChangeCounterRepository extends JpaRepository<ChangeCounter, String> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ChangeCounter c where c.name = :name")
+    Optional<ChangeCounter> findByNameForUpdate(@Param("name") String name);
+
+    @Query("select c.value from ChangeCounter c where c.name = :name")
+    Optional<Long> findValueByName(@Param("name") String name);
+}
@@ -0,0 +1,27 @@
+package com.Travellers.DreamRoute.repositories;
+
+import com.Travellers.DreamRoute.models.ChangeLogEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+    List<ChangeLogEntry> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<ChangeLogEntry> findByEntityTypeAndChangeTypeInAndCreatedAtAfter(
+            ChangeLogEntry.EntityType entityType, Collection<ChangeLogEntry.ChangeType> changeTypes, Instant createdAfter);
+
+    @Query("select coalesce(max(c.id), 0) from ChangeLogEntry c")
+    long findMaxId();
+
+    @Modifying
+    @Transactional
+    @Query("delete from ChangeLogEntry c where c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
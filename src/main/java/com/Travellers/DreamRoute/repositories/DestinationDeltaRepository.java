@@ -0,0 +1,8 @@
+package com.Travellers.DreamRoute.repositories;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationDeltaEntry;
+import java.util.List;
+
+public interface DestinationDeltaRepository {
+    List<DestinationDeltaEntry> findDeltaPage(long afterChangeSeq, long afterId, boolean includeDeleted, int limit);
+}
@@ -0,0 +1,60 @@
+package com.Travellers.DreamRoute.repositories;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationDeltaEntry;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DestinationDeltaRepositoryImpl implements DestinationDeltaRepository {
+    private static final String DELTA_QUERY = """
+            SELECT delta.change_seq, delta.id, delta.deleted, delta.country, delta.city, delta.description,
+                   delta.image_url, u.username, delta.latitude, delta.longitude
+            FROM (
+                (SELECT d.change_seq, d.id, FALSE AS deleted, d.country, d.city, d.description, d.image_url,
+                        d.latitude, d.longitude, d.user_id
+                 FROM destinations d
+                 WHERE d.change_seq > :afterChangeSeq OR (d.change_seq = :afterChangeSeq AND d.id > :afterId)
+                 ORDER BY d.change_seq, d.id LIMIT :limit)
+                UNION ALL
+                (SELECT t.change_seq, t.destination_id, TRUE, NULL, NULL, NULL, NULL, NULL, NULL, NULL
+                 FROM destination_tombstones t
+                 WHERE :includeDeleted = TRUE
+                   AND (t.change_seq > :afterChangeSeq OR (t.change_seq = :afterChangeSeq AND t.destination_id > :afterId))
+                 ORDER BY t.change_seq, t.destination_id LIMIT :limit)
+            ) delta
+            LEFT JOIN users u ON u.id = delta.user_id
+            ORDER BY delta.change_seq, delta.id
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<DestinationDeltaEntry> DELTA_ENTRY_MAPPER = (resultSet, rowNum) -> new DestinationDeltaEntry(
+            resultSet.getLong("change_seq"),
+            resultSet.getLong("id"),
+            resultSet.getBoolean("deleted") ? null : new DestinationResponse(
+                    resultSet.getLong("id"),
+                    resultSet.getString("country"),
+                    resultSet.getString("city"),
+                    resultSet.getString("description"),
+                    resultSet.getString("image_url"),
+                    resultSet.getString("username"),
+                    resultSet.getObject("latitude", Double.class),
+                    resultSet.getObject("longitude", Double.class)
+            )
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<DestinationDeltaEntry> findDeltaPage(long afterChangeSeq, long afterId, boolean includeDeleted, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("afterChangeSeq", afterChangeSeq)
+                .addValue("afterId", afterId)
+                .addValue("includeDeleted", includeDeleted)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(DELTA_QUERY, parameters, DELTA_ENTRY_MAPPER);
+    }
+}
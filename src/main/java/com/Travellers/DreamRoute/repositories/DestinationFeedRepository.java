@@ -0,0 +1,8 @@
+package com.Travellers.DreamRoute.repositories;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationFeedEntry;
+import java.util.List;
+
+public interface DestinationFeedRepository {
+    List<DestinationFeedEntry> findFeedPage(Long userId, boolean includeOwned, long ownedAfterId, long othersAfterId, int limit);
+}
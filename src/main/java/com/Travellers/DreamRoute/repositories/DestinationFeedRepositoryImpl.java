@@ -0,0 +1,57 @@
+package com.Travellers.DreamRoute.repositories;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationFeedEntry;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DestinationFeedRepositoryImpl implements DestinationFeedRepository {
+    private static final String FEED_QUERY = """
+            SELECT feed.id, feed.country, feed.city, feed.description, feed.image_url, u.username,
+                   feed.latitude, feed.longitude,
+                   (feed.user_id = :userId) AS owned
+            FROM (
+                (SELECT d.* FROM destinations d
+                 WHERE d.user_id = :userId AND :includeOwned = TRUE AND d.id > :ownedAfterId
+                 ORDER BY d.id LIMIT :limit)
+                UNION ALL
+                (SELECT d.* FROM destinations d
+                 WHERE (:userId IS NULL OR d.user_id <> :userId) AND d.id > :othersAfterId
+                 ORDER BY d.id LIMIT :limit)
+            ) feed
+            JOIN users u ON u.id = feed.user_id
+            ORDER BY (feed.user_id = :userId) DESC, feed.id
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<DestinationFeedEntry> FEED_ENTRY_MAPPER = (resultSet, rowNum) -> new DestinationFeedEntry(
+            new DestinationResponse(
+                    resultSet.getLong("id"),
+                    resultSet.getString("country"),
+                    resultSet.getString("city"),
+                    resultSet.getString("description"),
+                    resultSet.getString("image_url"),
+                    resultSet.getString("username"),
+                    resultSet.getObject("latitude", Double.class),
+                    resultSet.getObject("longitude", Double.class)
+            ),
+            resultSet.getBoolean("owned")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<DestinationFeedEntry> findFeedPage(Long userId, boolean includeOwned, long ownedAfterId, long othersAfterId, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("includeOwned", includeOwned)
+                .addValue("ownedAfterId", ownedAfterId)
+                .addValue("othersAfterId", othersAfterId)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FEED_QUERY, parameters, FEED_ENTRY_MAPPER);
+    }
+}
@@ -1,12 +1,54 @@
 package com.Travellers.DreamRoute.repositories;
 
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
 import com.Travellers.DreamRoute.models.Destination;
 import com.Travellers.DreamRoute.models.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface DestinationRepository extends JpaRepository<Destination, Long> {
+public interface DestinationRepository extends JpaRepository<Destination, Long>, DestinationFeedRepository, DestinationDeltaRepository {
+    String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+    String RESPONSE_PROJECTION = "select new com.Travellers.DreamRoute.dtos.destination.DestinationResponse("
+            + "d.id, d.country, d.city, d.description, d.image, u.username, d.latitude, d.longitude) "
+            + "from Destination d join d.user u ";
+
     List<Destination> findAllByUser(User user);
-}
\ No newline at end of file
+
+    @Query(RESPONSE_PROJECTION + "order by d.id")
+    List<DestinationResponse> findAllResponses();
+
+    @Query(RESPONSE_PROJECTION + "where d.id = :id")
+    Optional<DestinationResponse> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_PROJECTION + "where u.id = :userId order by d.id")
+    List<DestinationResponse> findAllResponsesByUserId(@Param("userId") Long userId);
+
+    @Query(RESPONSE_PROJECTION + "where u.id = :userId and d.id between :fromId and :toId order by d.id")
+    List<DestinationResponse> findAllResponsesByUserIdAndIdBetween(@Param("userId") Long userId,
+                                                                   @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query(RESPONSE_PROJECTION + "where d.id in :ids")
+    List<DestinationResponse> findAllResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(RESPONSE_PROJECTION + "order by d.id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    Stream<DestinationResponse> streamAllResponses();
+
+    @Modifying
+    @Query("update Destination d set d.changeSeq = :changeSeq where d.id in :ids")
+    int updateChangeSeq(@Param("ids") Collection<Long> ids, @Param("changeSeq") long changeSeq);
+
+    @Query(value = "select id from destinations where user_id in (:userIds) order by id for update", nativeQuery = true)
+    List<Long> lockIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
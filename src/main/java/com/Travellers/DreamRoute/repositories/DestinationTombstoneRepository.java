@@ -0,0 +1,20 @@
+package com.Travellers.DreamRoute.repositories;
+
+import com.Travellers.DreamRoute.models.DestinationTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface DestinationTombstoneRepository extends JpaRepository<DestinationTombstone, Long> {
+    @Query("select max(t.changeSeq) from DestinationTombstone t where t.deletedAt < :deletedBefore")
+    Optional<Long> findMaxChangeSeqDeletedBefore(@Param("deletedBefore") Instant deletedBefore);
+
+    @Modifying
+    @Query("delete from DestinationTombstone t where t.changeSeq <= :changeSeq")
+    int deleteThroughChangeSeq(@Param("changeSeq") long changeSeq);
+}
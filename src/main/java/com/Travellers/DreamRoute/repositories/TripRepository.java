@@ -0,0 +1,28 @@
+package com.Travellers.DreamRoute.repositories;
+
+import com.Travellers.DreamRoute.dtos.trip.TripSummary;
+import com.Travellers.DreamRoute.models.Trip;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TripRepository extends JpaRepository<Trip, Long> {
+    String SUMMARY_PROJECTION = "select new com.Travellers.DreamRoute.dtos.trip.TripSummary(t.id, t.name, u.id, u.username) "
+            + "from Trip t join t.user u ";
+
+    @Query(SUMMARY_PROJECTION + "where t.id = :id")
+    Optional<TripSummary> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_PROJECTION + "where u.id = :userId order by t.id")
+    List<TripSummary> findAllSummariesByUserId(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Trip t where t.id = :id")
+    Optional<Trip> findByIdForUpdate(@Param("id") Long id);
+}
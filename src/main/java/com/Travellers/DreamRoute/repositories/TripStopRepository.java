@@ -0,0 +1,60 @@
+package com.Travellers.DreamRoute.repositories;
+
+import com.Travellers.DreamRoute.collaboration.TripElement;
+import com.Travellers.DreamRoute.dtos.trip.TripStopResponse;
+import com.Travellers.DreamRoute.models.TripStop;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TripStopRepository extends JpaRepository<TripStop, Long> {
+    String LIVE_STOPS = "select s from TripStop s where s.trip.id = :tripId and s.removed = false and s.id <> :excludedStopId ";
+
+    @Query("select new com.Travellers.DreamRoute.dtos.trip.TripStopResponse("
+            + "s.id, s.elementId, s.rank, d.id, d.country, d.city, d.description, d.image, u.username, d.latitude, d.longitude) "
+            + "from TripStop s join s.destination d join d.user u "
+            + "where s.trip.id = :tripId and s.removed = false order by s.rank, s.elementId")
+    List<TripStopResponse> findAllResponsesByTripId(@Param("tripId") Long tripId);
+
+    @Query("select new com.Travellers.DreamRoute.collaboration.TripElement("
+            + "s.elementId, s.destination.id, s.rank, s.removed, s.clock, s.site) from TripStop s where s.trip.id = :tripId")
+    List<TripElement> findAllElementsByTripId(@Param("tripId") Long tripId);
+
+    @Query("select s from TripStop s where s.id = :id and s.trip.id = :tripId and s.removed = false")
+    Optional<TripStop> findLiveByIdAndTripId(@Param("id") Long id, @Param("tripId") Long tripId);
+
+    @Query(LIVE_STOPS + "and s.rank > :rank order by s.rank, s.elementId")
+    List<TripStop> findNext(@Param("tripId") Long tripId, @Param("rank") String rank,
+                            @Param("excludedStopId") Long excludedStopId, Limit limit);
+
+    @Query(LIVE_STOPS + "and s.rank < :rank order by s.rank desc, s.elementId desc")
+    List<TripStop> findPrevious(@Param("tripId") Long tripId, @Param("rank") String rank,
+                                @Param("excludedStopId") Long excludedStopId, Limit limit);
+
+    @Query(LIVE_STOPS + "order by s.rank desc, s.elementId desc")
+    List<TripStop> findLast(@Param("tripId") Long tripId, @Param("excludedStopId") Long excludedStopId, Limit limit);
+
+    @Query("select s from TripStop s where s.trip.id = :tripId and s.removed = false order by s.rank, s.elementId")
+    List<TripStop> findAllLiveByTripId(@Param("tripId") Long tripId);
+
+    boolean existsByTripIdAndElementId(Long tripId, String elementId);
+
+    @Modifying
+    @Query("update TripStop s set s.rank = :rank, s.removed = :removed, s.clock = :clock, s.site = :site "
+            + "where s.trip.id = :tripId and s.elementId = :elementId "
+            + "and (s.clock < :clock or (s.clock = :clock and s.site < :site))")
+    int updateIfNewer(@Param("tripId") Long tripId, @Param("elementId") String elementId, @Param("rank") String rank,
+                      @Param("removed") boolean removed, @Param("clock") long clock, @Param("site") String site);
+
+    @Modifying
+    @Transactional
+    @Query("delete from TripStop s where s.removed = true and s.clock < :clock")
+    int deleteTombstonesOlderThan(@Param("clock") long clock);
+}
@@ -1,12 +1,27 @@
 package com.Travellers.DreamRoute.repositories;
 
 import com.Travellers.DreamRoute.models.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsernameIgnoreCase(String username);
-    Optional<User> findByEmailIgnoreCase(String email);
-    boolean existsByUsername(String username);
-    boolean existsByEmail(String email);
+    @Override
+    @EntityGraph(attributePaths = "roles")
+    List<User> findAll();
+
+    @Query("select u from User u where u.usernameLc = lower(:username)")
+    Optional<User> findByUsernameIgnoreCase(@Param("username") String username);
+
+    @Query("select u from User u where u.emailLc = lower(:email)")
+    Optional<User> findByEmailIgnoreCase(@Param("email") String email);
+
+    @Query("select case when count(u) > 0 then true else false end from User u where u.usernameLc = lower(:username)")
+    boolean existsByUsername(@Param("username") String username);
+
+    @Query("select case when count(u) > 0 then true else false end from User u where u.emailLc = lower(:email)")
+    boolean existsByEmail(@Param("email") String email);
 }
\ No newline at end of file
@@ -0,0 +1,488 @@
+package com.Travellers.DreamRoute.routing;
+
+import com.Travellers.DreamRoute.exceptions.ServiceBusyException;
+import com.Travellers.DreamRoute.indexes.geo.DestinationGeoIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Near-optimal visiting order over a set of coordinates. Every worker of a dedicated fork/join pool seeds a tour
+ * with nearest-neighbour from a different start and improves it with 2-opt and Or-opt moves restricted to each
+ * stop's nearest neighbours, then keeps perturbing it (segment swaps) until it stops improving or the time budget
+ * runs out. The best closed tour is opened at its longest leg.
+ */
+@Component
+public class RouteOptimizer implements AutoCloseable {
+    private static final int NEIGHBOURS = 10;
+    private static final int MAX_SEGMENT = 3;
+    private static final int MAX_PERTURBATION = 30;
+    private static final int MIN_IDLE_ROUNDS = 500;
+    private static final double EPSILON = 1e-4;
+
+    private final int maxStops;
+    private final Duration timeBudget;
+    private final Semaphore permits;
+    private final ForkJoinPool pool;
+
+    @Autowired
+    public RouteOptimizer(@Value("${routes.max-stops:3000}") int maxStops,
+                          @Value("${routes.time-budget:2s}") Duration timeBudget,
+                          @Value("${routes.max-concurrent:2}") int maxConcurrent) {
+        this(maxStops, timeBudget, maxConcurrent, Runtime.getRuntime().availableProcessors());
+    }
+
+    public RouteOptimizer(int maxStops, Duration timeBudget, int maxConcurrent, int parallelism) {
+        if (maxStops < 1 || maxStops > 40_000) {
+            throw new IllegalArgumentException("routes.max-stops must be between 1 and 40000");
+        }
+        this.maxStops = maxStops;
+        this.timeBudget = timeBudget;
+        this.permits = new Semaphore(maxConcurrent);
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("route-optimizer-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    public Route optimize(double[] latitudes, double[] longitudes) {
+        int stops = latitudes.length;
+        if (stops > maxStops) {
+            throw new IllegalArgumentException("A route can have at most " + maxStops + " stops");
+        }
+        if (stops == 0) {
+            return new Route(new int[0], 0);
+        }
+
+        acquire();
+        try {
+            long deadline = System.nanoTime() + timeBudget.toNanos();
+            Instance instance = pool.submit(() -> Instance.build(latitudes, longitudes)).join();
+            if (stops < 4) {
+                return instance.openRoute(IntStream.range(0, stops).toArray());
+            }
+
+            List<ForkJoinTask<int[]>> workers = new ArrayList<>();
+            for (int worker = 0; worker < pool.getParallelism(); worker++) {
+                SplittableRandom random = new SplittableRandom(worker);
+                int start = worker == 0 ? 0 : random.nextInt(stops);
+                workers.add(pool.submit(() -> new Search(instance, random).run(start, deadline)));
+            }
+
+            int[] best = null;
+            double bestLength = Double.POSITIVE_INFINITY;
+            for (ForkJoinTask<int[]> worker : workers) {
+                int[] tour = worker.join();
+                double length = instance.tourLength(tour);
+                if (length < bestLength) {
+                    best = tour;
+                    bestLength = length;
+                }
+            }
+            return instance.openRoute(best);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(timeBudget.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new ServiceBusyException("Route optimizer is busy, please retry");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Route optimizer is busy, please retry");
+        }
+    }
+
+    public record Route(int[] order, double distanceKm) {
+    }
+
+    static final class Instance {
+        private final int stops;
+        private final float[] distances;
+        private final int neighbourCount;
+        private final int[] neighbours;
+
+        private Instance(int stops, float[] distances, int neighbourCount, int[] neighbours) {
+            this.stops = stops;
+            this.distances = distances;
+            this.neighbourCount = neighbourCount;
+            this.neighbours = neighbours;
+        }
+
+        static Instance build(double[] latitudes, double[] longitudes) {
+            int stops = latitudes.length;
+            double[] vectors = new double[stops * 3];
+            for (int i = 0; i < stops; i++) {
+                System.arraycopy(DestinationGeoIndex.toUnitVector(latitudes[i], longitudes[i]), 0, vectors, i * 3, 3);
+            }
+
+            float[] distances = new float[stops * stops];
+            IntStream.range(0, stops).parallel().forEach(i -> {
+                for (int j = 0; j < stops; j++) {
+                    double dx = vectors[i * 3] - vectors[j * 3];
+                    double dy = vectors[i * 3 + 1] - vectors[j * 3 + 1];
+                    double dz = vectors[i * 3 + 2] - vectors[j * 3 + 2];
+                    distances[i * stops + j] = (float) DestinationGeoIndex.chordToKm(dx * dx + dy * dy + dz * dz);
+                }
+            });
+
+            int neighbourCount = Math.min(NEIGHBOURS, stops - 1);
+            int[] neighbours = new int[stops * neighbourCount];
+            IntStream.range(0, stops).parallel().forEach(i -> {
+                int offset = i * neighbourCount;
+                int found = 0;
+                for (int j = 0; j < stops; j++) {
+                    if (j == i) {
+                        continue;
+                    }
+                    float distance = distances[i * stops + j];
+                    if (found == neighbourCount && distance >= distances[i * stops + neighbours[offset + found - 1]]) {
+                        continue;
+                    }
+                    int position = found == neighbourCount ? found - 1 : found++;
+                    while (position > 0 && distances[i * stops + neighbours[offset + position - 1]] > distance) {
+                        neighbours[offset + position] = neighbours[offset + position - 1];
+                        position--;
+                    }
+                    neighbours[offset + position] = j;
+                }
+            });
+            return new Instance(stops, distances, neighbourCount, neighbours);
+        }
+
+        float distance(int from, int to) {
+            return distances[from * stops + to];
+        }
+
+        double tourLength(int[] tour) {
+            double length = 0;
+            for (int i = 0; i < tour.length; i++) {
+                length += distance(tour[i], tour[(i + 1) % tour.length]);
+            }
+            return length;
+        }
+
+        Route openRoute(int[] tour) {
+            int cut = 0;
+            float longest = -1;
+            for (int i = 0; i < tour.length; i++) {
+                float leg = distance(tour[i], tour[(i + 1) % tour.length]);
+                if (leg > longest) {
+                    longest = leg;
+                    cut = i;
+                }
+            }
+            int[] order = new int[tour.length];
+            double length = 0;
+            for (int i = 0; i < tour.length; i++) {
+                order[i] = tour[(cut + 1 + i) % tour.length];
+                if (i > 0) {
+                    length += distance(order[i - 1], order[i]);
+                }
+            }
+            return new Route(order, length);
+        }
+    }
+
+    static final class Search {
+        private final Instance instance;
+        private final SplittableRandom random;
+        private final int stops;
+        private final int[] tour;
+        private final int[] positions;
+        private final int[] scratch;
+        private final int[] queue;
+        private final boolean[] queued;
+        private int queueHead;
+        private int queueSize;
+
+        Search(Instance instance, SplittableRandom random) {
+            this.instance = instance;
+            this.random = random;
+            this.stops = instance.stops;
+            this.tour = new int[stops];
+            this.positions = new int[stops];
+            this.scratch = new int[stops];
+            this.queue = new int[stops];
+            this.queued = new boolean[stops];
+        }
+
+        int[] run(int start, long deadline) {
+            nearestNeighbourTour(start);
+            for (int city = 0; city < stops; city++) {
+                enqueue(tour[city]);
+            }
+            localSearch(deadline);
+
+            int[] best = tour.clone();
+            double bestLength = instance.tourLength(best);
+            int idleRoundsLeft = Math.max(MIN_IDLE_ROUNDS, 2 * stops);
+            while (stops >= 8 && idleRoundsLeft-- > 0 && System.nanoTime() < deadline) {
+                perturb();
+                localSearch(deadline);
+                double length = instance.tourLength(tour);
+                if (length < bestLength - EPSILON) {
+                    System.arraycopy(tour, 0, best, 0, stops);
+                    bestLength = length;
+                    idleRoundsLeft = Math.max(MIN_IDLE_ROUNDS, 2 * stops);
+                } else {
+                    System.arraycopy(best, 0, tour, 0, stops);
+                    indexPositions();
+                }
+            }
+            return best;
+        }
+
+        private void nearestNeighbourTour(int start) {
+            boolean[] visited = new boolean[stops];
+            int current = start;
+            for (int i = 0; i < stops; i++) {
+                tour[i] = current;
+                visited[current] = true;
+                if (i == stops - 1) {
+                    break;
+                }
+                int next = -1;
+                for (int k = 0; k < instance.neighbourCount && next < 0; k++) {
+                    int candidate = instance.neighbours[current * instance.neighbourCount + k];
+                    if (!visited[candidate]) {
+                        next = candidate;
+                    }
+                }
+                if (next < 0) {
+                    float closest = Float.POSITIVE_INFINITY;
+                    for (int candidate = 0; candidate < stops; candidate++) {
+                        if (!visited[candidate] && instance.distance(current, candidate) < closest) {
+                            closest = instance.distance(current, candidate);
+                            next = candidate;
+                        }
+                    }
+                }
+                current = next;
+            }
+            indexPositions();
+        }
+
+        private void localSearch(long deadline) {
+            int steps = 0;
+            while (queueSize > 0) {
+                if ((++steps & 255) == 0 && System.nanoTime() > deadline) {
+                    while (queueSize > 0) {
+                        dequeue();
+                    }
+                    return;
+                }
+                int city = dequeue();
+                if (twoOpt(city) || orOpt(city)) {
+                    enqueue(city);
+                }
+            }
+        }
+
+        private boolean twoOpt(int a) {
+            int successor = next(a);
+            int predecessor = previous(a);
+            for (int k = 0; k < instance.neighbourCount; k++) {
+                int c = instance.neighbours[a * instance.neighbourCount + k];
+                float ac = instance.distance(a, c);
+                boolean forward = ac < instance.distance(a, successor);
+                boolean backward = ac < instance.distance(predecessor, a);
+                if (!forward && !backward) {
+                    break;
+                }
+                if (forward) {
+                    int d = next(c);
+                    double gain = (double) instance.distance(a, successor) + instance.distance(c, d)
+                            - ac - instance.distance(successor, d);
+                    if (c != successor && d != a && gain > EPSILON) {
+                        reverse(successor, c);
+                        enqueue(successor, c, d);
+                        return true;
+                    }
+                }
+                if (backward) {
+                    int d = previous(c);
+                    double gain = (double) instance.distance(predecessor, a) + instance.distance(d, c)
+                            - ac - instance.distance(predecessor, d);
+                    if (c != predecessor && d != a && gain > EPSILON) {
+                        reverse(a, d);
+                        enqueue(predecessor, c, d);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean orOpt(int first) {
+            int last = first;
+            for (int length = 1; length <= MAX_SEGMENT && stops - length >= 3; length++) {
+                if (length > 1) {
+                    last = next(last);
+                }
+                int before = previous(first);
+                int after = next(last);
+                double removal = (double) instance.distance(before, first) + instance.distance(last, after)
+                        - instance.distance(before, after);
+                if (removal <= EPSILON) {
+                    continue;
+                }
+                for (int end = 0; end < 2; end++) {
+                    int anchor = end == 0 ? first : last;
+                    for (int k = 0; k < instance.neighbourCount; k++) {
+                        int c = instance.neighbours[anchor * instance.neighbourCount + k];
+                        if (inSegment(c, first, length)) {
+                            continue;
+                        }
+                        if (tryInsert(first, last, length, before, after, c, next(c), removal)
+                                || tryInsert(first, last, length, before, after, previous(c), c, removal)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean tryInsert(int first, int last, int length, int before, int after, int x, int y, double removal) {
+            if (x == before || inSegment(x, first, length) || inSegment(y, first, length)) {
+                return false;
+            }
+            double edge = instance.distance(x, y);
+            double forwardCost = instance.distance(x, first) + instance.distance(last, y) - edge;
+            double reversedCost = instance.distance(x, last) + instance.distance(first, y) - edge;
+            double cost = Math.min(forwardCost, reversedCost);
+            if (removal - cost <= EPSILON) {
+                return false;
+            }
+            moveSegment(first, length, after, x, reversedCost < forwardCost);
+            enqueue(before, after, first);
+            enqueue(last, x, y);
+            return true;
+        }
+
+        private boolean inSegment(int city, int first, int length) {
+            int offset = positions[city] - positions[first];
+            if (offset < 0) {
+                offset += stops;
+            }
+            return offset < length;
+        }
+
+        private void moveSegment(int first, int length, int after, int x, boolean reversed) {
+            int written = 0;
+            int position = positions[after];
+            for (int i = 0; i < stops - length; i++) {
+                int city = tour[position];
+                scratch[written++] = city;
+                if (city == x) {
+                    int segmentStart = positions[first];
+                    for (int s = 0; s < length; s++) {
+                        int offset = reversed ? length - 1 - s : s;
+                        scratch[written++] = tour[(segmentStart + offset) % stops];
+                    }
+                }
+                position = (position + 1) % stops;
+            }
+            System.arraycopy(scratch, 0, tour, 0, stops);
+            indexPositions();
+        }
+
+        private void perturb() {
+            int maxLength = Math.min(MAX_PERTURBATION, (stops - 2) / 2);
+            int firstLength = 1 + random.nextInt(maxLength);
+            int secondLength = 1 + random.nextInt(maxLength);
+            int start = random.nextInt(stops);
+            int written = 0;
+            for (int i = 0; i < secondLength; i++) {
+                scratch[written++] = tour[(start + firstLength + i) % stops];
+            }
+            for (int i = 0; i < firstLength; i++) {
+                scratch[written++] = tour[(start + i) % stops];
+            }
+            for (int i = firstLength + secondLength; i < stops; i++) {
+                scratch[written++] = tour[(start + i) % stops];
+            }
+            System.arraycopy(scratch, 0, tour, 0, stops);
+            indexPositions();
+            enqueue(scratch[0], scratch[secondLength - 1], scratch[secondLength]);
+            enqueue(scratch[secondLength + firstLength - 1], scratch[secondLength + firstLength], scratch[stops - 1]);
+        }
+
+        private void reverse(int from, int to) {
+            int i = positions[from];
+            int j = positions[to];
+            int length = j - i;
+            if (length < 0) {
+                length += stops;
+            }
+            length++;
+            if (length * 2 > stops) {
+                int complementStart = (j + 1) % stops;
+                j = (i - 1 + stops) % stops;
+                i = complementStart;
+                length = stops - length;
+            }
+            for (int swaps = length / 2; swaps > 0; swaps--) {
+                int left = tour[i];
+                int right = tour[j];
+                tour[i] = right;
+                positions[right] = i;
+                tour[j] = left;
+                positions[left] = j;
+                i = (i + 1) % stops;
+                j = (j - 1 + stops) % stops;
+            }
+        }
+
+        private int next(int city) {
+            return tour[(positions[city] + 1) % stops];
+        }
+
+        private int previous(int city) {
+            return tour[(positions[city] - 1 + stops) % stops];
+        }
+
+        private void indexPositions() {
+            for (int i = 0; i < stops; i++) {
+                positions[tour[i]] = i;
+            }
+        }
+
+        private void enqueue(int... cities) {
+            for (int city : cities) {
+                if (!queued[city]) {
+                    queued[city] = true;
+                    queue[(queueHead + queueSize++) % stops] = city;
+                }
+            }
+        }
+
+        private int dequeue() {
+            int city = queue[queueHead];
+            queueHead = (queueHead + 1) % stops;
+            queueSize--;
+            queued[city] = false;
+            return city;
+        }
+    }
+}
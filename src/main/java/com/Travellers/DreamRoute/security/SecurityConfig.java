@@ -1,6 +1,7 @@
 package com.Travellers.DreamRoute.security;
 
 import com.Travellers.DreamRoute.security.jwt.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,22 +29,43 @@ public class SecurityConfig {
                 .cors(Customizer.withDefaults())
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                 .requestMatchers(HttpMethod.GET, "/health").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/actuator/**").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/register").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/login").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/destinations").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/destinations/search").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/destinations/autocomplete").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/destinations/nearby").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/destinations/clusters").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/destinations/stream").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/destinations/changes").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/destinations/export").hasRole("ADMIN")
                                 .requestMatchers(HttpMethod.GET, "/destinations/{id}").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/destinations/user/{id}").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/destinations").hasAnyRole("USER", "ADMIN")
+                                .requestMatchers(HttpMethod.POST, "/destinations/bulk").hasAnyRole("USER", "ADMIN")
                                 .requestMatchers(HttpMethod.PUT, "/destinations").hasAnyRole("USER", "ADMIN")
                                 .requestMatchers(HttpMethod.DELETE, "/destinations").hasAnyRole("USER", "ADMIN")
                                 .requestMatchers(HttpMethod.GET, "/users/all").hasRole("ADMIN")
                                 .requestMatchers(HttpMethod.GET, "/users/{id}").hasRole("ADMIN")
                                 .requestMatchers(HttpMethod.GET, "/users/username/{username}").hasAnyRole("USER", "ADMIN")
+                                .requestMatchers(HttpMethod.GET, "/users/{id}/route").hasAnyRole("USER", "ADMIN")
+                                .requestMatchers(HttpMethod.POST, "/users/{id}/route").hasAnyRole("USER", "ADMIN")
                                 .requestMatchers(HttpMethod.POST, "/users/create").hasRole("ADMIN")
                                 .requestMatchers(HttpMethod.PUT, "/users/update/**").hasAnyRole("USER", "ADMIN")
                                 .requestMatchers(HttpMethod.DELETE, "/users/delete/{id}").hasAnyRole("ADMIN", "USER")
+                                .requestMatchers(HttpMethod.GET, "/trips/{id}").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/trips/user/{id}").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/trips").hasAnyRole("USER", "ADMIN")
+                                .requestMatchers(HttpMethod.DELETE, "/trips/{id}").hasAnyRole("USER", "ADMIN")
+                                .requestMatchers(HttpMethod.POST, "/trips/{id}/stops").hasAnyRole("USER", "ADMIN")
+                                .requestMatchers(HttpMethod.PUT, "/trips/{id}/stops/{stopId}").hasAnyRole("USER", "ADMIN")
+                                .requestMatchers(HttpMethod.DELETE, "/trips/{id}/stops/{stopId}").hasAnyRole("USER", "ADMIN")
+                                .requestMatchers(HttpMethod.PUT, "/trips/{id}/collaborators/{userId}").hasAnyRole("USER", "ADMIN")
+                                .requestMatchers(HttpMethod.DELETE, "/trips/{id}/collaborators/{userId}").hasAnyRole("USER", "ADMIN")
+                                .requestMatchers(HttpMethod.GET, "/ws/trips/*").hasAnyRole("USER", "ADMIN")
                                 .requestMatchers(HttpMethod.GET, "/roles").hasRole("ADMIN")
                                 .requestMatchers(HttpMethod.GET, "/roles/{id}").hasRole("ADMIN")
                                 .anyRequest().authenticated()
@@ -8,6 +8,8 @@ import com.Travellers.DreamRoute.models.User;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -15,6 +17,13 @@ import java.util.stream.Collectors;
 public class UserDetail implements UserDetails {
     private final User user;
 
+    public static UserDetail fromClaims(Long id, String username, Collection<String> roleNames) {
+        Set<Role> roles = roleNames.stream()
+                .map(roleName -> Role.builder().roleName(roleName).build())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new UserDetail(User.builder().id(id).username(username).roles(roles).build());
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return user.getRoles().stream()
@@ -2,6 +2,7 @@ package com.Travellers.DreamRoute.security.jwt;
 
 import com.Travellers.DreamRoute.security.UserDetail;
 import com.Travellers.DreamRoute.services.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,29 +13,48 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
+    private static final String WEB_SOCKET_PATH = "/ws/";
+    private static final String TOKEN_PARAMETER = "access_token";
+
     private final JwtService jwtService;
     private final UserService userService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        String header = request.getHeader("Authorization");
-        if(header == null || !header.startsWith("Bearer ")) {
+        String token = extractToken(request);
+        if(token == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String token = header.replace("Bearer ", "");
-        if(jwtService.isValidToken(token)) {
-            String username = jwtService.extractUsername(token);
-            UserDetail userDetail = userService.loadUserByUsername(username);
-            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetail, null, userDetail.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        Optional<Claims> claims = jwtService.parseToken(token);
+        if(claims.isPresent()) {
+            UserDetail userDetail = jwtService.extractUserDetail(claims.get())
+                    .orElseGet(() -> userService.loadUserByUsername(claims.get().getSubject()));
+            if (!tokenRevocationRegistry.isRevoked(userDetail.getId(), claims.get().getIssuedAt().toInstant())) {
+                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetail, null, userDetail.getAuthorities());
+                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            }
         }
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private String extractToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if(header != null && header.startsWith("Bearer ")) {
+            return header.replace("Bearer ", "");
+        }
+        // Browsers cannot set headers on a WebSocket handshake, so the token may come as a query parameter there.
+        if(request.getRequestURI().startsWith(request.getContextPath() + WEB_SOCKET_PATH)) {
+            return request.getParameter(TOKEN_PARAMETER);
+        }
+        return null;
+    }
+}
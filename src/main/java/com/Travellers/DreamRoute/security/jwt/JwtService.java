@@ -1,59 +1,119 @@
 package com.Travellers.DreamRoute.security.jwt;
 
 import com.Travellers.DreamRoute.security.UserDetail;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 @Service
 public class JwtService {
+    public static final long JWT_EXPIRATION = 1800000L;
+    public static final String ID_CLAIM = "id";
+    public static final String ROLES_CLAIM = "roles";
+    public static final int MAX_VERIFIED_TOKENS = 10_000;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(JwtService::newSha256);
+
     private final String JWT_SECRET_KEY = "mySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong";
-    private final Long JWT_EXPIRATION = 1800000L;
+
+    private final SecretKey signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET_KEY));
+    private final JwtParser parser = Jwts.parser().verifyWith(signKey).build();
+    private final Cache<ByteBuffer, Claims> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(Expiry.creating((ByteBuffer digest, Claims claims) -> timeToExpiry(claims)))
+            .build();
 
     public String generateToken(UserDetail userDetail) {
         return buildToken(userDetail, JWT_EXPIRATION);
     }
 
     private String buildToken(UserDetail userDetail, long jwtExpiration) {
+        List<String> roles = userDetail.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
         return Jwts
                 .builder()
-                .claim("id", userDetail.getId())
-                .claim("role", userDetail.getAuthorities().toString())
+                .claim(ID_CLAIM, userDetail.getId())
+                .claim(ROLES_CLAIM, roles)
                 .subject(userDetail.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSignKey())
+                .signWith(signKey)
                 .compact();
     }
 
     public String extractUsername (String token) {
-        return extractAllClaims(token).getSubject();
+        return parseToken(token).map(Claims::getSubject).orElseThrow(() -> new JwtException("Invalid token"));
     }
 
     public boolean isValidToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    public Optional<Claims> parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        ByteBuffer digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (timeToExpiry(cached).isPositive()) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(digest);
+            return Optional.empty();
+        }
         try {
-            extractAllClaims(token);
-            return true;
-        } catch (Exception exception) {
-            return false;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(digest, claims);
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException exception) {
+            return Optional.empty();
         }
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Optional<UserDetail> extractUserDetail(Claims claims) {
+        Object id = claims.get(ID_CLAIM);
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(id instanceof Number userId) || !(roles instanceof List<?> roleNames) || claims.getSubject() == null) {
+            return Optional.empty();
+        }
+        List<String> roleNameStrings = roleNames.stream().map(String::valueOf).toList();
+        return Optional.of(UserDetail.fromClaims(userId.longValue(), claims.getSubject(), roleNameStrings));
+    }
+
+    private static Duration timeToExpiry(Claims claims) {
+        return Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis());
     }
 
-    private SecretKey getSignKey() {
-        byte[] bytes = Decoders.BASE64.decode(JWT_SECRET_KEY);
-        return Keys.hmacShaKeyFor(bytes);
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.Travellers.DreamRoute.security.jwt;
+
+import com.Travellers.DreamRoute.events.ReplicaResyncEvent;
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.models.ChangeLogEntry;
+import com.Travellers.DreamRoute.models.ChangeLogEntry.ChangeType;
+import com.Travellers.DreamRoute.models.ChangeLogEntry.EntityType;
+import com.Travellers.DreamRoute.repositories.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRegistry {
+    private static final Duration TOKEN_LIFETIME = Duration.ofMillis(JwtService.JWT_EXPIRATION);
+
+    private final ChangeLogRepository changeLogRepository;
+    private final Map<Long, Instant> revokedAtByUserId = new ConcurrentHashMap<>();
+
+    @EventListener({ApplicationReadyEvent.class, ReplicaResyncEvent.class})
+    public void reload() {
+        Instant now = Instant.now();
+        changeLogRepository.findByEntityTypeAndChangeTypeInAndCreatedAtAfter(
+                        EntityType.USER, List.of(ChangeType.REVOKED, ChangeType.DELETED), now.minus(TOKEN_LIFETIME))
+                .forEach(entry -> revoke(entry.getEntityId(), entry.getCreatedAt(), now));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.revokesTokens()) {
+            revoke(event.userId(), event.changedAt(), Instant.now());
+        }
+    }
+
+    public boolean isRevoked(Long userId, Instant issuedAt) {
+        Instant revokedAt = revokedAtByUserId.get(userId);
+        return revokedAt != null && !issuedAt.isAfter(revokedAt.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    void revoke(Long userId, Instant revokedAt, Instant now) {
+        revokedAtByUserId.merge(userId, revokedAt, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+        Instant expired = now.minus(TOKEN_LIFETIME);
+        revokedAtByUserId.values().removeIf(instant -> instant.isBefore(expired));
+    }
+}
@@ -0,0 +1,127 @@
+package com.Travellers.DreamRoute.security.password;
+
+import com.Travellers.DreamRoute.exceptions.ServiceBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+public class BoundedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    public static final Duration TARGET_HASH_LATENCY = Duration.ofMillis(250);
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 14;
+    public static final int QUEUE_CAPACITY = 32;
+    public static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int strength;
+    private final Duration waitTimeout;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedBCryptPasswordEncoder(int strength, int threads, int queueCapacity, Duration waitTimeout) {
+        super(strength);
+        this.strength = strength;
+        this.waitTimeout = waitTimeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Creates an encoder with the cost shared by every replica. This machine's own calibration is only reported, since
+     * replicas picking different costs would keep re-hashing the same passwords back and forth.
+     */
+    public static BoundedBCryptPasswordEncoder withStrength(int strength) {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        int calibrated = calibrateStrength(TARGET_HASH_LATENCY, MIN_STRENGTH, MAX_STRENGTH);
+        if (calibrated != strength) {
+            log.warn("BCrypt cost {} is configured, but this machine hashes in about {} at cost {}",
+                    strength, TARGET_HASH_LATENCY, calibrated);
+        }
+        log.info("Password hashing uses BCrypt cost {} on {} threads", strength, threads);
+        return new BoundedBCryptPasswordEncoder(strength, threads, QUEUE_CAPACITY, WAIT_TIMEOUT);
+    }
+
+    public static int calibrateStrength(Duration target, int minStrength, int maxStrength) {
+        BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(minStrength));
+        long start = System.nanoTime();
+        BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(minStrength));
+        long elapsed = Math.max(1, System.nanoTime() - start);
+
+        int strength = minStrength;
+        while (strength < maxStrength && elapsed * 2 <= target.toNanos()) {
+            elapsed *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> super.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    public int queuedOperations() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    <T> T run(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(hashing);
+        } catch (RejectedExecutionException exception) {
+            throw new ServiceBusyException("Too many password operations in progress, please retry shortly");
+        }
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            future.cancel(true);
+            throw new ServiceBusyException("Password operation timed out, please retry shortly");
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Password operation interrupted");
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class DestinationExportService {
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final DestinationRepository destinationRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public long exportDestinations(OutputStream output) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        ObjectWriter writer = objectMapper.writerFor(DestinationResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator(LINE_SEPARATOR);
+
+        Long exported = readOnlyTransaction.execute(status -> {
+            long rows = 0;
+            try (Stream<DestinationResponse> destinations = destinationRepository.streamAllResponses()) {
+                try (SequenceWriter sequence = writer.writeValues(output)) {
+                    Iterator<DestinationResponse> iterator = destinations.iterator();
+                    while (iterator.hasNext()) {
+                        sequence.write(iterator.next());
+                        rows++;
+                    }
+                }
+                if (rows > 0) {
+                    output.write('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return rows;
+        });
+        return exported == null ? 0 : exported;
+    }
+}
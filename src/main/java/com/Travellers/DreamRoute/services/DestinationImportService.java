@@ -0,0 +1,170 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.dtos.destination.BulkDestinationResponse;
+import com.Travellers.DreamRoute.dtos.destination.BulkDestinationResult;
+import com.Travellers.DreamRoute.dtos.destination.DestinationMapperImpl;
+import com.Travellers.DreamRoute.dtos.destination.DestinationRequest;
+import com.Travellers.DreamRoute.events.DestinationsCreatedEvent;
+import com.Travellers.DreamRoute.indexes.geo.Gazetteer;
+import com.Travellers.DreamRoute.models.Destination;
+import com.Travellers.DreamRoute.models.User;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.Travellers.DreamRoute.repositories.UserRepository;
+import com.Travellers.DreamRoute.security.UserDetail;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class DestinationImportService {
+    private final DestinationRepository destinationRepository;
+    private final DestinationMapperImpl destinationMapperImpl;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Gazetteer gazetteer;
+    private final int batchSize;
+    private final int maxItems;
+
+    public DestinationImportService(DestinationRepository destinationRepository, DestinationMapperImpl destinationMapperImpl,
+                                    UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+                                    ObjectMapper objectMapper, Validator validator, TransactionTemplate transactionTemplate,
+                                    EntityManager entityManager, Gazetteer gazetteer,
+                                    @Value("${destinations.bulk.batch-size:500}") int batchSize,
+                                    @Value("${destinations.bulk.max-items:100000}") int maxItems) {
+        if (batchSize < 1 || maxItems < 1) {
+            throw new IllegalArgumentException("Bulk batch size and item limit must be positive");
+        }
+        this.destinationRepository = destinationRepository;
+        this.destinationMapperImpl = destinationMapperImpl;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.gazetteer = gazetteer;
+        this.batchSize = batchSize;
+        this.maxItems = maxItems;
+    }
+
+    private record PendingItem(int index, Destination destination) {
+    }
+
+    public BulkDestinationResponse importDestinations(InputStream body, UserDetail userDetails) {
+        if (userDetails == null || userDetails.getUsername() == null) {
+            throw new IllegalArgumentException("User information is missing or invalid");
+        }
+        User user = userRepository.findByUsernameIgnoreCase(userDetails.getUsername())
+                .orElseThrow(() -> new NoSuchElementException("User not found"));
+
+        List<BulkDestinationResult> results = new ArrayList<>();
+        List<PendingItem> pending = new ArrayList<>(batchSize);
+        BulkDestinationResult parseFailure = null;
+        int index = 0;
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+            while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                if (index == maxItems) {
+                    parseFailure = BulkDestinationResult.failed(index, "Bulk requests are limited to " + maxItems + " items");
+                    break;
+                }
+                JsonNode item = parser.readValueAsTree();
+                BulkDestinationResult rejection = prepare(index, item, user, pending);
+                if (rejection != null) {
+                    results.add(rejection);
+                }
+                index++;
+                if (pending.size() == batchSize) {
+                    persist(pending, user, results);
+                }
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            parseFailure = BulkDestinationResult.failed(index, "Malformed JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        persist(pending, user, results);
+        if (parseFailure != null) {
+            results.add(parseFailure);
+        }
+        results.sort(Comparator.comparingInt(BulkDestinationResult::index));
+
+        int created = (int) results.stream().filter(result -> result.status() == BulkDestinationResult.Status.CREATED).count();
+        return new BulkDestinationResponse(created, results.size() - created, results);
+    }
+
+    private BulkDestinationResult prepare(int index, JsonNode item, User user, List<PendingItem> pending) {
+        DestinationRequest request;
+        try {
+            request = objectMapper.treeToValue(item, DestinationRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return BulkDestinationResult.invalid(index, Map.of("item", "Must be a destination object"));
+        }
+        if (request == null) {
+            return BulkDestinationResult.invalid(index, Map.of("item", "Must be a destination object"));
+        }
+        Set<ConstraintViolation<DestinationRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            Map<String, String> errors = new LinkedHashMap<>();
+            violations.forEach(violation -> errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage()));
+            return BulkDestinationResult.invalid(index, errors);
+        }
+        pending.add(new PendingItem(index, destinationMapperImpl.dtoToEntity(
+                DestinationService.withCoordinates(request, gazetteer), user)));
+        return null;
+    }
+
+    private void persist(List<PendingItem> pending, User user, List<BulkDestinationResult> results) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                destinationRepository.saveAll(pending.stream().map(PendingItem::destination).toList());
+                eventPublisher.publishEvent(DestinationsCreatedEvent.of(pending.stream()
+                        .map(item -> destinationMapperImpl.entityToDto(item.destination()))
+                        .toList(), user.getId()));
+            });
+            pending.forEach(item -> results.add(BulkDestinationResult.created(item.index(), item.destination().getId())));
+        } catch (DataAccessException e) {
+            log.warn("Bulk destination batch of {} items failed: {}", pending.size(), e.getMessage());
+            pending.forEach(item -> results.add(BulkDestinationResult.failed(item.index(), "Could not be saved")));
+        } finally {
+            // With open-in-view every chunk shares the request's persistence context; detach what it saved so later
+            // flushes don't dirty-check the whole import.
+            entityManager.clear();
+        }
+        pending.clear();
+    }
+}
@@ -0,0 +1,124 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationClusterResponse;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.dtos.destination.NearbyDestinationResponse;
+import com.Travellers.DreamRoute.indexes.autocomplete.AutocompleteField;
+import com.Travellers.DreamRoute.indexes.autocomplete.DestinationAutocompleteIndex;
+import com.Travellers.DreamRoute.indexes.geo.DestinationClusterIndex;
+import com.Travellers.DreamRoute.indexes.geo.DestinationGeoIndex;
+import com.Travellers.DreamRoute.indexes.geo.GeoHit;
+import com.Travellers.DreamRoute.indexes.search.DestinationSearchIndex;
+import com.Travellers.DreamRoute.indexes.search.SearchHit;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class DestinationSearchService {
+    public static final int MAX_SEARCH_LIMIT = 50;
+
+    public static final int MAX_AUTOCOMPLETE_LIMIT = DestinationAutocompleteIndex.TOP_K;
+
+    public static final int MAX_NEARBY_LIMIT = 50;
+
+    public static final int MAX_CLUSTER_QUERY_ZOOM = 22;
+
+    private final DestinationSearchIndex destinationSearchIndex;
+    private final DestinationAutocompleteIndex destinationAutocompleteIndex;
+    private final DestinationGeoIndex destinationGeoIndex;
+    private final DestinationClusterIndex destinationClusterIndex;
+    private final DestinationRepository destinationRepository;
+
+    public List<DestinationResponse> searchDestinations(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+
+        List<SearchHit> hits = destinationSearchIndex.search(query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = hits.stream().map(SearchHit::destinationId).toList();
+        Map<Long, DestinationResponse> destinationsById = findResponsesById(ids);
+        return ids.stream()
+                .map(destinationsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public List<String> autocomplete(String prefix, String field, int limit) {
+        AutocompleteField autocompleteField = AutocompleteField.from(field);
+        if (limit < 1 || limit > MAX_AUTOCOMPLETE_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_AUTOCOMPLETE_LIMIT);
+        }
+        return destinationAutocompleteIndex.complete(autocompleteField, prefix == null ? "" : prefix, limit);
+    }
+
+    public List<NearbyDestinationResponse> nearbyDestinations(double latitude, double longitude, int limit) {
+        if (!(latitude >= -90 && latitude <= 90)) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90");
+        }
+        if (!(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180");
+        }
+        if (limit < 1 || limit > MAX_NEARBY_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_NEARBY_LIMIT);
+        }
+
+        List<GeoHit> hits = destinationGeoIndex.nearest(latitude, longitude, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, DestinationResponse> destinationsById = findResponsesById(hits.stream().map(GeoHit::destinationId).toList());
+        return hits.stream()
+                .filter(hit -> destinationsById.containsKey(hit.destinationId()))
+                .map(hit -> new NearbyDestinationResponse(destinationsById.get(hit.destinationId()), hit.distanceKm()))
+                .toList();
+    }
+
+    public List<DestinationClusterResponse> clusters(String bbox, int zoom) {
+        if (zoom < 0 || zoom > MAX_CLUSTER_QUERY_ZOOM) {
+            throw new IllegalArgumentException("Zoom must be between 0 and " + MAX_CLUSTER_QUERY_ZOOM);
+        }
+        double[] bounds = parseBoundingBox(bbox);
+        return destinationClusterIndex.clusters(bounds[0], bounds[1], bounds[2], bounds[3], zoom);
+    }
+
+    private double[] parseBoundingBox(String bbox) {
+        String[] parts = bbox == null ? new String[0] : bbox.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Bounding box must be west,south,east,north");
+        }
+        double[] bounds = new double[4];
+        try {
+            for (int i = 0; i < 4; i++) {
+                bounds[i] = Double.parseDouble(parts[i].trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bounding box must be west,south,east,north");
+        }
+        boolean longitudesValid = bounds[0] >= -180 && bounds[0] <= 180 && bounds[2] >= -180 && bounds[2] <= 180;
+        boolean latitudesValid = bounds[1] >= -90 && bounds[3] <= 90 && bounds[1] <= bounds[3];
+        if (!longitudesValid || !latitudesValid) {
+            throw new IllegalArgumentException("Bounding box is outside the valid coordinate range");
+        }
+        return bounds;
+    }
+
+    private Map<Long, DestinationResponse> findResponsesById(List<Long> ids) {
+        return destinationRepository.findAllResponsesByIdIn(ids).stream()
+                .collect(Collectors.toMap(DestinationResponse::id, Function.identity()));
+    }
+}
@@ -1,30 +1,44 @@
 package com.Travellers.DreamRoute.services;
 
+import com.Travellers.DreamRoute.caches.DestinationCache;
+import com.Travellers.DreamRoute.dtos.destination.DestinationFeedCursor;
+import com.Travellers.DreamRoute.dtos.destination.DestinationFeedEntry;
+import com.Travellers.DreamRoute.dtos.destination.DestinationFeedPage;
 import com.Travellers.DreamRoute.dtos.destination.DestinationMapperImpl;
 import com.Travellers.DreamRoute.dtos.destination.DestinationRequest;
 import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
 import com.Travellers.DreamRoute.exceptions.EntityNotFoundException;
+import com.Travellers.DreamRoute.indexes.geo.Gazetteer;
 import com.Travellers.DreamRoute.models.Destination;
 import com.Travellers.DreamRoute.models.User;
+import com.Travellers.DreamRoute.repositories.ChangeCounterRepository;
 import com.Travellers.DreamRoute.repositories.DestinationRepository;
 import com.Travellers.DreamRoute.repositories.UserRepository;
 import com.Travellers.DreamRoute.security.UserDetail;
+import com.Travellers.DreamRoute.sync.DestinationChangeSequencer;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.security.access.AccessDeniedException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
 @Service
 @RequiredArgsConstructor
 public class DestinationService {
+    public static final int MAX_FEED_LIMIT = 100;
+
     private final DestinationRepository destinationRepository;
     private final DestinationMapperImpl destinationMapperImpl;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DestinationCache destinationCache;
+    private final Gazetteer gazetteer;
+    private final ChangeCounterRepository changeCounterRepository;
 
     private void validateUser(UserDetail userDetails) {
         if (userDetails == null || userDetails.getUsername() == null) {
@@ -41,51 +55,78 @@ public class DestinationService {
         }
     }
 
-    public List<DestinationResponse> getAllDestinations() {
-        List<Destination> destinations = destinationRepository.findAll();
-        return destinations.stream()
-                .map(destination -> destinationMapperImpl.entityToDto(destination))
-                .toList();
+    private DestinationRequest withCoordinates(DestinationRequest request) {
+        return withCoordinates(request, gazetteer);
     }
 
-    public List<DestinationResponse> getDestinationsStartingWithCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    /**
+     * Fills in coordinates the client left out from the gazetteer. Shared by every path that creates or updates a
+     * destination, so imported destinations are placed on the map like the ones created one by one.
+     */
+    static DestinationRequest withCoordinates(DestinationRequest request, Gazetteer gazetteer) {
+        if (request.latitude() != null && request.longitude() != null) {
+            return request;
+        }
+        return gazetteer.locate(request.city(), request.country())
+                .map(point -> new DestinationRequest(request.country(), request.city(), request.description(),
+                        request.image(), point.latitude(), point.longitude()))
+                .orElse(request);
+    }
+
+    public List<DestinationResponse> getAllDestinations() {
+        return destinationRepository.findAllResponses();
+    }
 
-        if (authentication == null || !authentication.isAuthenticated() || !(authentication.getPrincipal() instanceof UserDetail)) {
-            return getAllDestinations();
+    public DestinationFeedPage getDestinationFeed(String after, int limit) {
+        if (limit < 1 || limit > MAX_FEED_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_FEED_LIMIT);
         }
+        DestinationFeedCursor cursor = DestinationFeedCursor.decode(after);
+        Long currentUserId = getCurrentUserId();
 
-        UserDetail currentUserDetail = (UserDetail) authentication.getPrincipal();
-        Long currentUserId = currentUserDetail.getId();
+        List<DestinationFeedEntry> rows = destinationRepository.findFeedPage(
+                currentUserId, cursor.owned(), cursor.ownedAfterId(), cursor.othersAfterId(), limit + 1);
 
-        List<DestinationResponse> userOwnedDestinations = getDestinationsByUserId(currentUserId);
+        boolean hasMore = rows.size() > limit;
+        List<DestinationFeedEntry> page = hasMore ? rows.subList(0, limit) : rows;
 
-        List<Destination> allDestinationEntities = destinationRepository.findAll();
+        String nextCursor = null;
+        if (hasMore) {
+            DestinationFeedEntry last = page.get(page.size() - 1);
+            nextCursor = new DestinationFeedCursor(last.owned(), last.destination().id()).encode();
+        }
 
-        List<DestinationResponse> otherUsersDestinations = allDestinationEntities.stream()
-                .filter(destination -> !destination.getUser().getId().equals(currentUserId))
-                .map(destination -> destinationMapperImpl.entityToDto(destination))
+        List<DestinationResponse> items = page.stream()
+                .map(DestinationFeedEntry::destination)
                 .toList();
+        return new DestinationFeedPage(items, nextCursor);
+    }
 
-        List<DestinationResponse> finalOrderedList = new ArrayList<>();
-        finalOrderedList.addAll(userOwnedDestinations);
-        finalOrderedList.addAll(otherUsersDestinations);
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || !(authentication.getPrincipal() instanceof UserDetail currentUserDetail)) {
+            return null;
+        }
+        return currentUserDetail.getId();
+    }
 
-        return finalOrderedList;
+    public long getCatalogVersion() {
+        return destinationCache.getCatalogVersion(() -> changeCounterRepository
+                .findValueByName(DestinationChangeSequencer.CHANGE_COUNTER)
+                .orElse(0L));
     }
 
     public DestinationResponse getDestinationById(Long id) {
-        Destination destination = destinationRepository.findById(id)
+        return destinationCache.getDestination(id, destinationRepository::findResponseById)
                 .orElseThrow(()-> new EntityNotFoundException(Destination.class.getSimpleName(), id));
-        return destinationMapperImpl.entityToDto(destination);
     }
 
     public List<DestinationResponse> getDestinationsByUserId(Long id) {
-        User user = userRepository.findById(id).orElseThrow(() -> new NoSuchElementException("User not found with id " + id));
-        List<Destination> destinations = destinationRepository.findAllByUser(user);
-        return destinations.stream()
-                .map(destination -> destinationMapperImpl.entityToDto(destination))
-                .toList();
+        List<DestinationResponse> destinations = destinationCache.getUserDestinations(id, destinationRepository::findAllResponsesByUserId);
+        if (destinations.isEmpty() && !userRepository.existsById(id)) {
+            throw new NoSuchElementException("User not found with id " + id);
+        }
+        return destinations;
     }
 
     @Transactional
@@ -95,10 +136,12 @@ public class DestinationService {
         User user = userRepository.findByUsernameIgnoreCase(userDetails.getUsername())
                 .orElseThrow(() -> new NoSuchElementException("User not found"));
 
-        Destination destination = destinationMapperImpl.dtoToEntity(request, user);
+        Destination destination = destinationMapperImpl.dtoToEntity(withCoordinates(request), user);
         destinationRepository.save(destination);
 
-        return destinationMapperImpl.entityToDto(destination);
+        DestinationResponse response = destinationMapperImpl.entityToDto(destination);
+        eventPublisher.publishEvent(DestinationChangedEvent.created(response, user.getId()));
+        return response;
     }
 
     @Transactional
@@ -108,15 +151,20 @@ public class DestinationService {
                 .orElseThrow(() -> new EntityNotFoundException(Destination.class.getSimpleName(), id));
 
         checkOwnership(destinationToUpdate, userDetails);
+        DestinationRequest locatedRequest = withCoordinates(destinationRequest);
 
         destinationToUpdate.setCountry(destinationRequest.country());
         destinationToUpdate.setCity(destinationRequest.city());
         destinationToUpdate.setDescription(destinationRequest.description());
         destinationToUpdate.setImage(destinationRequest.image());
+        destinationToUpdate.setLatitude(locatedRequest.latitude());
+        destinationToUpdate.setLongitude(locatedRequest.longitude());
 
         Destination updatedDestination = destinationRepository.save(destinationToUpdate);
 
-        return destinationMapperImpl.entityToDto(updatedDestination);
+        DestinationResponse response = destinationMapperImpl.entityToDto(updatedDestination);
+        eventPublisher.publishEvent(DestinationChangedEvent.updated(response, destinationToUpdate.getUser().getId()));
+        return response;
     }
 
     @Transactional
@@ -128,6 +176,7 @@ public class DestinationService {
         checkOwnership(destinationToDelete, userDetails);
 
         destinationRepository.delete(destinationToDelete);
+        eventPublisher.publishEvent(DestinationChangedEvent.deleted(id, destinationToDelete.getUser().getId()));
         return "Destination with id " + id + " has been deleted";
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationDelta;
+import com.Travellers.DreamRoute.dtos.destination.DestinationDeltaEntry;
+import com.Travellers.DreamRoute.dtos.destination.DestinationDeltaToken;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.repositories.ChangeCounterRepository;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.Travellers.DreamRoute.sync.DestinationChangeSequencer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class DestinationSyncService {
+    public static final int MAX_LIMIT = 1000;
+
+    private final DestinationRepository destinationRepository;
+    private final ChangeCounterRepository changeCounterRepository;
+
+    @Transactional(readOnly = true)
+    public DestinationDelta getChangesSince(String since, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        DestinationDeltaToken token = DestinationDeltaToken.decode(since);
+        long prunedThrough = changeCounterRepository.findValueByName(DestinationChangeSequencer.PRUNED_COUNTER).orElse(0L);
+        boolean reset = !token.isStart() && prunedThrough > 0 && token.changeSeq() <= prunedThrough;
+        if (reset) {
+            token = DestinationDeltaToken.START;
+        }
+
+        List<DestinationDeltaEntry> rows = destinationRepository.findDeltaPage(
+                token.changeSeq(), token.lastId(), !token.isStart(), limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<DestinationDeltaEntry> page = hasMore ? rows.subList(0, limit) : rows;
+
+        List<DestinationResponse> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        for (DestinationDeltaEntry entry : page) {
+            if (entry.deleted()) {
+                deleted.add(entry.destinationId());
+            } else {
+                changed.add(entry.destination());
+            }
+        }
+        if (!page.isEmpty()) {
+            DestinationDeltaEntry last = page.get(page.size() - 1);
+            token = new DestinationDeltaToken(last.changeSeq(), last.destinationId());
+        }
+        return new DestinationDelta(changed, deleted, token.encode(), hasMore, reset);
+    }
+}
@@ -0,0 +1,60 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.dtos.route.RouteResponse;
+import com.Travellers.DreamRoute.routing.RouteOptimizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class RouteService {
+    private final DestinationService destinationService;
+    private final RouteOptimizer routeOptimizer;
+
+    public RouteResponse planRoute(Long userId) {
+        return plan(destinationService.getDestinationsByUserId(userId));
+    }
+
+    public RouteResponse planRoute(Long userId, List<Long> destinationIds) {
+        Set<Long> requested = new LinkedHashSet<>(destinationIds);
+        List<DestinationResponse> selected = destinationService.getDestinationsByUserId(userId).stream()
+                .filter(destination -> requested.contains(destination.id()))
+                .toList();
+        if (selected.size() != requested.size()) {
+            selected.forEach(destination -> requested.remove(destination.id()));
+            throw new IllegalArgumentException("Destinations not found for user " + userId + ": " + requested);
+        }
+        return plan(selected);
+    }
+
+    private RouteResponse plan(List<DestinationResponse> destinations) {
+        List<DestinationResponse> located = new ArrayList<>(destinations.size());
+        List<Long> unlocated = new ArrayList<>();
+        for (DestinationResponse destination : destinations) {
+            if (destination.latitude() != null && destination.longitude() != null) {
+                located.add(destination);
+            } else {
+                unlocated.add(destination.id());
+            }
+        }
+
+        double[] latitudes = new double[located.size()];
+        double[] longitudes = new double[located.size()];
+        for (int i = 0; i < located.size(); i++) {
+            latitudes[i] = located.get(i).latitude();
+            longitudes[i] = located.get(i).longitude();
+        }
+
+        RouteOptimizer.Route route = routeOptimizer.optimize(latitudes, longitudes);
+        List<DestinationResponse> stops = new ArrayList<>(route.order().length);
+        for (int stop : route.order()) {
+            stops.add(located.get(stop));
+        }
+        return new RouteResponse(stops, route.distanceKm(), unlocated);
+    }
+}
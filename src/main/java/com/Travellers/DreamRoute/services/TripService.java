@@ -0,0 +1,287 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.collaboration.HybridClock;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.dtos.trip.MoveStopRequest;
+import com.Travellers.DreamRoute.dtos.trip.TripRequest;
+import com.Travellers.DreamRoute.dtos.trip.TripResponse;
+import com.Travellers.DreamRoute.dtos.trip.TripStopRequest;
+import com.Travellers.DreamRoute.dtos.trip.TripStopResponse;
+import com.Travellers.DreamRoute.dtos.trip.TripSummary;
+import com.Travellers.DreamRoute.events.TripChangedEvent;
+import com.Travellers.DreamRoute.exceptions.EntityNotFoundException;
+import com.Travellers.DreamRoute.invalidation.ReplicaIdentity;
+import com.Travellers.DreamRoute.models.Trip;
+import com.Travellers.DreamRoute.models.TripStop;
+import com.Travellers.DreamRoute.ordering.RankKeys;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.Travellers.DreamRoute.repositories.TripRepository;
+import com.Travellers.DreamRoute.repositories.TripStopRepository;
+import com.Travellers.DreamRoute.repositories.UserRepository;
+import com.Travellers.DreamRoute.security.UserDetail;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TripService {
+    private static final Long NO_STOP = 0L;
+
+    private final TripRepository tripRepository;
+    private final TripStopRepository tripStopRepository;
+    private final DestinationRepository destinationRepository;
+    private final UserRepository userRepository;
+    private final DestinationService destinationService;
+    private final HybridClock hybridClock;
+    private final ReplicaIdentity replicaIdentity;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private void validateUser(UserDetail userDetails) {
+        if (userDetails == null || userDetails.getUsername() == null) {
+            throw new IllegalArgumentException("User information is missing or invalid");
+        }
+    }
+
+    private void checkOwnership(Trip trip, UserDetail userDetails) {
+        if (userDetails.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
+            return;
+        }
+        if (!trip.getUser().getId().equals(userDetails.getId())) {
+            throw new AccessDeniedException("You are not authorized to perform this action on this trip.");
+        }
+    }
+
+    private void checkEditAccess(Trip trip, UserDetail userDetails) {
+        if (!trip.getCollaboratorIds().contains(userDetails.getId())) {
+            checkOwnership(trip, userDetails);
+        }
+    }
+
+    public TripResponse getTrip(Long id) {
+        TripSummary trip = tripRepository.findSummaryById(id)
+                .orElseThrow(() -> new EntityNotFoundException(Trip.class.getSimpleName(), id));
+        return new TripResponse(trip.id(), trip.name(), trip.username(), tripStopRepository.findAllResponsesByTripId(id));
+    }
+
+    public List<TripSummary> getTripsByUserId(Long userId) {
+        List<TripSummary> trips = tripRepository.findAllSummariesByUserId(userId);
+        if (trips.isEmpty() && !userRepository.existsById(userId)) {
+            throw new NoSuchElementException("User not found with id " + userId);
+        }
+        return trips;
+    }
+
+    @Transactional
+    public TripResponse createTrip(TripRequest request, UserDetail userDetails) {
+        validateUser(userDetails);
+        List<Long> destinationIds = request.destinationIds() == null ? List.of() : request.destinationIds();
+        Map<Long, DestinationResponse> destinations = ownedDestinations(userDetails.getId(), destinationIds);
+
+        Trip trip = tripRepository.save(Trip.builder()
+                .name(request.name())
+                .user(userRepository.getReferenceById(userDetails.getId()))
+                .build());
+
+        List<String> ranks = RankKeys.between(null, null, destinationIds.size());
+        List<TripStop> stops = new ArrayList<>(destinationIds.size());
+        for (int i = 0; i < destinationIds.size(); i++) {
+            stops.add(newStop(trip, destinationIds.get(i), ranks.get(i)));
+        }
+        tripStopRepository.saveAll(stops);
+
+        List<TripStopResponse> stopResponses = new ArrayList<>(stops.size());
+        for (TripStop stop : stops) {
+            stopResponses.add(new TripStopResponse(stop.getId(), stop.getElementId(), stop.getRank(),
+                    destinations.get(stop.getDestination().getId())));
+        }
+        eventPublisher.publishEvent(TripChangedEvent.changed(trip.getId(), userDetails.getId()));
+        return new TripResponse(trip.getId(), trip.getName(), userDetails.getUsername(), stopResponses);
+    }
+
+    @Transactional
+    public String deleteTrip(Long id, UserDetail userDetails) {
+        Trip trip = lockTrip(id, userDetails);
+        checkOwnership(trip, userDetails);
+        tripRepository.delete(trip);
+        eventPublisher.publishEvent(TripChangedEvent.changed(id, trip.getUser().getId()));
+        return "Trip with id " + id + " has been deleted";
+    }
+
+    @Transactional
+    public TripStopResponse addStop(Long tripId, TripStopRequest request, UserDetail userDetails) {
+        Trip trip = lockEditableTrip(tripId, userDetails);
+        DestinationResponse destination = ownedDestinations(trip.getUser().getId(), List.of(request.destinationId()))
+                .get(request.destinationId());
+
+        TripStop stop = tripStopRepository.save(newStop(trip, destination.id(),
+                rankBetween(tripId, request.afterStopId(), request.beforeStopId(), NO_STOP)));
+        eventPublisher.publishEvent(TripChangedEvent.changed(tripId, trip.getUser().getId()));
+        return new TripStopResponse(stop.getId(), stop.getElementId(), stop.getRank(), destination);
+    }
+
+    @Transactional
+    public TripStopResponse moveStop(Long tripId, Long stopId, MoveStopRequest request, UserDetail userDetails) {
+        Trip trip = lockEditableTrip(tripId, userDetails);
+        TripStop stop = findStop(tripId, stopId);
+        if (stopId.equals(request.afterStopId()) || stopId.equals(request.beforeStopId())) {
+            throw new IllegalArgumentException("A stop cannot be moved next to itself");
+        }
+
+        String rank = rankBetween(tripId, request.afterStopId(), request.beforeStopId(), stopId);
+        writeIfNewer(tripId, stop, rank, false);
+        eventPublisher.publishEvent(TripChangedEvent.changed(tripId, trip.getUser().getId()));
+        return new TripStopResponse(stop.getId(), stop.getElementId(), rank,
+                destinationService.getDestinationById(stop.getDestination().getId()));
+    }
+
+    @Transactional
+    public String removeStop(Long tripId, Long stopId, UserDetail userDetails) {
+        Trip trip = lockEditableTrip(tripId, userDetails);
+        TripStop stop = findStop(tripId, stopId);
+        writeIfNewer(tripId, stop, stop.getRank(), true);
+        eventPublisher.publishEvent(TripChangedEvent.changed(tripId, trip.getUser().getId()));
+        return "Stop with id " + stopId + " has been removed from trip " + tripId;
+    }
+
+    @Transactional
+    public Long getEditableTripOwnerId(Long tripId, UserDetail userDetails) {
+        validateUser(userDetails);
+        Trip trip = tripRepository.findById(tripId)
+                .orElseThrow(() -> new EntityNotFoundException(Trip.class.getSimpleName(), tripId));
+        checkEditAccess(trip, userDetails);
+        return trip.getUser().getId();
+    }
+
+    @Transactional
+    public String addCollaborator(Long tripId, Long userId, UserDetail userDetails) {
+        Trip trip = lockTrip(tripId, userDetails);
+        checkOwnership(trip, userDetails);
+        if (!userRepository.existsById(userId)) {
+            throw new NoSuchElementException("User not found with id " + userId);
+        }
+        if (trip.getUser().getId().equals(userId)) {
+            throw new IllegalArgumentException("The owner of a trip cannot be added as a collaborator");
+        }
+        trip.getCollaboratorIds().add(userId);
+        return "User with id " + userId + " can now edit trip " + tripId;
+    }
+
+    @Transactional
+    public String removeCollaborator(Long tripId, Long userId, UserDetail userDetails) {
+        Trip trip = lockTrip(tripId, userDetails);
+        checkOwnership(trip, userDetails);
+        if (!trip.getCollaboratorIds().remove(userId)) {
+            throw new NoSuchElementException("User " + userId + " is not a collaborator on trip " + tripId);
+        }
+        eventPublisher.publishEvent(TripChangedEvent.changed(tripId, trip.getUser().getId()));
+        return "User with id " + userId + " can no longer edit trip " + tripId;
+    }
+
+    private Trip lockTrip(Long id, UserDetail userDetails) {
+        validateUser(userDetails);
+        return tripRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException(Trip.class.getSimpleName(), id));
+    }
+
+    private Trip lockEditableTrip(Long id, UserDetail userDetails) {
+        Trip trip = lockTrip(id, userDetails);
+        checkEditAccess(trip, userDetails);
+        return trip;
+    }
+
+    private TripStop newStop(Trip trip, Long destinationId, String rank) {
+        TripStop stop = TripStop.builder()
+                .elementId(UUID.randomUUID().toString())
+                .trip(trip)
+                .destination(destinationRepository.getReferenceById(destinationId))
+                .rank(rank)
+                .build();
+        stamp(stop);
+        return stop;
+    }
+
+    /**
+     * Writes an edit the way live sessions do, so it only replaces the stored stop if its clock is newer. The trip row
+     * is locked by both paths, and the clock first moves past the stored one, so the edit normally wins.
+     */
+    private void writeIfNewer(Long tripId, TripStop stop, String rank, boolean removed) {
+        hybridClock.observe(stop.getClock());
+        tripStopRepository.updateIfNewer(tripId, stop.getElementId(), rank, removed, hybridClock.next(), replicaIdentity.getId());
+    }
+
+    private void stamp(TripStop stop) {
+        stop.setClock(hybridClock.next());
+        stop.setSite(replicaIdentity.getId());
+    }
+
+    private TripStop findStop(Long tripId, Long stopId) {
+        return tripStopRepository.findLiveByIdAndTripId(stopId, tripId)
+                .orElseThrow(() -> new EntityNotFoundException(TripStop.class.getSimpleName(), stopId));
+    }
+
+    private Map<Long, DestinationResponse> ownedDestinations(Long userId, List<Long> destinationIds) {
+        Map<Long, DestinationResponse> destinations = new HashMap<>();
+        if (destinationIds.isEmpty()) {
+            return destinations;
+        }
+        Set<Long> requested = new LinkedHashSet<>(destinationIds);
+        for (DestinationResponse destination : destinationService.getDestinationsByUserId(userId)) {
+            if (requested.remove(destination.id())) {
+                destinations.put(destination.id(), destination);
+            }
+        }
+        if (!requested.isEmpty()) {
+            throw new IllegalArgumentException("Destinations not found for user " + userId + ": " + requested);
+        }
+        return destinations;
+    }
+
+    private String rankBetween(Long tripId, Long afterStopId, Long beforeStopId, Long movingStopId) {
+        String after = afterStopId == null ? null : findStop(tripId, afterStopId).getRank();
+        String before = beforeStopId == null ? null : findStop(tripId, beforeStopId).getRank();
+        if (afterStopId != null && beforeStopId == null) {
+            before = firstRank(tripStopRepository.findNext(tripId, after, movingStopId, Limit.of(1)));
+        } else if (afterStopId == null && beforeStopId != null) {
+            after = firstRank(tripStopRepository.findPrevious(tripId, before, movingStopId, Limit.of(1)));
+        } else if (afterStopId == null) {
+            after = firstRank(tripStopRepository.findLast(tripId, movingStopId, Limit.of(1)));
+        }
+        if (after != null && before != null && after.compareTo(before) >= 0) {
+            throw new IllegalArgumentException("Stop " + afterStopId + " does not come before stop " + beforeStopId);
+        }
+
+        String rank = RankKeys.between(after, before);
+        if (rank.length() > RankKeys.MAX_LENGTH) {
+            rebalance(tripId);
+            return rankBetween(tripId, afterStopId, beforeStopId, movingStopId);
+        }
+        return rank;
+    }
+
+    private static String firstRank(List<TripStop> stops) {
+        return stops.isEmpty() ? null : stops.get(0).getRank();
+    }
+
+    private void rebalance(Long tripId) {
+        List<TripStop> stops = tripStopRepository.findAllLiveByTripId(tripId);
+        stops.forEach(stop -> hybridClock.observe(stop.getClock()));
+        List<String> ranks = RankKeys.between(null, null, stops.size());
+        for (int i = 0; i < stops.size(); i++) {
+            stops.get(i).setRank(ranks.get(i));
+            stamp(stops.get(i));
+        }
+        tripStopRepository.saveAllAndFlush(stops);
+    }
+}
@@ -1,19 +1,27 @@
 package com.Travellers.DreamRoute.services;
 
+import com.Travellers.DreamRoute.caches.RoleRegistry;
 import com.Travellers.DreamRoute.dtos.user.UserMapperImpl;
 import com.Travellers.DreamRoute.dtos.user.UserRequest;
 import com.Travellers.DreamRoute.dtos.user.UserResponse;
 import com.Travellers.DreamRoute.dtos.user.UserUpdateRequest;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.events.UserRenamedEvent;
 import com.Travellers.DreamRoute.exceptions.EntityNotFoundException;
+import com.Travellers.DreamRoute.exceptions.UniqueConstraintMessages;
 import com.Travellers.DreamRoute.models.Destination;
 import com.Travellers.DreamRoute.models.Role;
 import com.Travellers.DreamRoute.models.User;
-import com.Travellers.DreamRoute.repositories.RoleRepository;
 import com.Travellers.DreamRoute.repositories.UserRepository;
 import com.Travellers.DreamRoute.security.UserDetail;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -22,11 +30,14 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+
     private final UserRepository userRepository;
     private final UserMapperImpl userMapperImpl;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserResponse getUserByUsername(String username){
         User user = userRepository.findByUsernameIgnoreCase(username)
@@ -40,6 +51,7 @@ public class UserService implements UserDetailsService {
         return userMapperImpl.entityToDto(user);
     }
 
+    @Transactional
     public List<UserResponse> getAllUsers() {
         List<User> users = userRepository.findAll();
         return users.stream()
@@ -49,25 +61,12 @@ public class UserService implements UserDetailsService {
 
     @Transactional
     public UserResponse addUser(UserRequest userRequest) {
-        Optional<User> user = userRepository.findByUsernameIgnoreCase(userRequest.username());
-        if (user.isPresent()){
-            throw new RuntimeException("User already exists with username: " + userRequest.username());
-        }
-        Optional<User> email = userRepository.findByEmailIgnoreCase((userRequest.email()));
-        if (email.isPresent()){
-            throw new RuntimeException("Email is already registered: " + userRequest.email());
-        }
-        List<Destination> initialListOfDestinations = new ArrayList<>();
-        Role userRole = roleRepository.findByRoleNameIgnoreCase("ROLE_USER")
+        Role userRole = roleRegistry.findByName(DEFAULT_ROLE)
                 .orElseThrow(()->new EntityNotFoundException("Role", "USER"));
-        List<Role> roles = new ArrayList<>();
-        roles.add(userRole);
-        User newUser = userMapperImpl.dtoToEntity(userRequest, initialListOfDestinations, roles);
-        newUser.setPassword(passwordEncoder.encode(userRequest.password()));
-        User savedUser = userRepository.save(newUser);
-        return userMapperImpl.entityToDto(savedUser);
+        return createUser(userRequest, userRole);
     }
 
+    @Transactional
     public UserResponse updateUser(Long id, UserUpdateRequest userRequest, UserDetail userDetail){
         User user = userRepository.findById(id)
                 .orElseThrow(()-> new EntityNotFoundException(User.class.getSimpleName(), id));
@@ -80,12 +79,15 @@ public class UserService implements UserDetailsService {
             throw new AccessDeniedException("You don't have permission to update this user");
         }
 
+        String previousUsername = user.getUsername();
+        boolean credentialsChanged = false;
         if (userRequest.username() != null && !userRequest.username().isBlank()) {
             if (!userRequest.username().equals(user.getUsername())) {
                 if (userRepository.findByUsernameIgnoreCase(userRequest.username()).isPresent()) {
                     throw new IllegalArgumentException("Username already taken");
                 }
                 user.setUsername(userRequest.username());
+                credentialsChanged = true;
             }
         }
 
@@ -103,6 +105,7 @@ public class UserService implements UserDetailsService {
                 throw new AccessDeniedException("Admins are not allowed to change passwords of other users");
             }
             user.setPassword(passwordEncoder.encode(userRequest.password()));
+            credentialsChanged = true;
         }
 
         if (userRequest.roles() != null && !userRequest.roles().isEmpty()) {
@@ -110,17 +113,24 @@ public class UserService implements UserDetailsService {
                 throw new AccessDeniedException("Users are not allowed to change their own roles");
             }
 
-            List<Role> updatedRoles = userRequest.roles().stream()
-                    .map(roleName -> roleRepository.findByRoleNameIgnoreCase(roleName)
-                            .orElseThrow(() -> new RuntimeException("Role not found: " + roleName)))
-                    .collect(Collectors.toCollection(ArrayList::new));
+            Set<Role> updatedRoles = roleRegistry.resolveAll(userRequest.roles());
+            credentialsChanged |= !roleNames(updatedRoles).equals(roleNames(user.getRoles()));
             user.setRoles(updatedRoles);
         }
 
         User savedUser = userRepository.save(user);
+        if (!Objects.equals(previousUsername, savedUser.getUsername())) {
+            eventPublisher.publishEvent(new UserRenamedEvent(id, previousUsername, savedUser.getUsername()));
+        }
+        eventPublisher.publishEvent(credentialsChanged ? UserChangedEvent.revoked(id) : UserChangedEvent.updated(id));
         return userMapperImpl.entityToDto(savedUser);
     }
 
+    private Set<String> roleNames(Set<Role> roles) {
+        return roles.stream().map(Role::getRoleName).collect(Collectors.toSet());
+    }
+
+    @Transactional
     public String deleteUser(Long id, UserDetail userDetail) {
         boolean isAdmin = userDetail.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
@@ -130,6 +140,9 @@ public class UserService implements UserDetailsService {
         User userToDelete = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(User.class.getSimpleName(), id));
         userRepository.delete(userToDelete);
+        userToDelete.getDestinations().forEach(destination ->
+                eventPublisher.publishEvent(DestinationChangedEvent.deleted(destination.getId(), id)));
+        eventPublisher.publishEvent(UserChangedEvent.deleted(id));
         return "User with id " + id + " has been deleted";
     }
 
@@ -140,26 +153,34 @@ public class UserService implements UserDetailsService {
         return new UserDetail(user);
     }
 
+    @Override
     @Transactional
-    public UserResponse registerUser(UserRequest request) {
-        if (userRepository.existsByUsername(request.username())) {
-            throw new IllegalArgumentException("Username already taken");
-        }
-
-        if (userRepository.existsByEmail(request.email())){
-            throw new IllegalArgumentException("Email already registered");
-        }
+    public UserDetail updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsernameIgnoreCase(userDetails.getUsername())
+                .orElseThrow(() -> new EntityNotFoundException(User.class.getSimpleName(), userDetails.getUsername()));
+        user.setPassword(newPassword);
+        return new UserDetail(userRepository.save(user));
+    }
 
-        Role defaultRole = roleRepository.findByRoleNameIgnoreCase("ROLE_USER")
+    @Transactional
+    public UserResponse registerUser(UserRequest request) {
+        Role defaultRole = roleRegistry.findByName(DEFAULT_ROLE)
                 .orElseThrow(() -> new RuntimeException("Default role not found"));
+        return createUser(request, defaultRole);
+    }
 
+    private UserResponse createUser(UserRequest request, Role role) {
         List<Role> roles = new ArrayList<>();
-        roles.add(defaultRole);
+        roles.add(role);
         User user = userMapperImpl.dtoToEntity(request, new ArrayList<>(), roles);
-
         user.setPassword(passwordEncoder.encode(request.password()));
-
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException exception) {
+            throw UniqueConstraintMessages.messageFor(exception)
+                    .<RuntimeException>map(IllegalArgumentException::new)
+                    .orElse(exception);
+        }
         return userMapperImpl.entityToDto(user);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,191 @@
+package com.Travellers.DreamRoute.sync;
+
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.DestinationsCreatedEvent;
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.events.UserRenamedEvent;
+import com.Travellers.DreamRoute.models.ChangeCounter;
+import com.Travellers.DreamRoute.models.DestinationTombstone;
+import com.Travellers.DreamRoute.repositories.ChangeCounterRepository;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.Travellers.DreamRoute.repositories.DestinationTombstoneRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stamps every destination change with a number from a single counter row. The row stays locked from just before
+ * commit until the commit itself, so numbers become visible in order and a reader that has seen number n can never
+ * later find a smaller one. All changes of a transaction share one number; deletions leave a tombstone carrying it.
+ */
+@Slf4j
+@Component
+public class DestinationChangeSequencer {
+    public static final String CHANGE_COUNTER = "destinations";
+    public static final String PRUNED_COUNTER = "destination_tombstones_pruned";
+
+    private final DestinationRepository destinationRepository;
+    private final DestinationTombstoneRepository tombstoneRepository;
+    private final ChangeCounterRepository changeCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Duration tombstoneRetention;
+
+    public DestinationChangeSequencer(DestinationRepository destinationRepository,
+                                      DestinationTombstoneRepository tombstoneRepository,
+                                      ChangeCounterRepository changeCounterRepository,
+                                      PlatformTransactionManager transactionManager, EntityManager entityManager,
+                                      @Value("${destinations.changes.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.destinationRepository = destinationRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.changeCounterRepository = changeCounterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @EventListener
+    public void onDestinationChanged(DestinationChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        PendingChanges pending = new PendingChanges();
+        if (event.type() == DestinationChangedEvent.Type.DELETED) {
+            pending.deleted.put(event.destinationId(), event.userId());
+        } else {
+            pending.changedIds.add(event.destinationId());
+        }
+        record(pending);
+    }
+
+    @EventListener
+    public void onDestinationsCreated(DestinationsCreatedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        PendingChanges pending = new PendingChanges();
+        pending.changedIds.addAll(event.destinationIds());
+        record(pending);
+    }
+
+    @EventListener
+    public void onUserRenamed(UserRenamedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        PendingChanges pending = new PendingChanges();
+        pending.renamedUserIds.add(event.userId());
+        record(pending);
+    }
+
+    @EventListener
+    public void onUserDeleted(UserChangedEvent event) {
+        if (event.remote() || event.type() != UserChangedEvent.Type.DELETED) {
+            return;
+        }
+        // A user without destinations changes nothing else, yet their list stops existing.
+        record(new PendingChanges());
+    }
+
+    @Scheduled(fixedDelayString = "${destinations.changes.prune-interval:1h}", initialDelay = 60_000)
+    public void pruneTombstones() {
+        Instant cutoff = Instant.now().minus(tombstoneRetention);
+        Integer pruned = transactionTemplate.execute(status -> {
+            ChangeCounter floor = lockCounter(PRUNED_COUNTER);
+            return tombstoneRepository.findMaxChangeSeqDeletedBefore(cutoff)
+                    .filter(changeSeq -> changeSeq > floor.getValue())
+                    .map(changeSeq -> {
+                        floor.setValue(changeSeq);
+                        return tombstoneRepository.deleteThroughChangeSeq(changeSeq);
+                    })
+                    .orElse(0);
+        });
+        if (pruned != null && pruned > 0) {
+            log.debug("Pruned {} destination tombstones older than {}", pruned, tombstoneRetention);
+        }
+    }
+
+    private void record(PendingChanges changes) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionTemplate.executeWithoutResult(status -> apply(changes));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.addAll(changes);
+    }
+
+    private void apply(PendingChanges changes) {
+        // Every path takes its destination row locks before the counter: the lock query on the counter would not
+        // flush pending destination changes, so they are written here, and a rename locks its user's rows by id.
+        entityManager.flush();
+        if (!changes.renamedUserIds.isEmpty()) {
+            changes.changedIds.addAll(destinationRepository.lockIdsByUserIdIn(changes.renamedUserIds));
+        }
+        ChangeCounter counter = lockCounter(CHANGE_COUNTER);
+        long changeSeq = counter.getValue() + 1;
+        counter.setValue(changeSeq);
+
+        changes.changedIds.removeAll(changes.deleted.keySet());
+        if (!changes.changedIds.isEmpty()) {
+            destinationRepository.updateChangeSeq(changes.changedIds, changeSeq);
+        }
+        if (!changes.deleted.isEmpty()) {
+            Instant now = Instant.now();
+            List<DestinationTombstone> tombstones = new ArrayList<>(changes.deleted.size());
+            changes.deleted.forEach((destinationId, userId) -> tombstones.add(DestinationTombstone.builder()
+                    .destinationId(destinationId)
+                    .userId(userId)
+                    .changeSeq(changeSeq)
+                    .deletedAt(now)
+                    .build()));
+            tombstoneRepository.saveAll(tombstones);
+        }
+    }
+
+    private ChangeCounter lockCounter(String name) {
+        return changeCounterRepository.findByNameForUpdate(name)
+                .orElseGet(() -> changeCounterRepository.saveAndFlush(new ChangeCounter(name, 0L)));
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+        private final Set<Long> changedIds = new LinkedHashSet<>();
+        private final Map<Long, Long> deleted = new LinkedHashMap<>();
+        private final Set<Long> renamedUserIds = new LinkedHashSet<>();
+
+        void addAll(PendingChanges other) {
+            changedIds.addAll(other.changedIds);
+            deleted.putAll(other.deleted);
+            renamedUserIds.addAll(other.renamedUserIds);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            apply(this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DestinationChangeSequencer.this);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.Travellers.DreamRoute.benchmarks;
+
+import com.Travellers.DreamRoute.models.Destination;
+import com.Travellers.DreamRoute.models.Role;
+import com.Travellers.DreamRoute.models.User;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.Travellers.DreamRoute.repositories.RoleRepository;
+import com.Travellers.DreamRoute.repositories.UserRepository;
+import com.Travellers.DreamRoute.support.HibernateQueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = HibernateQueryCounter.STATISTICS_PROPERTY)
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Tag("benchmark")
+@DisplayName("Bulk insert benchmark: pooled sequence ids with JDBC batching")
+public class BatchInsertBenchmarkTest {
+    private static final int USERS = 100;
+    private static final int DESTINATIONS_PER_USER = 5;
+    private static final int BATCH_SIZE = 50;
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DestinationRepository destinationRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private HibernateQueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new HibernateQueryCounter(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Bulk inserts should reach the database in batches rather than one statement per row")
+    void bulkInsertsAreBatched() {
+        Role userRole = roleRepository.findByRoleNameIgnoreCase("ROLE_USER").orElseThrow();
+        int rows = USERS + USERS + USERS * DESTINATIONS_PER_USER;
+
+        queryCounter.reset();
+        List<Long> destinationIds = transactionTemplate.execute(status -> {
+            List<User> users = new ArrayList<>();
+            List<Destination> destinations = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                User user = User.builder()
+                        .username("bulk" + i)
+                        .email("bulk" + i + "@example.com")
+                        .password("Bulk12345.")
+                        .roles(new LinkedHashSet<>(Set.of(userRole)))
+                        .build();
+                users.add(user);
+                for (int j = 0; j < DESTINATIONS_PER_USER; j++) {
+                    destinations.add(Destination.builder()
+                            .country("País " + j)
+                            .city("Ciudad " + i + "-" + j)
+                            .description("Descripción")
+                            .image("https://example.com/" + i + "-" + j + ".png")
+                            .user(user)
+                            .build());
+                }
+            }
+            userRepository.saveAll(users);
+            return destinationRepository.saveAll(destinations).stream().map(Destination::getId).toList();
+        });
+
+        long statements = queryCounter.preparedStatements();
+        long insertedEntities = entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getEntityInsertCount();
+
+        long sequenceRoundTrips = 2L * (USERS / ID_ALLOCATION_SIZE + USERS * DESTINATIONS_PER_USER / ID_ALLOCATION_SIZE + 2);
+        long maxStatements = (long) Math.ceil((double) rows / BATCH_SIZE) + 3 + sequenceRoundTrips;
+        assertThat(insertedEntities).isEqualTo(USERS + USERS * DESTINATIONS_PER_USER);
+        assertThat(destinationIds).doesNotHaveDuplicates().doesNotContainNull();
+        assertThat(statements).isLessThanOrEqualTo(maxStatements);
+        assertThat(statements).isLessThan(rows / 10);
+    }
+}
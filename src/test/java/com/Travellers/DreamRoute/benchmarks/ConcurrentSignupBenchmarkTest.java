@@ -0,0 +1,165 @@
+package com.Travellers.DreamRoute.benchmarks;
+
+import com.Travellers.DreamRoute.dtos.user.UserRequest;
+import com.Travellers.DreamRoute.repositories.UserRepository;
+import com.Travellers.DreamRoute.services.UserService;
+import com.Travellers.DreamRoute.support.HibernateQueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest(properties = HibernateQueryCounter.STATISTICS_PROPERTY)
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("Concurrent signup benchmark: pre-check queries vs constraint-checked insert")
+public class ConcurrentSignupBenchmarkTest {
+    private static final int THREADS = 16;
+    private static final int SIGNUPS_PER_ROUND = 400;
+    private static final int RACERS = 64;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private BCryptPasswordEncoder passwordEncoder;
+
+    private HibernateQueryCounter queryCounter;
+
+    private record Measurement(long signupsPerSecond, long statementsPerSignup, int accepted) {
+    }
+
+    @BeforeEach
+    void stubHashing() {
+        given(passwordEncoder.encode(anyString())).willReturn("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchma");
+        queryCounter = new HibernateQueryCounter(entityManagerFactory);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Constraint-checked insert should issue fewer statements and sustain higher signup throughput")
+    void constraintCheckedInsertBeatsPreChecks(TestReporter reporter) throws Exception {
+        measure("warmup", userService::registerUser);
+        Measurement preChecked = measure("prechecked", this::registerWithPreChecks);
+        Measurement constraintChecked = measure("constrained", userService::registerUser);
+
+        reporter.publishEntry("preCheckedSignupsPerSecond", String.valueOf(preChecked.signupsPerSecond()));
+        reporter.publishEntry("constraintCheckedSignupsPerSecond", String.valueOf(constraintChecked.signupsPerSecond()));
+
+        assertThat(constraintChecked.accepted()).isEqualTo(SIGNUPS_PER_ROUND);
+        assertThat(preChecked.accepted()).isEqualTo(SIGNUPS_PER_ROUND);
+        assertThat(constraintChecked.statementsPerSignup()).isLessThan(preChecked.statementsPerSignup());
+        // Wall-clock throughput is noisy on shared machines, so only a clear regression fails the benchmark.
+        assertThat(constraintChecked.signupsPerSecond()).isGreaterThan(preChecked.signupsPerSecond() / 2);
+    }
+
+    @Test
+    @DisplayName("Racing signups for the same username and email should persist exactly one user")
+    void racingSignupsPersistExactlyOneUser() throws Exception {
+        AtomicInteger rejected = new AtomicInteger();
+        List<Callable<Boolean>> racers = new ArrayList<>();
+        for (int i = 0; i < RACERS; i++) {
+            String username = i % 2 == 0 ? "Racer" : "racer";
+            String email = i % 3 == 0 ? "Racer@example.com" : "racer" + i + "@example.com";
+            racers.add(() -> {
+                try {
+                    userService.registerUser(new UserRequest(username, email, "Racer12345."));
+                    return true;
+                } catch (IllegalArgumentException exception) {
+                    assertThat(exception.getMessage()).isIn("Username already taken", "Email already registered");
+                    rejected.incrementAndGet();
+                    return false;
+                }
+            });
+        }
+
+        int accepted = count(runAll(racers));
+
+        assertThat(accepted).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(RACERS - 1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username_lc = 'racer'", Integer.class)).isEqualTo(1);
+    }
+
+    private void registerWithPreChecks(UserRequest request) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userRepository.existsByUsername(request.username())) {
+                throw new IllegalArgumentException("Username already taken");
+            }
+            if (userRepository.existsByEmail(request.email())) {
+                throw new IllegalArgumentException("Email already registered");
+            }
+            userService.registerUser(request);
+        });
+    }
+
+    private interface Signup {
+        void register(UserRequest request);
+    }
+
+    private Measurement measure(String prefix, Signup signup) throws Exception {
+        List<Callable<Boolean>> signups = new ArrayList<>();
+        for (int i = 0; i < SIGNUPS_PER_ROUND; i++) {
+            UserRequest request = new UserRequest(prefix + i, prefix + i + "@example.com", "Signup12345.");
+            signups.add(() -> {
+                signup.register(request);
+                return true;
+            });
+        }
+        queryCounter.reset();
+        long start = System.nanoTime();
+        int accepted = count(runAll(signups));
+        long elapsed = System.nanoTime() - start;
+        return new Measurement(SIGNUPS_PER_ROUND * 1_000_000_000L / elapsed,
+                queryCounter.preparedStatements() / SIGNUPS_PER_ROUND, accepted);
+    }
+
+    private List<Future<Boolean>> runAll(List<Callable<Boolean>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            return executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int count(List<Future<Boolean>> results) throws Exception {
+        int accepted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+}
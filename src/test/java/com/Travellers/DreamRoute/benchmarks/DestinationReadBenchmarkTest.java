@@ -0,0 +1,93 @@
+package com.Travellers.DreamRoute.benchmarks;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationMapperImpl;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.Travellers.DreamRoute.support.HibernateQueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = HibernateQueryCounter.STATISTICS_PROPERTY)
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Tag("benchmark")
+@DisplayName("Destination read path benchmark: entity hydration vs constructor projection")
+public class DestinationReadBenchmarkTest {
+    private static final int EXTRA_DESTINATIONS = 500;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @Autowired
+    private DestinationRepository destinationRepository;
+
+    @Autowired
+    private DestinationMapperImpl destinationMapperImpl;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private HibernateQueryCounter queryCounter;
+
+    private record Measurement(long statementsPerCall, long bytesPerCall, int rows) {
+    }
+
+    @BeforeEach
+    void seedCatalog() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < EXTRA_DESTINATIONS; i++) {
+            rows.add(new Object[]{1000 + i, "País " + i, "Ciudad " + i, "Descripción " + i, "https://example.com/" + i + ".png", (i % 5) + 1});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO destinations(id, country, city, description, image_url, user_id) VALUES (?, ?, ?, ?, ?, ?)", rows);
+        queryCounter = new HibernateQueryCounter(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Projection should issue a single statement and allocate less than entity hydration")
+    void projectionBeatsEntityHydration() {
+        Measurement entities = measure(() -> destinationRepository.findAll().stream()
+                .map(destination -> destinationMapperImpl.entityToDto(destination))
+                .toList());
+        Measurement projection = measure(() -> destinationRepository.findAllResponses());
+
+        assertThat(projection.rows()).isEqualTo(entities.rows());
+        assertThat(projection.statementsPerCall()).isEqualTo(1);
+        assertThat(projection.statementsPerCall()).isLessThan(entities.statementsPerCall());
+        assertThat(projection.bytesPerCall()).isLessThan(entities.bytesPerCall());
+    }
+
+    private Measurement measure(Supplier<List<DestinationResponse>> read) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            transactionTemplate.execute(status -> read.get());
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        int rows = 0;
+
+        queryCounter.reset();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            rows = transactionTemplate.execute(status -> read.get()).size();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(queryCounter.preparedStatements() / MEASURED_ROUNDS, allocated / MEASURED_ROUNDS, rows);
+    }
+}
@@ -0,0 +1,71 @@
+package com.Travellers.DreamRoute.benchmarks;
+
+import com.Travellers.DreamRoute.models.Role;
+import com.Travellers.DreamRoute.models.User;
+import com.Travellers.DreamRoute.security.UserDetail;
+import com.Travellers.DreamRoute.security.jwt.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.function.Supplier;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@DisplayName("JWT filter hot path benchmark: per-request key and double parse vs cached single-pass verification")
+public class JwtVerificationBenchmarkTest {
+    private static final String JWT_SECRET_KEY = "mySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong";
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 50_000;
+
+    private record Measurement(long bytesPerCall) {
+    }
+
+    @Test
+    @DisplayName("Cached verification should allocate less than rebuilding the key and parsing twice")
+    void cachedVerificationBeatsDoubleParse() {
+        JwtService jwtService = new JwtService();
+        Role role = Role.builder().id(1L).roleName("ROLE_USER").build();
+        String token = jwtService.generateToken(new UserDetail(
+                User.builder().id(1L).username("May").password("encoded").roles(Set.of(role)).build()));
+
+        Measurement legacy = measure(() -> legacyVerify(token));
+        Measurement singleParse = measure(() -> Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET_KEY))).build()
+                .parseSignedClaims(token).getPayload().getSubject());
+        Measurement cached = measure(() -> jwtService.parseToken(token).orElseThrow().getSubject());
+
+        assertThat(cached.bytesPerCall()).isLessThan(singleParse.bytesPerCall());
+        assertThat(singleParse.bytesPerCall()).isLessThan(legacy.bytesPerCall());
+    }
+
+    private static String legacyVerify(String token) {
+        Claims validation = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET_KEY))).build()
+                .parseSignedClaims(token).getPayload();
+        assertThat(validation).isNotNull();
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET_KEY))).build()
+                .parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    private Measurement measure(Supplier<String> verify) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            verify.get();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            verify.get();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(allocated / MEASURED_ROUNDS);
+    }
+}
@@ -0,0 +1,129 @@
+package com.Travellers.DreamRoute.caches;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.ReplicaResyncEvent;
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.events.UserRenamedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DestinationCache Unit Tests")
+public class DestinationCacheTest {
+    private SimpleMeterRegistry meterRegistry;
+    private DestinationCache destinationCache;
+    private AtomicInteger loads;
+
+    private final DestinationResponse santaMarta = new DestinationResponse(1L, "Colombia", "Santa Marta", "Desc", "url", "May");
+    private final DestinationResponse tokio = new DestinationResponse(2L, "Japón", "Tokio", "Desc", "url", "Deb");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        destinationCache = new DestinationCache(meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private Optional<DestinationResponse> load(DestinationResponse destination) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(destination);
+    }
+
+    @Test
+    @DisplayName("should record hits and misses")
+    void shouldRecordHitsAndMisses() {
+        destinationCache.getDestination(1L, id -> load(santaMarta));
+        destinationCache.getDestination(1L, id -> load(santaMarta));
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "destinations").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "destinations").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should not cache missing destinations or empty user lists")
+    void shouldNotCacheAbsentValues() {
+        assertThat(destinationCache.getDestination(9L, id -> load(null))).isEmpty();
+        assertThat(destinationCache.getDestination(9L, id -> load(null))).isEmpty();
+        assertThat(destinationCache.getUserDestinations(6L, userId -> List.of())).isEmpty();
+
+        assertThat(loads).hasValue(2);
+        assertThat(destinationCache.getUserDestinations(6L, userId -> List.of(tokio))).containsExactly(tokio);
+    }
+
+    @Test
+    @DisplayName("should drop the destination and its owner's list when the destination changes")
+    void shouldInvalidateOnDestinationChange() {
+        destinationCache.getDestination(1L, id -> load(santaMarta));
+        destinationCache.getUserDestinations(1L, userId -> List.of(santaMarta));
+
+        DestinationResponse renamedCity = new DestinationResponse(1L, "Colombia", "Cartagena", "Desc", "url", "May");
+        destinationCache.onDestinationChanged(DestinationChangedEvent.updated(renamedCity, 1L));
+
+        assertThat(destinationCache.getDestination(1L, id -> load(renamedCity))).contains(renamedCity);
+        assertThat(destinationCache.getUserDestinations(1L, userId -> List.of(renamedCity))).containsExactly(renamedCity);
+    }
+
+    @Test
+    @DisplayName("should drop every destination showing the previous username when a user is renamed")
+    void shouldInvalidateOnUserRename() {
+        destinationCache.getDestination(1L, id -> load(santaMarta));
+        destinationCache.getDestination(2L, id -> load(tokio));
+
+        destinationCache.onUserRenamed(new UserRenamedEvent(1L, "May", "May2"));
+
+        destinationCache.getDestination(1L, id -> load(santaMarta));
+        destinationCache.getDestination(2L, id -> load(tokio));
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("should not keep a destination loaded while its owner was renamed")
+    void shouldNotKeepDestinationLoadedDuringRename() {
+        Optional<DestinationResponse> loaded = destinationCache.getDestination(1L, id -> {
+            destinationCache.onUserRenamed(new UserRenamedEvent(1L, "May", "May2"));
+            return load(santaMarta);
+        });
+        destinationCache.getDestination(1L, id -> load(santaMarta));
+
+        assertThat(loaded).contains(santaMarta);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should keep the catalog version until a destination or user changes")
+    void shouldCacheCatalogVersionUntilChange() {
+        assertThat(destinationCache.getCatalogVersion(() -> loads.incrementAndGet())).isEqualTo(1L);
+        assertThat(destinationCache.getCatalogVersion(() -> loads.incrementAndGet())).isEqualTo(1L);
+
+        destinationCache.onDestinationChanged(DestinationChangedEvent.deleted(1L, 1L));
+        assertThat(destinationCache.getCatalogVersion(() -> loads.incrementAndGet())).isEqualTo(2L);
+
+        destinationCache.onUserChanged(UserChangedEvent.updated(1L));
+        assertThat(destinationCache.getCatalogVersion(() -> loads.incrementAndGet())).isEqualTo(2L);
+
+        destinationCache.onUserChanged(UserChangedEvent.deleted(1L));
+        destinationCache.getCatalogVersion(() -> loads.incrementAndGet());
+        destinationCache.invalidateAll();
+        assertThat(destinationCache.getCatalogVersion(() -> loads.incrementAndGet())).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("should not trust a catalog version loaded while a change was applied")
+    void shouldReloadCatalogVersion_whenChangeOverlapsLoad() {
+        destinationCache.getCatalogVersion(() -> {
+            destinationCache.onUserRenamed(new UserRenamedEvent(1L, "May", "May2"));
+            return 7L;
+        });
+
+        assertThat(destinationCache.getCatalogVersion(() -> 8L)).isEqualTo(8L);
+    }
+}
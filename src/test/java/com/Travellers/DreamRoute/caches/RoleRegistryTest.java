@@ -0,0 +1,88 @@
+package com.Travellers.DreamRoute.caches;
+
+import com.Travellers.DreamRoute.models.Role;
+import com.Travellers.DreamRoute.repositories.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoleRegistry Unit Tests")
+public class RoleRegistryTest {
+    @Mock
+    RoleRepository roleRepository;
+
+    @InjectMocks
+    RoleRegistry roleRegistry;
+
+    @BeforeEach
+    void setUp() {
+        given(roleRepository.findAll(any(Sort.class))).willReturn(List.of(
+                new Role(1L, "ROLE_USER", null),
+                new Role(2L, "ROLE_ADMIN", null)));
+    }
+
+    @Nested
+    @DisplayName("Lookups")
+    class Lookups {
+        @Test
+        @DisplayName("should serve every lookup from a single load")
+        void shouldServeLookupsFromSingleLoad() {
+            roleRegistry.refresh();
+
+            assertThat(roleRegistry.all()).extracting(Role::getRoleName).containsExactly("ROLE_USER", "ROLE_ADMIN");
+            assertThat(roleRegistry.findByName("role_admin")).map(Role::getId).contains(2L);
+            assertThat(roleRegistry.findById(1L)).map(Role::getRoleName).contains("ROLE_USER");
+            assertThat(roleRegistry.resolveAll(List.of("ROLE_ADMIN", "role_user")))
+                    .extracting(Role::getId).containsExactly(2L, 1L);
+
+            verify(roleRepository, times(1)).findAll(any(Sort.class));
+        }
+
+        @Test
+        @DisplayName("should reject unknown role names without reloading on every miss")
+        void shouldRejectUnknownRoleNames() {
+            roleRegistry.refresh();
+
+            RuntimeException thrown = assertThrows(RuntimeException.class,
+                    () -> roleRegistry.resolveAll(List.of("ROLE_USER", "ROLE_NON_EXISTENT")));
+
+            assertThat(thrown.getMessage()).isEqualTo("Role not found: ROLE_NON_EXISTENT");
+            assertThat(roleRegistry.findById(99L)).isEmpty();
+            verify(roleRepository, times(1)).findAll(any(Sort.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Refresh")
+    class Refresh {
+        @Test
+        @DisplayName("should reload lazily after a role change invalidates the snapshot")
+        void shouldReloadAfterInvalidation() {
+            roleRegistry.refresh();
+            given(roleRepository.findAll(any(Sort.class))).willReturn(List.of(
+                    new Role(1L, "ROLE_USER", null),
+                    new Role(2L, "ROLE_ADMIN", null),
+                    new Role(3L, "ROLE_GUIDE", null)));
+
+            roleRegistry.invalidate();
+
+            assertThat(roleRegistry.findByName("ROLE_GUIDE")).map(Role::getId).contains(3L);
+            assertThat(roleRegistry.all()).hasSize(3);
+            verify(roleRepository, times(2)).findAll(any(Sort.class));
+        }
+    }
+}
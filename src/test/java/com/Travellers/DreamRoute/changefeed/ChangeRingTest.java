@@ -0,0 +1,86 @@
+package com.Travellers.DreamRoute.changefeed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChangeRing Unit Tests")
+public class ChangeRingTest {
+    @Test
+    @DisplayName("Should round the capacity up to a power of two")
+    void shouldRoundCapacityUp() {
+        assertThat(new ChangeRing<String>(2).capacity()).isEqualTo(2);
+        assertThat(new ChangeRing<String>(1000).capacity()).isEqualTo(1024);
+        assertThat(new ChangeRing<String>(1024).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("Should hand out only the last capacity changes once it wraps")
+    void shouldOverwriteOldestChanges() {
+        ChangeRing<String> ring = new ChangeRing<>(4);
+        for (int i = 1; i <= 6; i++) {
+            assertThat(ring.publish("change-" + i)).isEqualTo(i);
+        }
+
+        assertThat(ring.cursor()).isEqualTo(6);
+        assertThat(ring.oldestAvailable()).isEqualTo(3);
+        assertThat(ring.get(2)).isNull();
+        assertThat(ring.get(3)).isEqualTo("change-3");
+        assertThat(ring.get(6)).isEqualTo("change-6");
+        assertThat(ring.get(7)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should wake a waiting reader when a change is published")
+    void shouldWakeWaitingReader() throws Exception {
+        ChangeRing<String> ring = new ChangeRing<>(4);
+        CompletableFuture<Long> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return ring.awaitAfter(0, Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Thread.sleep(50);
+        ring.publish("change-1");
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should wake every waiting reader with a single publish")
+    void shouldWakeAllWaitingReaders() throws Exception {
+        ChangeRing<String> ring = new ChangeRing<>(4);
+        List<CompletableFuture<Long>> waiting = IntStream.range(0, 200)
+                .mapToObj(reader -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return ring.awaitAfter(0, Duration.ofSeconds(10));
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, Thread::startVirtualThread))
+                .toList();
+
+        Thread.sleep(50);
+        ring.publish("change-1");
+
+        for (CompletableFuture<Long> reader : waiting) {
+            assertThat(reader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the unchanged cursor when nothing is published before the timeout")
+    void shouldTimeOutWithoutChanges() throws Exception {
+        ChangeRing<String> ring = new ChangeRing<>(4);
+        ring.publish("change-1");
+
+        assertThat(ring.awaitAfter(1, Duration.ofMillis(20))).isEqualTo(1);
+    }
+}
@@ -0,0 +1,227 @@
+package com.Travellers.DreamRoute.changefeed;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationChange;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.ReplicaResyncEvent;
+import com.Travellers.DreamRoute.exceptions.ServiceBusyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("DestinationChangeFeed Unit Tests")
+public class DestinationChangeFeedTest {
+    private static final DestinationResponse MADRID = new DestinationResponse(1L, "España", "Madrid", "Desc", "url", "May", 40.4168, -3.7038);
+
+    private final ObjectMapper objectMapper = spy(new ObjectMapper());
+    private final DestinationChangeFeed feed = new DestinationChangeFeed("epoch", objectMapper, 4, 2, Duration.ofSeconds(10));
+
+    @AfterEach
+    void tearDown() {
+        feed.close();
+    }
+
+    private record Received(String id, String name, Object data) {
+    }
+
+    private final class RecordingSink implements DestinationChangeFeed.EventSink {
+        private final BlockingQueue<Received> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEmitter.SseEventBuilder event) throws IOException {
+            String id = null;
+            String name = null;
+            Object data = null;
+            for (DataWithMediaType part : event.build()) {
+                if (MediaType.APPLICATION_JSON.equals(part.getMediaType())) {
+                    data = objectMapper.readValue((String) part.getData(), DestinationChange.class);
+                } else if (part.getData() instanceof String text) {
+                    for (String line : text.split("\n")) {
+                        if (line.startsWith("id:")) {
+                            id = line.substring(3);
+                        } else if (line.startsWith("event:")) {
+                            name = line.substring(6);
+                        }
+                    }
+                }
+            }
+            if (name == null) {
+                subscribed.countDown();
+                return;
+            }
+            events.add(new Received(id, name, data));
+        }
+
+        Received next() throws InterruptedException {
+            Received received = events.poll(5, TimeUnit.SECONDS);
+            assertThat(received).as("event received in time").isNotNull();
+            return received;
+        }
+
+        void awaitSubscribed() throws InterruptedException {
+            assertThat(subscribed.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream changes published after subscribing, in order")
+    void shouldStreamNewChanges() throws Exception {
+        feed.onDestinationChanged(DestinationChangedEvent.deleted(9L, 1L));
+        RecordingSink sink = new RecordingSink();
+        feed.open(null, sink);
+        sink.awaitSubscribed();
+
+        feed.onDestinationChanged(DestinationChangedEvent.created(MADRID, 1L));
+        feed.onDestinationChanged(DestinationChangedEvent.deleted(1L, 1L).asRemote());
+
+        Received created = sink.next();
+        assertThat(created.id()).isEqualTo("epoch:2");
+        assertThat(created.name()).isEqualTo("created");
+        assertThat(created.data()).isEqualTo(new DestinationChange(DestinationChange.Type.CREATED, 1L, MADRID));
+        assertThat(sink.next()).extracting(Received::id, Received::name).containsExactly("epoch:3", "deleted");
+    }
+
+    @Test
+    @DisplayName("Should serialize each change once however many clients receive it")
+    void shouldSerializeOncePerChange() throws Exception {
+        RecordingSink first = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+        feed.open(null, first);
+        feed.open(null, second);
+        first.awaitSubscribed();
+        second.awaitSubscribed();
+
+        feed.onDestinationChanged(DestinationChangedEvent.created(MADRID, 1L));
+
+        assertThat(first.next().data()).isEqualTo(second.next().data());
+        verify(objectMapper, times(1)).writeValueAsString(new DestinationChange(DestinationChange.Type.CREATED, 1L, MADRID));
+        verify(objectMapper, times(2)).writeValueAsString(any());
+    }
+
+    @Test
+    @DisplayName("Should replay what a reconnecting client missed while it is still in the ring")
+    void shouldResumeFromLastEventId() throws Exception {
+        feed.onDestinationChanged(DestinationChangedEvent.created(MADRID, 1L));
+        feed.onDestinationChanged(DestinationChangedEvent.updated(MADRID, 1L));
+        feed.onDestinationChanged(DestinationChangedEvent.deleted(1L, 1L));
+        RecordingSink sink = new RecordingSink();
+
+        feed.open("epoch:1", sink);
+
+        assertThat(sink.next()).extracting(Received::id, Received::name).containsExactly("epoch:2", "updated");
+        assertThat(sink.next()).extracting(Received::id, Received::name).containsExactly("epoch:3", "deleted");
+    }
+
+    @Test
+    @DisplayName("Should ask clients to resync only when the replica turns stale and when it catches up")
+    void shouldResyncOnlyOnStateChange() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        feed.open(null, sink);
+        sink.awaitSubscribed();
+
+        feed.onReplicaResync(ReplicaResyncEvent.whileStale());
+        feed.onReplicaResync(ReplicaResyncEvent.whileStale());
+        feed.onReplicaResync(ReplicaResyncEvent.afterCatchUp());
+        feed.onReplicaResync(ReplicaResyncEvent.afterGap());
+        feed.onReplicaResync(ReplicaResyncEvent.afterCatchUp());
+        feed.onDestinationChanged(DestinationChangedEvent.updated(MADRID, 1L));
+
+        assertThat(sink.next()).extracting(Received::id, Received::name).containsExactly("epoch:1", "resync");
+        assertThat(sink.next()).extracting(Received::id, Received::name).containsExactly("epoch:2", "resync");
+        assertThat(sink.next()).extracting(Received::id, Received::name).containsExactly("epoch:3", "resync");
+        assertThat(sink.next()).extracting(Received::id, Received::name).containsExactly("epoch:4", "updated");
+    }
+
+    @Test
+    @DisplayName("Should ask a client to resync when its last event is gone or from another replica")
+    void shouldResync_whenLastEventIdIsUnknown() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            feed.onDestinationChanged(DestinationChangedEvent.updated(MADRID, 1L));
+        }
+        RecordingSink evicted = new RecordingSink();
+        RecordingSink foreign = new RecordingSink();
+
+        feed.open("epoch:1", evicted);
+        feed.open("other:5", foreign);
+
+        assertThat(evicted.next()).extracting(Received::id, Received::name).containsExactly("epoch:6", "resync");
+        assertThat(foreign.next()).extracting(Received::id, Received::name).containsExactly("epoch:6", "resync");
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber that falls a whole ring behind to a resync")
+    void shouldResyncSlowSubscriber() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> names = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        DestinationChangeFeed.EventSink slow = event -> {
+            String text = event.build().iterator().next().getData().toString();
+            if (text.contains(":subscribed")) {
+                return;
+            }
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            String name = text.lines().filter(line -> line.startsWith("event:")).findFirst().orElseThrow().substring(6);
+            synchronized (names) {
+                names.add(name);
+                if (name.equals("resync")) {
+                    done.countDown();
+                }
+            }
+        };
+        feed.open(null, slow);
+
+        feed.onDestinationChanged(DestinationChangedEvent.created(MADRID, 1L));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 8; i++) {
+            feed.onDestinationChanged(DestinationChangedEvent.updated(MADRID, 1L));
+        }
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        synchronized (names) {
+            assertThat(names).containsExactly("created", "resync");
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse subscribers beyond the limit and free the slot when one leaves")
+    void shouldLimitSubscribers() throws Exception {
+        Future<?> first = feed.open(null, new RecordingSink());
+        feed.open(null, new RecordingSink());
+
+        assertThatThrownBy(() -> feed.open(null, new RecordingSink()))
+                .isInstanceOf(ServiceBusyException.class);
+
+        first.cancel(true);
+        for (int i = 0; i < 100 && feed.subscribers() > 1; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(feed.subscribers()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,291 @@
+package com.Travellers.DreamRoute.collaboration;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.dtos.trip.TripOperation;
+import com.Travellers.DreamRoute.events.TripChangedEvent;
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.invalidation.ReplicaIdentity;
+import com.Travellers.DreamRoute.services.DestinationService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripCollaborationHub Unit Tests")
+public class TripCollaborationHubTest {
+    private static final List<TripElement> STORED = List.of(
+            new TripElement("e1", 1L, "V", false, 1, "seed"),
+            new TripElement("e2", 7L, "k", false, 1, "seed"));
+
+    @Mock
+    TripSnapshotStore snapshotStore;
+
+    @Mock
+    DestinationService destinationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReplicaIdentity replicaIdentity = new ReplicaIdentity();
+    private TripCollaborationHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new TripCollaborationHub(snapshotStore, destinationService, new HybridClock(), replicaIdentity, objectMapper);
+    }
+
+    private WebSocketSession session(String id, Long userId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(TripCollaborationHub.TRIP_ID_ATTRIBUTE, 1L);
+        attributes.put(TripCollaborationHub.OWNER_ID_ATTRIBUTE, 1L);
+        attributes.put(TripCollaborationHub.USER_ID_ATTRIBUTE, userId);
+        attributes.put(TripCollaborationHub.ADMIN_ATTRIBUTE, false);
+        lenient().when(session.getId()).thenReturn(id);
+        lenient().when(session.getAttributes()).thenReturn(attributes);
+        lenient().when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    private List<JsonNode> received(WebSocketSession session) throws Exception {
+        ArgumentCaptor<TextMessage> messages = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, atLeastOnce()).sendMessage(messages.capture());
+        List<JsonNode> payloads = new ArrayList<>();
+        for (TextMessage message : messages.getAllValues()) {
+            payloads.add(objectMapper.readTree(message.getPayload()));
+        }
+        return payloads;
+    }
+
+    @Nested
+    @DisplayName("join / apply")
+    class EditingTests {
+        private WebSocketSession alice;
+        private WebSocketSession bob;
+
+        @BeforeEach
+        void joinBoth() {
+            given(snapshotStore.load(1L)).willReturn(Optional.of(STORED));
+            lenient().when(snapshotStore.editorIds(1L)).thenReturn(Set.of(1L, 2L));
+            alice = session("alice", 1L);
+            bob = session("bob", 2L);
+            hub.join(alice);
+            hub.join(bob);
+        }
+
+        @Test
+        @DisplayName("Should send a snapshot on join, loading the trip only once")
+        void shouldSendSnapshotOnJoin() throws Exception {
+            JsonNode snapshot = received(alice).get(0);
+
+            assertThat(snapshot.get("type").asText()).isEqualTo("SNAPSHOT");
+            assertThat(snapshot.get("elements")).extracting(element -> element.get("elementId").asText())
+                    .containsExactly("e1", "e2");
+            verify(snapshotStore).load(1L);
+            assertThat(hub.openDocuments()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should broadcast an applied edit to every session on the trip")
+        void shouldBroadcastEdit() throws Exception {
+            hub.apply(alice, new TripOperation(TripOperation.Type.MOVE, "e2", null, "A"));
+
+            for (WebSocketSession session : List.of(alice, bob)) {
+                JsonNode update = received(session).get(1);
+                assertThat(update.get("type").asText()).isEqualTo("UPDATE");
+                assertThat(update.at("/elements/0/rank").asText()).isEqualTo("A");
+                assertThat(update.at("/elements/0/site").asText()).isEqualTo(replicaIdentity.getId());
+            }
+        }
+
+        @Test
+        @DisplayName("Should write back only the latest state of each edited stop at flush")
+        @SuppressWarnings("unchecked")
+        void shouldCoalesceEditsIntoOneFlush() {
+            given(destinationService.getDestinationsByUserId(1L)).willReturn(List.of(
+                    new DestinationResponse(10L, "Argentina", "Buenos Aires", "Desc", "url", "May", -34.6, -58.4)));
+            hub.apply(alice, new TripOperation(TripOperation.Type.MOVE, "e2", null, "A"));
+            hub.apply(bob, new TripOperation(TripOperation.Type.MOVE, "e2", null, "B"));
+            hub.apply(alice, new TripOperation(TripOperation.Type.INSERT, "e3", 10L, "z"));
+            hub.apply(alice, new TripOperation(TripOperation.Type.REMOVE, "e3", null, null));
+
+            hub.flushAll();
+            hub.flushAll();
+
+            ArgumentCaptor<List<TripElement>> batch = ArgumentCaptor.forClass(List.class);
+            verify(snapshotStore).persist(eq(1L), eq(1L), batch.capture());
+            assertThat(batch.getValue()).extracting(TripElement::elementId, TripElement::rank, TripElement::removed)
+                    .containsExactlyInAnyOrder(
+                            Tuple.tuple("e2", "B", false),
+                            Tuple.tuple("e3", "z", true));
+        }
+
+        @Test
+        @DisplayName("Should save the rest of a batch and drop only the edit the database rejects")
+        void shouldDropOnlyRejectedEdit() throws Exception {
+            given(destinationService.getDestinationsByUserId(1L)).willReturn(List.of(
+                    new DestinationResponse(10L, "Argentina", "Buenos Aires", "Desc", "url", "May", -34.6, -58.4)));
+            willAnswer(invocation -> {
+                Collection<TripElement> batch = invocation.getArgument(2);
+                if (batch.stream().anyMatch(element -> element.elementId().equals("e3"))) {
+                    throw new DataIntegrityViolationException("destination deleted");
+                }
+                return null;
+            }).given(snapshotStore).persist(eq(1L), eq(1L), anyCollection());
+            hub.apply(alice, new TripOperation(TripOperation.Type.MOVE, "e2", null, "A"));
+            hub.apply(alice, new TripOperation(TripOperation.Type.INSERT, "e3", 10L, "z"));
+
+            hub.flushAll();
+            hub.flushAll();
+
+            verify(snapshotStore).persist(eq(1L), eq(1L), argThat(batch -> batch.size() == 1
+                    && batch.iterator().next().elementId().equals("e2")));
+            List<JsonNode> messages = received(bob);
+            JsonNode snapshot = messages.get(messages.size() - 1);
+            assertThat(snapshot.get("type").asText()).isEqualTo("SNAPSHOT");
+            assertThat(snapshot.get("elements")).extracting(element -> element.get("elementId").asText())
+                    .containsExactly("e2", "e1");
+        }
+
+        @Test
+        @DisplayName("Should reject invalid edits without touching the document")
+        void shouldRejectInvalidEdits() throws Exception {
+            assertThatThrownBy(() -> hub.apply(alice, new TripOperation(TripOperation.Type.MOVE, "missing", null, "A")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Stop missing does not exist");
+            assertThatThrownBy(() -> hub.apply(alice, new TripOperation(TripOperation.Type.MOVE, "e1", null, "A0")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid rank A0");
+
+            hub.reject(alice, "Invalid rank A0");
+            hub.flushAll();
+
+            assertThat(received(alice).get(1).get("message").asText()).isEqualTo("Invalid rank A0");
+            assertThat(received(bob)).hasSize(1);
+            verify(snapshotStore, never()).persist(any(), any(), anyCollection());
+        }
+
+        @Test
+        @DisplayName("Should relay stops changed on another replica")
+        void shouldRelayRemoteChanges() throws Exception {
+            given(snapshotStore.load(1L)).willReturn(Optional.of(List.of(
+                    new TripElement("e1", 1L, "V", false, 1, "seed"),
+                    new TripElement("e2", 7L, "k", true, 20, "other-replica"))));
+
+            hub.onTripChanged(new TripChangedEvent(1L, 1L, true));
+
+            JsonNode update = received(bob).get(1);
+            assertThat(update.get("elements")).hasSize(1);
+            assertThat(update.at("/elements/0/removed").asBoolean()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should close every session when the trip is deleted")
+        void shouldCloseSessions_whenTripIsDeleted() throws Exception {
+            given(snapshotStore.load(1L)).willReturn(Optional.empty());
+
+            hub.onTripChanged(TripChangedEvent.changed(1L, 1L));
+
+            verify(alice).close(any(CloseStatus.class));
+            verify(bob).close(any(CloseStatus.class));
+            assertThat(hub.openDocuments()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should close the session of a collaborator who lost access")
+        void shouldCloseSession_whenCollaboratorIsRemoved() throws Exception {
+            given(snapshotStore.editorIds(1L)).willReturn(Set.of(1L));
+
+            hub.onTripChanged(new TripChangedEvent(1L, 1L, true));
+
+            verify(bob).close(any(CloseStatus.class));
+            verify(alice, never()).close(any(CloseStatus.class));
+        }
+
+        @Test
+        @DisplayName("Should close the sessions of a user whose tokens were revoked")
+        void shouldCloseSessions_whenTokensAreRevoked() throws Exception {
+            hub.onUserChanged(UserChangedEvent.updated(2L));
+            verify(bob, never()).close(any(CloseStatus.class));
+
+            hub.onUserChanged(UserChangedEvent.revoked(2L));
+
+            verify(bob).close(any(CloseStatus.class));
+            verify(alice, never()).close(any(CloseStatus.class));
+        }
+
+        @Test
+        @DisplayName("Should flush pending edits and drop the document when the last session leaves")
+        void shouldFlushOnLastLeave() {
+            hub.apply(alice, new TripOperation(TripOperation.Type.MOVE, "e1", null, "z"));
+
+            hub.leave(alice);
+            verify(snapshotStore, never()).persist(any(), any(), anyCollection());
+            hub.leave(bob);
+
+            verify(snapshotStore).persist(eq(1L), eq(1L), anyCollection());
+            assertThat(hub.openDocuments()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("concurrent joins")
+    class ConcurrentJoinTests {
+        @Test
+        @DisplayName("Should load the trip outside the document map and keep one document when joins race")
+        void shouldLoadOutsideTheMap() throws Exception {
+            CyclicBarrier bothLoading = new CyclicBarrier(2);
+            given(snapshotStore.load(1L)).willAnswer(invocation -> {
+                bothLoading.await(5, TimeUnit.SECONDS);
+                return Optional.of(STORED);
+            });
+            WebSocketSession alice = session("alice", 1L);
+            WebSocketSession bob = session("bob", 2L);
+
+            CompletableFuture<Void> aliceJoined = CompletableFuture.runAsync(() -> hub.join(alice));
+            CompletableFuture<Void> bobJoined = CompletableFuture.runAsync(() -> hub.join(bob));
+            CompletableFuture.allOf(aliceJoined, bobJoined).get(10, TimeUnit.SECONDS);
+
+            assertThat(received(alice).get(0).get("type").asText()).isEqualTo("SNAPSHOT");
+            assertThat(received(bob).get(0).get("type").asText()).isEqualTo("SNAPSHOT");
+            assertThat(hub.openDocuments()).isEqualTo(1);
+            hub.leave(alice);
+            assertThat(hub.openDocuments()).isEqualTo(1);
+            hub.leave(bob);
+            assertThat(hub.openDocuments()).isZero();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.Travellers.DreamRoute.collaboration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TripDocument Unit Tests")
+public class TripDocumentTest {
+    private static final List<TripElement> HISTORY = List.of(
+            new TripElement("a", 1L, "V", false, 1, "seed"),
+            new TripElement("b", 2L, "k", false, 1, "seed"),
+            new TripElement("c", 3L, "t", false, 1, "seed"),
+            new TripElement("a", 1L, "m", false, 5, "replica-1"),
+            new TripElement("a", 1L, "Z", false, 5, "replica-2"),
+            new TripElement("b", 2L, "k", true, 6, "replica-1"),
+            new TripElement("d", 4L, "a", false, 7, "replica-2"),
+            new TripElement("c", 3L, "A", false, 8, "replica-1"));
+
+    @Test
+    @DisplayName("Should converge to the same stops whatever order the edits arrive in")
+    void shouldConverge_whenEditsArriveInAnyOrder() {
+        TripDocument reference = new TripDocument(1L, 1L, HISTORY);
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50; i++) {
+            List<TripElement> shuffled = new ArrayList<>(HISTORY);
+            Collections.shuffle(shuffled, random);
+            TripDocument replica = new TripDocument(1L, 1L, List.of());
+            replica.mergeAll(shuffled);
+
+            assertThat(replica.elements()).isEqualTo(reference.elements());
+        }
+        assertThat(reference.elements()).extracting(TripElement::elementId).containsExactly("c", "a", "d", "b");
+    }
+
+    @Test
+    @DisplayName("Should break clock ties by site and keep tombstones")
+    void shouldResolveConcurrentWrites() {
+        TripDocument document = new TripDocument(1L, 1L, HISTORY);
+
+        assertThat(document.get("a").rank()).isEqualTo("Z");
+        assertThat(document.get("b").removed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should ignore edits it has already seen or that are older")
+    void shouldIgnoreDuplicateAndStaleEdits() {
+        TripDocument document = new TripDocument(1L, 1L, HISTORY);
+
+        assertThat(document.mergeAll(HISTORY)).isEmpty();
+        assertThat(document.merge(new TripElement("b", 2L, "k", false, 2, "replica-3"))).isFalse();
+        assertThat(document.get("b").removed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should hand out each dirty stop once with its latest state")
+    void shouldDrainLatestDirtyState() {
+        TripDocument document = new TripDocument(1L, 1L, HISTORY);
+        document.merge(new TripElement("a", 1L, "q", false, 9, "replica-1"));
+        document.markDirty("a");
+        document.merge(new TripElement("a", 1L, "r", false, 10, "replica-1"));
+        document.markDirty("a");
+
+        assertThat(document.drainDirty()).containsExactly(new TripElement("a", 1L, "r", false, 10, "replica-1"));
+        assertThat(document.drainDirty()).isEmpty();
+    }
+}
@@ -9,14 +9,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -110,6 +114,220 @@ public class DestinationControllerTest {
                     .andExpect(jsonPath("$[0].image").isString())
                     .andExpect(jsonPath("$[0].username").isString());
         }
+
+        @Test
+        @DisplayName("Should list the current user's destinations first and paginate with a cursor")
+        void getAllDestinations_paginatesOwnerFirstWithCursor() throws Exception {
+            User owner = User.builder()
+                    .id(1L)
+                    .username("May")
+                    .password("May12345.")
+                    .roles(Collections.singleton(Role.builder().id(2L).roleName("ROLE_ADMIN").build()))
+                    .build();
+            UserDetail ownerDetail = new UserDetail(owner);
+
+            String nextCursor = mockMvc.perform(get("/destinations").param("limit", "4")
+                            .with(user(ownerDetail))
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(4)))
+                    .andExpect(jsonPath("$[*].id", contains(1, 7, 10, 2)))
+                    .andExpect(header().exists(DestinationController.NEXT_CURSOR_HEADER))
+                    .andReturn().getResponse().getHeader(DestinationController.NEXT_CURSOR_HEADER);
+
+            mockMvc.perform(get("/destinations").param("limit", "4").param("after", nextCursor)
+                            .with(user(ownerDetail))
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", contains(3, 4, 5, 6)));
+        }
+
+        @Test
+        @DisplayName("Should not send a next cursor on the last page")
+        void getAllDestinations_omitsCursorOnLastPage() throws Exception {
+            performGetRequest("/destinations?limit=10")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(10)))
+                    .andExpect(header().doesNotExist(DestinationController.NEXT_CURSOR_HEADER));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request for an invalid cursor")
+        void getAllDestinations_returnsBadRequest_whenCursorIsInvalid() throws Exception {
+            performGetRequest("/destinations?after=not-a-cursor")
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", is("Invalid cursor")));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /destinations/search")
+    class SearchDestinationsTests {
+
+        @Test
+        @DisplayName("Should find destinations ignoring accents and case")
+        void searchDestinations_matchesIgnoringAccents() throws Exception {
+            performGetRequest("/destinations/search?q=JAPON")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].city", is("Tokio")));
+        }
+
+        @Test
+        @DisplayName("Should be reachable without authentication")
+        void searchDestinations_isPublic() throws Exception {
+            mockMvc.perform(get("/destinations/search").param("q", "playas").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", not(empty())));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when the query is blank")
+        void searchDestinations_returnsBadRequest_whenQueryIsBlank() throws Exception {
+            performGetRequest("/destinations/search?q=")
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /destinations/autocomplete")
+    class AutocompleteTests {
+
+        @Test
+        @DisplayName("Should complete city names from a prefix without authentication")
+        void autocomplete_completesCity() throws Exception {
+            mockMvc.perform(get("/destinations/autocomplete").param("prefix", "tok").param("field", "city")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0]", is("Tokio")));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when the field is unknown")
+        void autocomplete_returnsBadRequest_whenFieldIsUnknown() throws Exception {
+            performGetRequest("/destinations/autocomplete?prefix=to&field=description")
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /destinations/nearby")
+    class NearbyDestinationsTests {
+
+        @Test
+        @DisplayName("Should return the closest destinations first without authentication")
+        void nearbyDestinations_returnsClosestFirst() throws Exception {
+            mockMvc.perform(get("/destinations/nearby").param("lat", "48.1").param("lon", "11.6").param("k", "2")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].destination.city", is("Venecia")))
+                    .andExpect(jsonPath("$[1].destination.city", is("París")));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when the latitude is out of range")
+        void nearbyDestinations_returnsBadRequest_whenLatitudeOutOfRange() throws Exception {
+            performGetRequest("/destinations/nearby?lat=95&lon=0")
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /destinations/clusters")
+    class ClustersTests {
+
+        @Test
+        @DisplayName("Should aggregate destinations in view without authentication")
+        void clusters_aggregatesDestinationsInView() throws Exception {
+            mockMvc.perform(get("/destinations/clusters").param("bbox", "-30,30,40,70").param("zoom", "1")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].count", everyItem(greaterThan(0))))
+                    .andExpect(jsonPath("$[*].sampleIds[*]", hasItems(3, 4, 9)));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when the bounding box is malformed")
+        void clusters_returnsBadRequest_whenBoundingBoxIsMalformed() throws Exception {
+            performGetRequest("/destinations/clusters?bbox=1,2,3&zoom=3")
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /destinations/changes")
+    class DestinationChangesTests {
+        private UserDetail userDetailUserDeb;
+
+        @BeforeEach
+        void setup() {
+            Role role = new Role();
+            role.setRoleName("ROLE_USER");
+            userDetailUserDeb = new UserDetail(User.builder()
+                    .id(2L)
+                    .username("Deb")
+                    .password("any_encoded_password")
+                    .roles(Collections.singleton(role))
+                    .build());
+        }
+
+        private String nextToken(ResultActions result) throws Exception {
+            return objectMapper.readTree(result.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8))
+                    .get("nextToken").asText();
+        }
+
+        @Test
+        @DisplayName("Should return the whole catalog without tombstones on the first sync")
+        void getChanges_withoutToken_returnsCatalog() throws Exception {
+            performGetRequest("/destinations/changes")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changed", hasSize(10)))
+                    .andExpect(jsonPath("$.deleted", hasSize(0)))
+                    .andExpect(jsonPath("$.hasMore", is(false)))
+                    .andExpect(jsonPath("$.reset", is(false)));
+        }
+
+        @Test
+        @DisplayName("Should return only what changed since the token, including deletions")
+        void getChanges_withToken_returnsDelta() throws Exception {
+            String token = nextToken(performGetRequest("/destinations/changes"));
+
+            performPutRequest("/destinations/3", new DestinationRequest("Italia", "Venecia", "Góndolas", "https://example.com/venecia.png"), userDetailUserDeb)
+                    .andExpect(status().isOk());
+            performDeleteRequest("/destinations/2", userDetailUserDeb)
+                    .andExpect(status().isOk());
+
+            String afterChanges = nextToken(performGetRequest("/destinations/changes?since=" + token)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changed[*].id", contains(3)))
+                    .andExpect(jsonPath("$.changed[0].description", is("Góndolas")))
+                    .andExpect(jsonPath("$.deleted", contains(2))));
+
+            performGetRequest("/destinations/changes?since=" + afterChanges)
+                    .andExpect(jsonPath("$.changed", hasSize(0)))
+                    .andExpect(jsonPath("$.deleted", hasSize(0)))
+                    .andExpect(jsonPath("$.nextToken", is(afterChanges)));
+        }
+
+        @Test
+        @DisplayName("Should page through the catalog with the returned token")
+        void getChanges_withLimit_pagesThroughCatalog() throws Exception {
+            String token = nextToken(performGetRequest("/destinations/changes?limit=6")
+                    .andExpect(jsonPath("$.changed[*].id", contains(1, 2, 3, 4, 5, 6)))
+                    .andExpect(jsonPath("$.hasMore", is(true))));
+
+            performGetRequest("/destinations/changes?limit=6&since=" + token)
+                    .andExpect(jsonPath("$.changed[*].id", contains(7, 8, 9, 10)))
+                    .andExpect(jsonPath("$.hasMore", is(false)));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request for a malformed token")
+        void getChanges_invalidToken_returnsBadRequest() throws Exception {
+            performGetRequest("/destinations/changes?since=not-a-token")
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", is("Invalid change token")));
+        }
     }
 
     @Nested
@@ -171,6 +389,74 @@ public class DestinationControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Conditional GET on public destination endpoints")
+    class ConditionalGetTests {
+        private UserDetail userDetailUserDeb;
+
+        @BeforeEach
+        void setup() {
+            Role role = new Role();
+            role.setRoleName("ROLE_USER");
+            userDetailUserDeb = new UserDetail(User.builder()
+                    .id(2L)
+                    .username("Deb")
+                    .password("any_encoded_password")
+                    .roles(Collections.singleton(role))
+                    .build());
+        }
+
+        private String etagOf(String url) throws Exception {
+            return mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        }
+
+        @Test
+        @DisplayName("Should answer 304 Not Modified without a body while the catalog is unchanged")
+        void getDestinationById_returnsNotModified_whenETagMatches() throws Exception {
+            mockMvc.perform(get("/destinations/3"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.AUTHORIZATION)));
+            String etag = etagOf("/destinations/3");
+
+            mockMvc.perform(get("/destinations/3").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                    .andExpect(content().string(""));
+            mockMvc.perform(get("/destinations/user/2").header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("Should return the new representation once a destination changes")
+        void getDestinationById_returnsOk_afterUpdate() throws Exception {
+            String etag = etagOf("/destinations/3");
+
+            performPutRequest("/destinations/3", new DestinationRequest("Italia", "Venecia", "Góndolas", "https://example.com/venecia.png"), userDetailUserDeb)
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/destinations/3").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                    .andExpect(jsonPath("$.city", is("Venecia")));
+        }
+
+        @Test
+        @DisplayName("Should keep a signed-in user's feed out of shared caches")
+        void getAllDestinations_isPrivate_whenAuthenticated() throws Exception {
+            String publicETag = etagOf("/destinations");
+
+            mockMvc.perform(get("/destinations").with(user(userDetailUserDeb)).header(HttpHeaders.IF_NONE_MATCH, publicETag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                    .andExpect(jsonPath("$[0].username", is("Deb")));
+        }
+    }
+
     @Nested
     @DisplayName("POST /destinations")
     class AddDestinationTests{
@@ -214,7 +500,7 @@ public class DestinationControllerTest {
                     .id(2L)
                     .username(EXISTING_USERNAME_USER)
                     .password("any_encoded_password")
-                    .roles(Collections.singletonList(userRole))
+                    .roles(Collections.singleton(userRole))
                     .build();
             userDetailUserRole = new UserDetail(userEntityUserRole);
 
@@ -224,7 +510,7 @@ public class DestinationControllerTest {
                     .id(1L)
                     .username(EXISTING_USERNAME_ADMIN)
                     .password("any_encoded_password")
-                    .roles(Collections.singletonList(adminRole))
+                    .roles(Collections.singleton(adminRole))
                     .build();
             userDetailAdminRole = new UserDetail(userEntityAdminRole);
 
@@ -234,7 +520,7 @@ public class DestinationControllerTest {
                     .id(999L)
                     .username(NON_EXISTENT_USERNAME)
                     .password("any_encoded_password")
-                    .roles(Collections.singletonList(nonExistentUserRole))
+                    .roles(Collections.singleton(nonExistentUserRole))
                     .build();
             userDetailNonExistent = new UserDetail(userEntityNonExistent);
         }
@@ -296,6 +582,101 @@ public class DestinationControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /destinations/bulk")
+    class BulkAddDestinationsTests {
+        private static final String VALID = "{\"country\":\"Japón\",\"city\":\"Kioto\",\"description\":\"Templos\",\"image\":\"https://example.com/kioto.png\"}";
+        private static final String INVALID = "{\"country\":\"Japón\",\"city\":\"\",\"description\":\"Templos\",\"image\":\"https://example.com/kioto.png\"}";
+
+        private UserDetail deb;
+
+        @BeforeEach
+        void setup() {
+            Role userRole = new Role();
+            userRole.setRoleName("ROLE_USER");
+            deb = new UserDetail(User.builder()
+                    .id(2L)
+                    .username("Deb")
+                    .password("any_encoded_password")
+                    .roles(Collections.singleton(userRole))
+                    .build());
+        }
+
+        @Test
+        @DisplayName("Should import NDJSON items and report per-item results")
+        void bulkAdd_importsNdjson() throws Exception {
+            mockMvc.perform(post("/destinations/bulk")
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .content(VALID + "\n" + INVALID + "\n" + VALID + "\n")
+                            .with(user(deb))
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.created", is(2)))
+                    .andExpect(jsonPath("$.rejected", is(1)))
+                    .andExpect(jsonPath("$.results[0].status", is("CREATED")))
+                    .andExpect(jsonPath("$.results[0].id").isNumber())
+                    .andExpect(jsonPath("$.results[1].errors.city", is("City is required")));
+
+            mockMvc.perform(get("/destinations/user/2")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(5)));
+        }
+
+        @Test
+        @DisplayName("Should import a JSON array")
+        void bulkAdd_importsJsonArray() throws Exception {
+            mockMvc.perform(post("/destinations/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[" + VALID + "," + VALID + "]")
+                            .with(user(deb))
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.created", is(2)))
+                    .andExpect(jsonPath("$.results", hasSize(2)));
+        }
+
+        @Test
+        @DisplayName("Should return 401 Unauthorized when not authenticated")
+        void bulkAdd_returnsUnauthorized_whenNotAuthenticated() throws Exception {
+            mockMvc.perform(post("/destinations/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[" + VALID + "]"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /destinations/export")
+    class ExportDestinationsTests {
+        @Test
+        @DisplayName("Should stream the whole catalog as NDJSON to admins")
+        void export_streamsNdjson_forAdmin() throws Exception {
+            MvcResult started = mockMvc.perform(get("/destinations/export")
+                            .with(user("admin").roles("ADMIN"))
+                            .accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            String body = mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+            String[] lines = body.split("\n");
+            assertThat(lines).hasSize(10);
+            assertThat(objectMapper.readTree(lines[0]).get("city").asText()).isEqualTo("Santa Marta");
+        }
+
+        @Test
+        @DisplayName("Should return 403 Forbidden for non-admin users")
+        void export_returnsForbidden_forUser() throws Exception {
+            mockMvc.perform(get("/destinations/export")
+                            .with(user("testuser").roles("USER")))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("PUT /destinations/{id}")
     class UpdateDestinationTests {
@@ -323,7 +704,7 @@ public class DestinationControllerTest {
                     .id(2L)
                     .username("Deb")
                     .password("any_encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_USER")))
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
                     .build();
             userDetailUserDeb = new UserDetail(userDebEntity);
 
@@ -331,7 +712,7 @@ public class DestinationControllerTest {
                     .id(1L)
                     .username("May")
                     .password("any_encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_ADMIN")))
+                    .roles(Collections.singleton(createRole("ROLE_ADMIN")))
                     .build();
             userDetailAdminMay = new UserDetail(userMayEntity);
 
@@ -339,7 +720,7 @@ public class DestinationControllerTest {
                     .id(3L)
                     .username("Mary")
                     .password("any_encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_USER")))
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
                     .build();
             userDetailUserMary = new UserDetail(userMaryEntity);
 
@@ -468,7 +849,7 @@ public class DestinationControllerTest {
                     .id(2L)
                     .username("Deb")
                     .password("any_encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_USER")))
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
                     .build();
             userDetailUserDeb = new UserDetail(userDebEntity);
 
@@ -476,7 +857,7 @@ public class DestinationControllerTest {
                     .id(1L)
                     .username("May")
                     .password("any_encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_ADMIN")))
+                    .roles(Collections.singleton(createRole("ROLE_ADMIN")))
                     .build();
             userDetailAdminMay = new UserDetail(userMayEntity);
 
@@ -484,7 +865,7 @@ public class DestinationControllerTest {
                     .id(3L)
                     .username("Mary")
                     .password("any_encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_USER")))
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
                     .build();
             userDetailUserMary = new UserDetail(userMaryEntity);
         }
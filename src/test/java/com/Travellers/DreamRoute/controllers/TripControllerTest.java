@@ -0,0 +1,238 @@
+package com.Travellers.DreamRoute.controllers;
+
+import com.Travellers.DreamRoute.dtos.trip.MoveStopRequest;
+import com.Travellers.DreamRoute.dtos.trip.TripRequest;
+import com.Travellers.DreamRoute.dtos.trip.TripStopRequest;
+import com.Travellers.DreamRoute.models.Role;
+import com.Travellers.DreamRoute.models.User;
+import com.Travellers.DreamRoute.security.UserDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import java.util.Collections;
+import java.util.List;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("TripController Integration Tests")
+public class TripControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UserDetail ownerDetail;
+    private UserDetail otherUserDetail;
+
+    @BeforeEach
+    void setUp() {
+        ownerDetail = new UserDetail(User.builder()
+                .id(1L)
+                .username("May")
+                .roles(Collections.singleton(Role.builder().id(1L).roleName("ROLE_USER").build()))
+                .build());
+        otherUserDetail = new UserDetail(User.builder()
+                .id(2L)
+                .username("Deb")
+                .roles(Collections.singleton(Role.builder().id(1L).roleName("ROLE_USER").build()))
+                .build());
+    }
+
+    private String asJsonString(Object object) {
+        try {
+            return objectMapper.writeValueAsString(object);
+        } catch (Exception exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private ResultActions performGetRequest(String url) throws Exception {
+        return mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON));
+    }
+
+    private ResultActions performPostRequest(String url, Object body, UserDetail userDetail) throws Exception {
+        return mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(body))
+                .with(user(userDetail))
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    private ResultActions performPutRequest(String url, Object body, UserDetail userDetail) throws Exception {
+        return mockMvc.perform(put(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(body))
+                .with(user(userDetail))
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Nested
+    @DisplayName("GET /trips/{id}")
+    class GetTripTests {
+        @Test
+        @DisplayName("Should return the trip's stops in rank order without authentication")
+        void getTrip_returnsStopsInOrder() throws Exception {
+            performGetRequest("/trips/1")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name", is("Vuelta al mundo")))
+                    .andExpect(jsonPath("$.username", is("May")))
+                    .andExpect(jsonPath("$.stops[*].destination.id", contains(1, 7, 10)));
+        }
+
+        @Test
+        @DisplayName("Should return 404 Not Found when the trip does not exist")
+        void getTrip_returnsNotFound_whenTripDoesNotExist() throws Exception {
+            performGetRequest("/trips/999")
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message", is("Trip not found with id 999")));
+        }
+
+        @Test
+        @DisplayName("Should list a user's trips")
+        void getTripsByUser_returnsSummaries() throws Exception {
+            performGetRequest("/trips/user/1")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].name", is("Vuelta al mundo")));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /trips")
+    class CreateTripTests {
+        @Test
+        @DisplayName("Should create a trip with the stops in the requested order")
+        void createTrip_returnsCreatedTrip() throws Exception {
+            performPostRequest("/trips", new TripRequest("Sur", List.of(10L, 1L)), ownerDetail)
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.name", is("Sur")))
+                    .andExpect(jsonPath("$.stops[*].destination.id", contains(10, 1)));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when a destination belongs to another user")
+        void createTrip_returnsBadRequest_whenDestinationIsNotOwned() throws Exception {
+            performPostRequest("/trips", new TripRequest("Sur", List.of(2L)), ownerDetail)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", is("Destinations not found for user 1: [2]")));
+        }
+
+        @Test
+        @DisplayName("Should return 401 Unauthorized without authentication")
+        void createTrip_returnsUnauthorized_whenNotAuthenticated() throws Exception {
+            mockMvc.perform(post("/trips")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(new TripRequest("Sur", List.of()))))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /trips/{id}/stops and PUT /trips/{id}/stops/{stopId}")
+    class StopTests {
+        @Test
+        @DisplayName("Should move a stop between two others")
+        void moveStop_reordersTrip() throws Exception {
+            performPutRequest("/trips/1/stops/3", new MoveStopRequest(1L, 2L), ownerDetail)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.destination.id", is(10)));
+
+            performGetRequest("/trips/1")
+                    .andExpect(jsonPath("$.stops[*].id", contains(1, 3, 2)));
+        }
+
+        @Test
+        @DisplayName("Should add a stop at the front of the trip")
+        void addStop_insertsAtPosition() throws Exception {
+            performPostRequest("/trips/1/stops", new TripStopRequest(7L, null, 1L), ownerDetail)
+                    .andExpect(status().isCreated());
+
+            performGetRequest("/trips/1")
+                    .andExpect(jsonPath("$.stops[*].destination.id", contains(7, 1, 7, 10)));
+        }
+
+        @Test
+        @DisplayName("Should remove a stop from the trip")
+        void removeStop_removesStop() throws Exception {
+            mockMvc.perform(delete("/trips/1/stops/2").with(user(ownerDetail)))
+                    .andExpect(status().isOk());
+
+            performGetRequest("/trips/1")
+                    .andExpect(jsonPath("$.stops[*].id", contains(1, 3)));
+        }
+
+        @Test
+        @DisplayName("Should return 403 Forbidden when moving a stop of another user's trip")
+        void moveStop_returnsForbidden_whenTripIsNotOwned() throws Exception {
+            performPutRequest("/trips/1/stops/3", new MoveStopRequest(null, 1L), otherUserDetail)
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("PUT and DELETE /trips/{id}/collaborators/{userId}")
+    class CollaboratorTests {
+        @Test
+        @DisplayName("Should let a collaborator reorder the owner's trip")
+        void addCollaborator_allowsEditing() throws Exception {
+            mockMvc.perform(put("/trips/1/collaborators/2").with(user(ownerDetail)))
+                    .andExpect(status().isOk());
+
+            performPutRequest("/trips/1/stops/3", new MoveStopRequest(null, 1L), otherUserDetail)
+                    .andExpect(status().isOk());
+
+            performGetRequest("/trips/1")
+                    .andExpect(jsonPath("$.stops[*].id", contains(3, 1, 2)));
+        }
+
+        @Test
+        @DisplayName("Should return 403 Forbidden when a collaborator deletes the trip")
+        void deleteTrip_returnsForbidden_whenUserIsCollaborator() throws Exception {
+            mockMvc.perform(put("/trips/1/collaborators/2").with(user(ownerDetail)))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(delete("/trips/1").with(user(otherUserDetail)))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("Should return 404 Not Found when the user does not exist")
+        void addCollaborator_returnsNotFound_whenUserDoesNotExist() throws Exception {
+            mockMvc.perform(put("/trips/1/collaborators/999").with(user(ownerDetail)))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should revoke a collaborator's access")
+        void removeCollaborator_revokesEditing() throws Exception {
+            mockMvc.perform(put("/trips/1/collaborators/2").with(user(ownerDetail)))
+                    .andExpect(status().isOk());
+            mockMvc.perform(delete("/trips/1/collaborators/2").with(user(ownerDetail)))
+                    .andExpect(status().isOk());
+
+            performPutRequest("/trips/1/stops/3", new MoveStopRequest(null, 1L), otherUserDetail)
+                    .andExpect(status().isForbidden());
+        }
+    }
+}
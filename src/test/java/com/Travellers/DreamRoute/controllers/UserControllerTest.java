@@ -1,10 +1,13 @@
 package com.Travellers.DreamRoute.controllers;
 
+import com.Travellers.DreamRoute.dtos.route.RouteRequest;
 import com.Travellers.DreamRoute.dtos.user.JwtResponse;
 import com.Travellers.DreamRoute.dtos.user.UserRequest;
 import com.Travellers.DreamRoute.dtos.user.UserUpdateRequest;
+import com.Travellers.DreamRoute.models.Destination;
 import com.Travellers.DreamRoute.models.Role;
 import com.Travellers.DreamRoute.models.User;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
 import com.Travellers.DreamRoute.repositories.RoleRepository;
 import com.Travellers.DreamRoute.repositories.UserRepository;
 import com.Travellers.DreamRoute.security.UserDetail;
@@ -26,6 +29,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.http.MediaType;
 import java.util.List;
+import java.util.Set;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.hamcrest.Matchers.hasSize;
@@ -60,6 +64,9 @@ public class UserControllerTest {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private DestinationRepository destinationRepository;
+
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
 
@@ -77,7 +84,6 @@ public class UserControllerTest {
     void setUp() throws Exception {
 
         userRepository.deleteAll();
-        roleRepository.deleteAll();
 
         Role userRole = roleRepository.findByRoleNameIgnoreCase("ROLE_USER")
                 .orElseGet(() -> roleRepository.save(new Role(null, "ROLE_USER", null)));
@@ -89,7 +95,7 @@ public class UserControllerTest {
                 .username(ADMIN_USERNAME)
                 .email(ADMIN_EMAIL)
                 .password(passwordEncoder.encode(ADMIN_PASSWORD))
-                .roles(List.of(adminRole))
+                .roles(Set.of(adminRole))
                 .build();
         userRepository.save(adminUser);
         adminId = adminUser.getId();
@@ -100,7 +106,7 @@ public class UserControllerTest {
                 .username(USER_USERNAME)
                 .email(USER_EMAIL)
                 .password(passwordEncoder.encode(USER_PASSWORD))
-                .roles(List.of(userRole))
+                .roles(Set.of(userRole))
                 .build();
         userRepository.save(normalUser);
         userId = normalUser.getId();
@@ -115,7 +121,7 @@ public class UserControllerTest {
                 .username(ANOTHER_USERNAME)
                 .email(ANOTHER_EMAIL)
                 .password(passwordEncoder.encode(ANOTHER_PASSWORD))
-                .roles(List.of(userRole))
+                .roles(Set.of(userRole))
                 .build();
         userRepository.save(anotherUser);
         anotherUserId = anotherUser.getId();
@@ -127,7 +133,7 @@ public class UserControllerTest {
                 .roleName("ROLE_ADMIN")
                 .build();
 
-        user.setRoles(List.of(role));
+        user.setRoles(Set.of(role));
     }
 
     private String performLogin(String username, String email, String password) throws Exception {
@@ -247,6 +253,72 @@ public class UserControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET/POST /users/{id}/route")
+    class RouteTests {
+        private Destination madrid;
+        private Destination paris;
+        private Destination unlocated;
+
+        private Destination saveDestination(String country, String city, Double latitude, Double longitude) {
+            User owner = userRepository.findById(userId).orElseThrow();
+            return destinationRepository.save(Destination.builder()
+                    .country(country).city(city).description("Desc").image("http://image.png")
+                    .latitude(latitude).longitude(longitude).user(owner)
+                    .build());
+        }
+
+        @BeforeEach
+        void setUpDestinations() {
+            madrid = saveDestination("España", "Madrid", 40.4168, -3.7038);
+            paris = saveDestination("Francia", "París", 48.8566, 2.3522);
+            saveDestination("España", "Barcelona", 41.3874, 2.1686);
+            unlocated = saveDestination("Atlantis", "Atlantis", null, null);
+        }
+
+        @Test
+        @DisplayName("should order every located destination of the user and list the ones without coordinates")
+        void getRoute_ordersUserDestinations() throws Exception {
+            mockMvc.perform(get("/users/{id}/route", userId)
+                            .header("Authorization", "Bearer " + userJwt)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.stops", hasSize(3)))
+                    .andExpect(jsonPath("$.stops[1].city", is("Barcelona")))
+                    .andExpect(jsonPath("$.totalDistanceKm").isNumber())
+                    .andExpect(jsonPath("$.unlocatedDestinationIds[0]").value(unlocated.getId()));
+        }
+
+        @Test
+        @DisplayName("should only route the requested destinations")
+        void planRoute_usesRequestedDestinations() throws Exception {
+            mockMvc.perform(post("/users/{id}/route", userId)
+                            .header("Authorization", "Bearer " + userJwt)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(new RouteRequest(List.of(madrid.getId(), paris.getId())))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.stops", hasSize(2)));
+        }
+
+        @Test
+        @DisplayName("should return 400 Bad Request when a destination does not belong to the user")
+        void planRoute_returnsBadRequest_whenDestinationIsNotOwned() throws Exception {
+            mockMvc.perform(post("/users/{id}/route", anotherUserId)
+                            .header("Authorization", "Bearer " + userJwt)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(new RouteRequest(List.of(madrid.getId())))))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 401 Unauthorized if not authenticated")
+        void getRoute_returnsUnauthorizedWhenNotAuthenticated() throws Exception {
+            mockMvc.perform(get("/users/{id}/route", userId)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
     @Nested
     @DisplayName("PUT /users/update/{id}")
     class UpdateUserTest {
@@ -306,7 +378,7 @@ public class UserControllerTest {
 
             User updatedUser = userRepository.findById(anotherUserId).orElseThrow();
             assertThat(updatedUser.getRoles()).hasSize(1);
-            assertThat(updatedUser.getRoles().getFirst().getRoleName()).isEqualTo("ROLE_USER");
+            assertThat(updatedUser.getRoles().iterator().next().getRoleName()).isEqualTo("ROLE_USER");
             assertThat(updatedUser.getUsername()).isEqualTo(anotherUserInDb.getUsername());
             assertThat(updatedUser.getEmail()).isEqualTo(anotherUserInDb.getEmail());
         }
@@ -472,7 +544,7 @@ public class UserControllerTest {
             normalUser.setPassword("dummyPassword");
 
             Role userRole = new Role(1L, "ROLE_USER", null);
-            normalUser.setRoles(List.of(userRole));
+            normalUser.setRoles(Set.of(userRole));
 
             UserDetail testNormalUser = new UserDetail(normalUser);
 
@@ -494,7 +566,7 @@ public class UserControllerTest {
             adminUser.setPassword("dummyPassword");
 
             Role adminRole = new Role(2L, "ROLE_ADMIN", null);
-            adminUser.setRoles(List.of(adminRole));
+            adminUser.setRoles(Set.of(adminRole));
 
             UserDetail testAdmin = new UserDetail(adminUser);
 
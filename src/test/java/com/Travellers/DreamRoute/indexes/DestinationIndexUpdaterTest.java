@@ -0,0 +1,78 @@
+package com.Travellers.DreamRoute.indexes;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.DestinationsCreatedEvent;
+import com.Travellers.DreamRoute.indexes.search.DestinationSearchIndex;
+import com.Travellers.DreamRoute.indexes.search.SearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DestinationIndexUpdater Unit Tests")
+public class DestinationIndexUpdaterTest {
+    private DestinationSearchIndex index;
+    private DestinationIndexUpdater updater;
+
+    private DestinationResponse destination(long id, String city) {
+        return new DestinationResponse(id, "Colombia", city, "Playas y montañas", "http://image.png", "usertest");
+    }
+
+    private List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::destinationId).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new DestinationSearchIndex();
+        updater = new DestinationIndexUpdater(List.of(index));
+        index.upsert(destination(1L, "Cartagena"));
+    }
+
+    @Test
+    @DisplayName("should keep applying changes to the live index and replay them onto the copies before swapping")
+    void shouldReplayChangesMadeDuringRebuild() {
+        List<DestinationIndex> copies = updater.beginRebuild();
+        copies.get(0).upsert(destination(1L, "Cartagena"));
+
+        updater.onDestinationChanged(DestinationChangedEvent.created(destination(2L, "Medellín"), 1L));
+        updater.onDestinationChanged(DestinationChangedEvent.deleted(1L, 1L));
+
+        assertThat(ids(index.search("playas", 10))).containsExactly(2L);
+
+        updater.completeRebuild(copies);
+        updater.onDestinationChanged(DestinationChangedEvent.created(destination(3L, "Cali"), 1L));
+
+        assertThat(ids(index.search("playas", 10))).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("should apply a created batch and replay it onto a rebuild in progress")
+    void shouldApplyCreatedBatch() {
+        List<DestinationIndex> copies = updater.beginRebuild();
+        copies.get(0).upsert(destination(1L, "Cartagena"));
+
+        updater.onDestinationsCreated(DestinationsCreatedEvent.of(
+                List.of(destination(2L, "Medellín"), destination(3L, "Cali")), 1L));
+
+        assertThat(ids(index.search("playas", 10))).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+        updater.completeRebuild(copies);
+
+        assertThat(ids(index.search("playas", 10))).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("should leave the live index untouched when a rebuild is abandoned")
+    void shouldKeepLiveIndexWhenAbandoned() {
+        List<DestinationIndex> copies = updater.beginRebuild();
+        copies.get(0).upsert(destination(5L, "Bogotá"));
+        updater.abandonRebuild();
+
+        updater.onDestinationChanged(DestinationChangedEvent.created(destination(2L, "Medellín"), 1L));
+
+        assertThat(ids(index.search("playas", 10))).containsExactlyInAnyOrder(1L, 2L);
+    }
+}
@@ -0,0 +1,136 @@
+package com.Travellers.DreamRoute.indexes.autocomplete;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DestinationAutocompleteIndex Unit Tests")
+public class DestinationAutocompleteIndexTest {
+    private DestinationAutocompleteIndex index;
+
+    private DestinationResponse destination(long id, String country, String city) {
+        return new DestinationResponse(id, country, city, "Desc", "http://image.png", "usertest");
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new DestinationAutocompleteIndex();
+        index.upsert(destination(1L, "Colombia", "Santa Marta"));
+        index.upsert(destination(2L, "España", "Sevilla"));
+        index.upsert(destination(3L, "España", "Santander"));
+        index.upsert(destination(4L, "Estados Unidos", "San Francisco"));
+        index.upsert(destination(5L, "Colombia", "Santa Marta"));
+    }
+
+    @Nested
+    @DisplayName("complete(AutocompleteField field, String prefix, int limit)")
+    class CompleteTests {
+        @Test
+        @DisplayName("should rank completions by usage count")
+        void shouldRankByUsage() {
+            assertThat(index.complete(AutocompleteField.CITY, "san", 10))
+                    .containsExactly("Santa Marta", "San Francisco", "Santander");
+        }
+
+        @Test
+        @DisplayName("should ignore accents and case in the prefix")
+        void shouldFoldPrefix() {
+            assertThat(index.complete(AutocompleteField.COUNTRY, "ESPA", 10)).containsExactly("España");
+            assertThat(index.complete(AutocompleteField.COUNTRY, "espan", 10)).containsExactly("España");
+        }
+
+        @Test
+        @DisplayName("should complete prefixes ending inside a compressed edge")
+        void shouldCompleteInsideEdge() {
+            assertThat(index.complete(AutocompleteField.CITY, "santan", 10)).containsExactly("Santander");
+            assertThat(index.complete(AutocompleteField.CITY, "santx", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should return the most used values for an empty prefix")
+        void shouldReturnTopForEmptyPrefix() {
+            assertThat(index.complete(AutocompleteField.COUNTRY, "", 2)).containsExactly("Colombia", "España");
+        }
+
+        @Test
+        @DisplayName("should return nothing for an unknown prefix")
+        void shouldReturnEmptyForUnknownPrefix() {
+            assertThat(index.complete(AutocompleteField.CITY, "tok", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("incremental updates")
+    class IncrementalUpdateTests {
+        @Test
+        @DisplayName("should move usage to the new value when a destination is updated")
+        void shouldMoveUsageOnUpdate() {
+            index.upsert(destination(5L, "Colombia", "Cartagena"));
+
+            assertThat(index.complete(AutocompleteField.CITY, "san", 10))
+                    .containsExactly("San Francisco", "Santa Marta", "Santander");
+            assertThat(index.complete(AutocompleteField.CITY, "car", 10)).containsExactly("Cartagena");
+        }
+
+        @Test
+        @DisplayName("should drop values no destination uses any more")
+        void shouldDropUnusedValues() {
+            index.remove(4L);
+
+            assertThat(index.complete(AutocompleteField.COUNTRY, "es", 10)).containsExactly("España");
+            assertThat(index.complete(AutocompleteField.CITY, "san f", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should answer like a full rebuild after any sequence of writes")
+        void shouldMatchFullRebuild() {
+            String[] cities = {"San", "Santa", "Santa Marta", "Santander", "Sa", "Sevilla", "Salta", "Sanaa", "S", "Tokio"};
+            Random random = new Random(7);
+            Map<Long, DestinationResponse> live = new HashMap<>();
+            for (long id = 1; id <= 5; id++) {
+                live.put(id, destination(id, "Country", id == 4 ? "San Francisco" : id == 2 ? "Sevilla" : "Santa Marta"));
+            }
+            for (int step = 0; step < 500; step++) {
+                long id = 1 + random.nextInt(12);
+                if (random.nextInt(4) == 0) {
+                    index.remove(id);
+                    live.remove(id);
+                } else {
+                    DestinationResponse destination = destination(id, "Country", cities[random.nextInt(cities.length)]);
+                    index.upsert(destination);
+                    live.put(id, destination);
+                }
+            }
+            DestinationAutocompleteIndex rebuilt = new DestinationAutocompleteIndex();
+            DestinationAutocompleteIndex loaded = rebuilt.emptyCopy();
+            live.values().forEach(loaded::upsert);
+            rebuilt.replaceWith(loaded);
+
+            for (String prefix : List.of("", "s", "sa", "san", "sant", "santa", "santa m", "se", "t", "x")) {
+                assertThat(index.complete(AutocompleteField.CITY, prefix, 10))
+                        .as(prefix).isEqualTo(rebuilt.complete(AutocompleteField.CITY, prefix, 10));
+            }
+        }
+
+        @Test
+        @DisplayName("should replace the contents when rebuilt")
+        void shouldReplaceOnRebuild() {
+            DestinationAutocompleteIndex copy = index.emptyCopy();
+            copy.upsert(destination(9L, "Japón", "Tokio"));
+
+            assertThat(index.complete(AutocompleteField.CITY, "san", 10)).isNotEmpty();
+
+            index.replaceWith(copy);
+
+            assertThat(index.complete(AutocompleteField.COUNTRY, "", 10)).containsExactly("Japón");
+            assertThat(index.complete(AutocompleteField.CITY, "san", 10)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.Travellers.DreamRoute.indexes.geo;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationClusterResponse;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("DestinationClusterIndex Unit Tests")
+public class DestinationClusterIndexTest {
+    private DestinationClusterIndex index;
+
+    private DestinationResponse destination(long id, Double latitude, Double longitude) {
+        return new DestinationResponse(id, "País", "Ciudad " + id, "Desc", "http://image.png", "usertest", latitude, longitude);
+    }
+
+    private static int total(List<DestinationClusterResponse> clusters) {
+        return clusters.stream().mapToInt(DestinationClusterResponse::count).sum();
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new DestinationClusterIndex();
+        index.upsert(destination(1L, 48.8566, 2.3522));
+        index.upsert(destination(2L, 48.8606, 2.3376));
+        index.upsert(destination(3L, 48.8530, 2.3499));
+        index.upsert(destination(4L, 41.3874, 2.1686));
+        index.upsert(destination(5L, 35.6762, 139.6503));
+    }
+
+    @Nested
+    @DisplayName("clusters(double west, double south, double east, double north, int zoom)")
+    class ClustersTests {
+        @Test
+        @DisplayName("should merge nearby destinations at low zoom with their centroid and a sample of ids")
+        void shouldMergeAtLowZoom() {
+            List<DestinationClusterResponse> clusters = index.clusters(-180, -85, 180, 85, 6);
+
+            DestinationClusterResponse paris = clusters.stream().filter(cluster -> cluster.sampleIds().contains(1L)).findFirst().orElseThrow();
+            assertThat(paris.count()).isEqualTo(3);
+            assertThat(paris.sampleIds()).containsExactly(1L, 2L, 3L);
+            assertThat(paris.latitude()).isCloseTo(48.8567, within(0.01));
+            assertThat(paris.longitude()).isCloseTo(2.3466, within(0.01));
+            assertThat(total(clusters)).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("should split clusters as the zoom increases and return single points past the clustering zoom")
+        void shouldSplitWhenZoomingIn() {
+            assertThat(index.clusters(2.3, 48.8, 2.4, 48.9, 10)).hasSize(1);
+
+            List<DestinationClusterResponse> points = index.clusters(2.3, 48.8, 2.4, 48.9, DestinationClusterIndex.MAX_CLUSTER_ZOOM + 2);
+
+            assertThat(points).hasSize(3).allSatisfy(point -> assertThat(point.count()).isEqualTo(1));
+            assertThat(points).extracting(point -> point.sampleIds().get(0)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        }
+
+        @Test
+        @DisplayName("should only return clusters inside the bounding box, including boxes across the antimeridian")
+        void shouldRespectBoundingBox() {
+            assertThat(total(index.clusters(-10, 35, 10, 55, 5))).isEqualTo(4);
+            assertThat(total(index.clusters(130, 30, -170, 40, 5))).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("upsert / remove")
+    class MaintenanceTests {
+        @Test
+        @DisplayName("should refresh counts and samples when destinations move, lose coordinates or are removed")
+        void shouldMaintainCountsAndSamples() {
+            index.remove(1L);
+            index.upsert(destination(2L, 41.39, 2.17));
+            index.upsert(destination(5L, null, null));
+
+            List<DestinationClusterResponse> clusters = index.clusters(-180, -85, 180, 85, 6);
+
+            assertThat(total(clusters)).isEqualTo(3);
+            assertThat(clusters).anySatisfy(cluster -> assertThat(cluster.sampleIds()).containsExactly(3L));
+            assertThat(clusters).anySatisfy(cluster -> assertThat(cluster.sampleIds()).containsExactly(2L, 4L));
+            assertThat(index.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should keep every zoom level consistent after random writes")
+        void shouldStayConsistentAfterRandomWrites() {
+            Random random = new Random(3);
+            index.replaceWith(index.emptyCopy());
+            boolean[] present = new boolean[2000];
+            for (int round = 0; round < 10_000; round++) {
+                int id = random.nextInt(present.length);
+                if (random.nextInt(4) == 0) {
+                    index.remove((long) id);
+                    present[id] = false;
+                } else {
+                    index.upsert(destination(id, random.nextDouble() * 160 - 80, random.nextDouble() * 360 - 180));
+                    present[id] = true;
+                }
+            }
+            int expected = 0;
+            for (boolean live : present) {
+                expected += live ? 1 : 0;
+            }
+
+            for (int zoom = 0; zoom <= DestinationClusterIndex.MAX_CLUSTER_ZOOM; zoom += 4) {
+                List<DestinationClusterResponse> clusters = index.clusters(-180, -85.06, 180, 85.06, zoom);
+                assertThat(total(clusters)).isEqualTo(expected);
+                assertThat(clusters).allSatisfy(cluster -> assertThat(cluster.sampleIds())
+                        .hasSize(Math.min(cluster.count(), DestinationClusterIndex.SAMPLE_SIZE))
+                        .allSatisfy(id -> assertThat(present[id.intValue()]).isTrue())
+                        .isSorted());
+            }
+        }
+    }
+}
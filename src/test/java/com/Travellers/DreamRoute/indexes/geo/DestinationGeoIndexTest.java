@@ -0,0 +1,130 @@
+package com.Travellers.DreamRoute.indexes.geo;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("DestinationGeoIndex Unit Tests")
+public class DestinationGeoIndexTest {
+    private DestinationGeoIndex index;
+
+    private DestinationResponse destination(long id, Double latitude, Double longitude) {
+        return new DestinationResponse(id, "País", "Ciudad " + id, "Desc", "http://image.png", "usertest", latitude, longitude);
+    }
+
+    private List<Long> ids(List<GeoHit> hits) {
+        return hits.stream().map(GeoHit::destinationId).toList();
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * DestinationGeoIndex.EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new DestinationGeoIndex();
+        index.upsert(destination(1L, 11.2408, -74.1990));
+        index.upsert(destination(2L, 35.6762, 139.6503));
+        index.upsert(destination(3L, 35.0116, 135.7681));
+        index.upsert(destination(7L, -33.8688, 151.2093));
+    }
+
+    @Nested
+    @DisplayName("nearest(double latitude, double longitude, int k)")
+    class NearestTests {
+        @Test
+        @DisplayName("should return the k closest destinations ordered by great-circle distance")
+        void shouldReturnClosestFirst() {
+            List<GeoHit> hits = index.nearest(34.6937, 135.5023, 2);
+
+            assertThat(ids(hits)).containsExactly(3L, 2L);
+            assertThat(hits.get(0).distanceKm()).isCloseTo(haversineKm(34.6937, 135.5023, 35.0116, 135.7681), within(0.01));
+        }
+
+        @Test
+        @DisplayName("should find neighbours across the antimeridian")
+        void shouldWrapAroundTheAntimeridian() {
+            index.upsert(destination(8L, -17.7134, 178.0650));
+            index.upsert(destination(9L, -13.7590, -172.1046));
+
+            assertThat(ids(index.nearest(-15.0, -179.9, 2))).containsExactly(8L, 9L);
+        }
+
+        @Test
+        @DisplayName("should skip destinations without coordinates")
+        void shouldSkipDestinationsWithoutCoordinates() {
+            index.upsert(destination(10L, null, null));
+
+            assertThat(ids(index.nearest(0, 0, 10))).containsExactlyInAnyOrder(1L, 2L, 3L, 7L);
+        }
+
+        @Test
+        @DisplayName("should match a brute-force scan after rebuilds, moves and removals")
+        void shouldMatchBruteForce() {
+            Random random = new Random(42);
+            double[][] points = new double[5_000][];
+            index.replaceWith(index.emptyCopy());
+            for (int i = 0; i < points.length; i++) {
+                points[i] = new double[]{random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180};
+                index.upsert(destination(i, points[i][0], points[i][1]));
+            }
+            for (int i = 0; i < points.length; i += 3) {
+                index.remove((long) i);
+                points[i] = null;
+            }
+            for (int i = 1; i < points.length; i += 7) {
+                points[i] = new double[]{random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180};
+                index.upsert(destination(i, points[i][0], points[i][1]));
+            }
+
+            for (int query = 0; query < 50; query++) {
+                double latitude = random.nextDouble() * 180 - 90;
+                double longitude = random.nextDouble() * 360 - 180;
+                List<Long> expected = IntStream.range(0, points.length)
+                        .filter(id -> points[id] != null)
+                        .boxed()
+                        .sorted(Comparator.comparingDouble(id -> haversineKm(latitude, longitude, points[id][0], points[id][1])))
+                        .limit(10)
+                        .map(Integer::longValue)
+                        .toList();
+
+                assertThat(ids(index.nearest(latitude, longitude, 10))).containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("upsert / remove")
+    class MaintenanceTests {
+        @Test
+        @DisplayName("should move a destination when its coordinates change")
+        void shouldMoveUpdatedDestination() {
+            index.upsert(destination(1L, 35.0, 135.7));
+
+            assertThat(ids(index.nearest(11.2408, -74.1990, 1))).doesNotContain(1L);
+            assertThat(index.size()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should drop a destination when it is removed or loses its coordinates")
+        void shouldDropRemovedDestination() {
+            index.remove(3L);
+            index.upsert(destination(2L, null, null));
+
+            assertThat(ids(index.nearest(35.0, 135.7, 10))).containsExactly(7L, 1L);
+            assertThat(index.size()).isEqualTo(2);
+        }
+    }
+}
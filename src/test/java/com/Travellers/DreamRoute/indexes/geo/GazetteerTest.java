@@ -0,0 +1,100 @@
+package com.Travellers.DreamRoute.indexes.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Gazetteer Unit Tests")
+public class GazetteerTest {
+    private static Gazetteer gazetteer(String content) {
+        return new Gazetteer(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Nested
+    @DisplayName("locate(String city, String country)")
+    class LocateTests {
+        private final Gazetteer gazetteer = gazetteer("""
+                # city\tcountry\tlatitude\tlongitude
+                Kioto\tJapón\t35.0116\t135.7681
+                Santiago\tChile\t-33.4489\t-70.6693\r
+                Santiago\tChile\t-1.0\t-1.0
+                Santiago de Compostela\tEspaña\t42.8782\t-8.5448
+
+                Roto\tSin coordenadas\tabc\t1.0
+                Lejos\tFuera de rango\t95.0\t1.0
+                París\tFrancia\t48.8566\t2.3522""");
+
+        @Test
+        @DisplayName("should find a place ignoring accents, case and extra punctuation")
+        void shouldLocateIgnoringAccentsAndCase() {
+            assertThat(gazetteer.locate("  KIOTO ", "japon")).contains(new GeoPoint(35.0116, 135.7681));
+            assertThat(gazetteer.locate("paris", "FRANCIA")).contains(new GeoPoint(48.8566, 2.3522));
+        }
+
+        @Test
+        @DisplayName("should keep the first entry for duplicate names and tolerate CRLF line endings")
+        void shouldKeepFirstDuplicate() {
+            assertThat(gazetteer.locate("Santiago", "Chile")).contains(new GeoPoint(-33.4489, -70.6693));
+            assertThat(gazetteer.size()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should not match on city alone or on malformed lines")
+        void shouldRequireCityAndCountry() {
+            assertThat(gazetteer.locate("Santiago", "España")).isEmpty();
+            assertThat(gazetteer.locate("Roto", "Sin coordenadas")).isEmpty();
+            assertThat(gazetteer.locate("Lejos", "Fuera de rango")).isEmpty();
+            assertThat(gazetteer.locate("", "Chile")).isEmpty();
+            assertThat(gazetteer.locate(null, null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Loading")
+    class LoadingTests {
+        @Test
+        @DisplayName("should map a gazetteer file and index every entry")
+        void shouldIndexMappedFile(@TempDir Path directory) throws IOException {
+            Path file = directory.resolve("cities.tsv");
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (int i = 0; i < 50_000; i++) {
+                    writer.write("Ciudad " + i + "\tPaís " + (i % 7) + "\t" + (i % 180 - 90) + "\t" + (i % 360 - 180) + "\n");
+                }
+            }
+
+            Gazetteer gazetteer = new Gazetteer(new FileSystemResource(file));
+
+            assertThat(gazetteer.size()).isEqualTo(50_000);
+            assertThat(gazetteer.locate("ciudad 49999", "pais 5")).contains(new GeoPoint(49_999 % 180 - 90, 49_999 % 360 - 180));
+        }
+
+        @Test
+        @DisplayName("should load the bundled gazetteer and cover the seeded destinations")
+        void shouldLoadBundledGazetteer() {
+            Gazetteer gazetteer = new Gazetteer(new ClassPathResource("gazetteer/cities.tsv"));
+
+            assertThat(gazetteer.locate("Sídney", "Australia")).isPresent();
+            assertThat(gazetteer.locate("Nueva York", "Estados Unidos")).isPresent();
+        }
+
+        @Test
+        @DisplayName("should start empty when the gazetteer is missing")
+        void shouldStartEmptyWhenMissing(@TempDir Path directory) {
+            Gazetteer gazetteer = new Gazetteer(new FileSystemResource(directory.resolve("missing.tsv")));
+
+            assertThat(gazetteer.size()).isZero();
+            assertThat(gazetteer.locate("Kioto", "Japón")).isEqualTo(Optional.empty());
+        }
+    }
+}
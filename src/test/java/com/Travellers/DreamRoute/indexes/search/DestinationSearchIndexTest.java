@@ -0,0 +1,148 @@
+package com.Travellers.DreamRoute.indexes.search;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DestinationSearchIndex Unit Tests")
+public class DestinationSearchIndexTest {
+    private DestinationSearchIndex index;
+
+    private DestinationResponse destination(long id, String country, String city, String description) {
+        return new DestinationResponse(id, country, city, description, "http://image.png", "usertest");
+    }
+
+    private List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::destinationId).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new DestinationSearchIndex();
+        index.upsert(destination(1L, "Colombia", "Santa Marta", "La más hermosa ciudad, llena de playas refrescantes"));
+        index.upsert(destination(2L, "Japón", "Tokio", "Una ciudad futurista con cultura tradicional y tecnología avanzada."));
+        index.upsert(destination(7L, "Australia", "Sídney", "Icono de la costa australiana con playas, ópera y naturaleza."));
+    }
+
+    @Nested
+    @DisplayName("TextNormalizer")
+    class TextNormalizerTests {
+        @Test
+        @DisplayName("should fold accents and case and split on punctuation")
+        void shouldFoldAccentsAndCase() {
+            assertThat(TextNormalizer.tokenize("Japón, SÍDNEY y España!")).containsExactly("japon", "sidney", "y", "espana");
+        }
+    }
+
+    @Nested
+    @DisplayName("search(String query, int limit)")
+    class SearchTests {
+        @Test
+        @DisplayName("should match accented text with an unaccented query")
+        void shouldMatchIgnoringAccents() {
+            assertThat(ids(index.search("japon", 10))).containsExactly(2L);
+            assertThat(ids(index.search("SIDNEY", 10))).containsExactly(7L);
+        }
+
+        @Test
+        @DisplayName("should rank documents matching more query terms first")
+        void shouldRankByRelevance() {
+            List<SearchHit> hits = index.search("playas australiana", 10);
+
+            assertThat(ids(hits)).containsExactly(7L, 1L);
+            assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+        }
+
+        @Test
+        @DisplayName("should respect the limit")
+        void shouldRespectLimit() {
+            assertThat(index.search("ciudad playas", 1)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should not carry scores over from an earlier search")
+        void shouldScoreEachSearchIndependently() {
+            List<SearchHit> first = index.search("playas australiana", 10);
+            index.search("playas", 10);
+            List<SearchHit> again = index.search("playas australiana", 10);
+
+            assertThat(again).isEqualTo(first);
+            assertThat(ids(index.search("tokio", 10))).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("should return no hits for unknown terms")
+        void shouldReturnEmptyForUnknownTerms() {
+            assertThat(index.search("antártida", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("incremental updates")
+    class IncrementalUpdateTests {
+        @Test
+        @DisplayName("should replace the indexed text on upsert of an existing id")
+        void shouldReplaceOnUpsert() {
+            index.upsert(destination(2L, "Japón", "Kioto", "Templos y jardines zen."));
+
+            assertThat(index.search("futurista", 10)).isEmpty();
+            assertThat(ids(index.search("kioto", 10))).containsExactly(2L);
+            assertThat(index.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should replace and add a whole batch at once")
+        void shouldUpsertBatch() {
+            index.upsertAll(List.of(
+                    destination(2L, "Japón", "Kioto", "Templos y jardines zen."),
+                    destination(8L, "Japón", "Osaka", "Templos, castillos y comida callejera.")));
+
+            assertThat(index.search("futurista", 10)).isEmpty();
+            assertThat(ids(index.search("templos", 10))).containsExactlyInAnyOrder(2L, 8L);
+            assertThat(index.size()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should stop returning removed destinations")
+        void shouldRemove() {
+            index.remove(7L);
+
+            assertThat(ids(index.search("playas", 10))).containsExactly(1L);
+            assertThat(index.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should keep results correct after compaction of removed slots")
+        void shouldCompactRemovedSlots() {
+            for (long id = 100; id < 3100; id++) {
+                index.upsert(destination(id, "País", "Ciudad " + id, "Texto de relleno"));
+            }
+            for (long id = 100; id < 3100; id++) {
+                index.remove(id);
+            }
+
+            assertThat(index.size()).isEqualTo(3);
+            assertThat(ids(index.search("playas", 10))).containsExactlyInAnyOrder(1L, 7L);
+            assertThat(index.search("relleno", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should keep serving while a copy loads and take over its contents when swapped")
+        void shouldReplaceWithLoadedCopy() {
+            DestinationSearchIndex copy = index.emptyCopy();
+            copy.upsert(destination(9L, "Francia", "París", "La ciudad del amor"));
+
+            assertThat(ids(index.search("playas", 10))).containsExactlyInAnyOrder(1L, 7L);
+            assertThat(index.search("paris", 10)).isEmpty();
+
+            index.replaceWith(copy);
+
+            assertThat(index.size()).isEqualTo(1);
+            assertThat(ids(index.search("paris", 10))).containsExactly(9L);
+        }
+    }
+}
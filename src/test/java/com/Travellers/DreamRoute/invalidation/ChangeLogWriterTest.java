@@ -0,0 +1,94 @@
+package com.Travellers.DreamRoute.invalidation;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.DestinationsCreatedEvent;
+import com.Travellers.DreamRoute.models.ChangeLogEntry;
+import com.Travellers.DreamRoute.models.ChangeLogEntry.ChangeType;
+import com.Travellers.DreamRoute.repositories.ChangeLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.List;
+import java.util.stream.LongStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangeLogWriter Unit Tests")
+public class ChangeLogWriterTest {
+    @Mock
+    ChangeLogRepository changeLogRepository;
+
+    private ChangeLogWriter changeLogWriter;
+
+    @BeforeEach
+    void setUp() {
+        changeLogWriter = new ChangeLogWriter(changeLogRepository, new ReplicaIdentity());
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    private static DestinationResponse destination(long id) {
+        return new DestinationResponse(id, "Japón", "Kioto", "Desc", "url", "May");
+    }
+
+    @Test
+    @DisplayName("should write one entry per owner for the destinations a transaction creates")
+    @SuppressWarnings("unchecked")
+    void shouldCollapseCreationsIntoRanges() {
+        for (long id = 100; id < 600; id++) {
+            changeLogWriter.onDestinationChanged(DestinationChangedEvent.created(destination(id), 1L));
+        }
+        changeLogWriter.onDestinationChanged(DestinationChangedEvent.created(destination(700), 2L));
+        changeLogWriter.onDestinationChanged(DestinationChangedEvent.deleted(3L, 2L));
+        verify(changeLogRepository, never()).saveAll(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+
+        ArgumentCaptor<List<ChangeLogEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository).saveAll(entries.capture());
+        assertThat(entries.getValue())
+                .extracting(ChangeLogEntry::getChangeType, ChangeLogEntry::getEntityId, ChangeLogEntry::getOwnerId, ChangeLogEntry::getDetail)
+                .containsExactly(
+                        tuple(ChangeType.CREATED, 100L, 1L, "599"),
+                        tuple(ChangeType.CREATED, 700L, 2L, null),
+                        tuple(ChangeType.DELETED, 3L, 2L, null));
+    }
+
+    @Test
+    @DisplayName("should write a created batch as one range entry, merged with other creations by the same owner")
+    @SuppressWarnings("unchecked")
+    void shouldCollapseCreatedBatchIntoRange() {
+        changeLogWriter.onDestinationsCreated(DestinationsCreatedEvent.of(
+                LongStream.range(100, 600).mapToObj(ChangeLogWriterTest::destination).toList(), 1L));
+        changeLogWriter.onDestinationChanged(DestinationChangedEvent.created(destination(50), 1L));
+        changeLogWriter.onDestinationsCreated(DestinationsCreatedEvent.of(List.of(destination(700)), 2L).asRemote());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+
+        ArgumentCaptor<List<ChangeLogEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository).saveAll(entries.capture());
+        assertThat(entries.getValue())
+                .extracting(ChangeLogEntry::getChangeType, ChangeLogEntry::getEntityId, ChangeLogEntry::getOwnerId, ChangeLogEntry::getDetail)
+                .containsExactly(tuple(ChangeType.CREATED, 50L, 1L, "599"));
+    }
+}
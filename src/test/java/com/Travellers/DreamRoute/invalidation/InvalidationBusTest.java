@@ -0,0 +1,238 @@
+package com.Travellers.DreamRoute.invalidation;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.DestinationsCreatedEvent;
+import com.Travellers.DreamRoute.events.ReplicaResyncEvent;
+import com.Travellers.DreamRoute.events.UserRenamedEvent;
+import com.Travellers.DreamRoute.models.ChangeLogEntry;
+import com.Travellers.DreamRoute.models.ChangeLogEntry.ChangeType;
+import com.Travellers.DreamRoute.models.ChangeLogEntry.EntityType;
+import com.Travellers.DreamRoute.repositories.ChangeLogRepository;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InvalidationBus Unit Tests")
+public class InvalidationBusTest {
+    private static final Instant START = Instant.parse("2025-07-01T10:00:00Z");
+    private static final Limit BATCH = Limit.of(InvalidationBus.BATCH_SIZE);
+
+    @Mock
+    ChangeLogRepository changeLogRepository;
+
+    @Mock
+    DestinationRepository destinationRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    private final ReplicaIdentity replicaIdentity = new ReplicaIdentity();
+    private SimpleMeterRegistry meterRegistry;
+    private InvalidationBus invalidationBus;
+
+    private final DestinationResponse tokio = new DestinationResponse(2L, "Japón", "Tokio", "Desc", "url", "Deb");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        invalidationBus = new InvalidationBus(changeLogRepository, destinationRepository, eventPublisher,
+                replicaIdentity, meterRegistry);
+        given(changeLogRepository.findMaxId()).willReturn(10L);
+        invalidationBus.start(START);
+    }
+
+    private ChangeLogEntry entry(long id, EntityType entityType, ChangeType changeType, long entityId, String origin) {
+        return ChangeLogEntry.builder()
+                .id(id)
+                .entityType(entityType)
+                .changeType(changeType)
+                .entityId(entityId)
+                .ownerId(5L)
+                .detail(changeType == ChangeType.RENAMED ? "Deb" : null)
+                .origin(origin)
+                .createdAt(START)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("applying remote changes")
+    class ApplyTests {
+        @Test
+        @DisplayName("should republish remote destination changes with the current projection")
+        void shouldRepublishRemoteDestinationChanges() {
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(10L, BATCH)).willReturn(List.of(
+                    entry(11, EntityType.DESTINATION, ChangeType.UPDATED, 2L, "other-replica"),
+                    entry(12, EntityType.DESTINATION, ChangeType.DELETED, 3L, "other-replica")));
+            given(destinationRepository.findAllResponsesByIdIn(List.of(2L))).willReturn(List.of(tokio));
+
+            invalidationBus.poll(START.plusMillis(40));
+
+            verify(eventPublisher).publishEvent(DestinationChangedEvent.updated(tokio, 5L).asRemote());
+            verify(eventPublisher).publishEvent(DestinationChangedEvent.deleted(3L, 5L).asRemote());
+            assertThat(meterRegistry.get("invalidation.bus.lag").timer().count()).isEqualTo(2);
+            assertThat(meterRegistry.get("invalidation.bus.lag").timer().max(TimeUnit.MILLISECONDS)).isEqualTo(40.0);
+        }
+
+        @Test
+        @DisplayName("should treat an update of a destination that no longer exists as a delete")
+        void shouldTreatMissingDestinationAsDeleted() {
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(10L, BATCH)).willReturn(List.of(
+                    entry(11, EntityType.DESTINATION, ChangeType.CREATED, 2L, "other-replica")));
+            given(destinationRepository.findAllResponsesByIdIn(List.of(2L))).willReturn(List.of());
+
+            invalidationBus.poll(START.plusMillis(40));
+
+            verify(eventPublisher).publishEvent(DestinationChangedEvent.deleted(2L, 5L).asRemote());
+        }
+
+        @Test
+        @DisplayName("should republish a bulk creation range as one batch")
+        void shouldRepublishCreatedRange() {
+            ChangeLogEntry range = entry(11, EntityType.DESTINATION, ChangeType.CREATED, 2L, "other-replica");
+            range.setDetail("9");
+            DestinationResponse kioto = new DestinationResponse(9L, "Japón", "Kioto", "Desc", "url", "Deb");
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(10L, BATCH)).willReturn(List.of(range));
+            given(destinationRepository.findAllResponsesByUserIdAndIdBetween(5L, 2L, 9L)).willReturn(List.of(tokio, kioto));
+
+            invalidationBus.poll(START.plusMillis(40));
+
+            verify(eventPublisher).publishEvent(DestinationsCreatedEvent.of(List.of(tokio, kioto), 5L).asRemote());
+            verify(eventPublisher, never()).publishEvent(ArgumentMatchers.any(DestinationChangedEvent.class));
+            verify(destinationRepository, never()).findAllResponsesByIdIn(ArgumentMatchers.anyCollection());
+        }
+
+        @Test
+        @DisplayName("should republish remote user renames")
+        void shouldRepublishRemoteUserRenames() {
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(10L, BATCH)).willReturn(List.of(
+                    entry(11, EntityType.USER, ChangeType.RENAMED, 5L, "other-replica")));
+
+            invalidationBus.poll(START.plusMillis(40));
+
+            verify(eventPublisher).publishEvent(new UserRenamedEvent(5L, "Deb", null).asRemote());
+        }
+
+        @Test
+        @DisplayName("should deliver a change again on the next poll when applying it failed")
+        void shouldRetryChangesWhenApplyFails() {
+            ChangeLogEntry late = entry(11, EntityType.DESTINATION, ChangeType.UPDATED, 2L, "other-replica");
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(10L, BATCH)).willReturn(List.of(
+                    entry(12, EntityType.DESTINATION, ChangeType.DELETED, 3L, "other-replica")));
+            invalidationBus.poll(START.plusMillis(250));
+
+            given(changeLogRepository.findAllById(Set.of(11L))).willReturn(List.of(late));
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(12L, BATCH)).willReturn(List.of(
+                    entry(13, EntityType.DESTINATION, ChangeType.DELETED, 4L, "other-replica")));
+            given(destinationRepository.findAllResponsesByIdIn(List.of(2L)))
+                    .willThrow(new DataAccessResourceFailureException("down"))
+                    .willReturn(List.of(tokio));
+            invalidationBus.poll(START.plusMillis(500));
+            invalidationBus.poll(START.plusMillis(750));
+
+            verify(eventPublisher).publishEvent(DestinationChangedEvent.updated(tokio, 5L).asRemote());
+            verify(changeLogRepository, times(2)).findAllById(Set.of(11L));
+            verify(changeLogRepository, times(2)).findByIdGreaterThanOrderByIdAsc(12L, BATCH);
+            verify(changeLogRepository, never()).findByIdGreaterThanOrderByIdAsc(13L, BATCH);
+        }
+
+        @Test
+        @DisplayName("should skip changes written by this replica")
+        void shouldSkipOwnChanges() {
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(10L, BATCH)).willReturn(List.of(
+                    entry(11, EntityType.DESTINATION, ChangeType.UPDATED, 2L, replicaIdentity.getId())));
+
+            invalidationBus.poll(START.plusMillis(40));
+
+            verify(eventPublisher, never()).publishEvent(ArgumentMatchers.any(Object.class));
+            verify(destinationRepository, never()).findAllResponsesByIdIn(ArgumentMatchers.any());
+        }
+    }
+
+    @Nested
+    @DisplayName("gaps in the change sequence")
+    class GapTests {
+        @Test
+        @DisplayName("should apply a change that commits after a later one was already read")
+        void shouldApplyLateCommittedChange() {
+            ChangeLogEntry late = entry(11, EntityType.DESTINATION, ChangeType.DELETED, 4L, "other-replica");
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(10L, BATCH)).willReturn(List.of(
+                    entry(12, EntityType.DESTINATION, ChangeType.DELETED, 3L, "other-replica")));
+            invalidationBus.poll(START.plusMillis(250));
+
+            given(changeLogRepository.findAllById(Set.of(11L))).willReturn(List.of(late));
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(12L, BATCH)).willReturn(List.of());
+            invalidationBus.poll(START.plusMillis(500));
+
+            verify(eventPublisher).publishEvent(DestinationChangedEvent.deleted(4L, 5L).asRemote());
+        }
+
+        @Test
+        @DisplayName("should clear local caches without rebuilding indexes when a gap is never filled")
+        void shouldClearCachesWhenGapExpires() {
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(10L, BATCH)).willReturn(List.of(
+                    entry(12, EntityType.DESTINATION, ChangeType.DELETED, 3L, "other-replica")));
+            invalidationBus.poll(START);
+
+            given(changeLogRepository.findAllById(Set.of(11L))).willReturn(List.of());
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(12L, BATCH)).willReturn(List.of());
+            invalidationBus.poll(START.plus(InvalidationBus.GAP_TIMEOUT).plusSeconds(1));
+
+            verify(eventPublisher).publishEvent(ReplicaResyncEvent.afterGap());
+        }
+    }
+
+    @Nested
+    @DisplayName("bounded staleness")
+    class StalenessTests {
+        @Test
+        @DisplayName("should clear caches while the change log is unreadable for longer than the bound")
+        void shouldClearCachesWhileStale() {
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(10L, BATCH))
+                    .willThrow(new DataAccessResourceFailureException("down"));
+
+            invalidationBus.poll(START.plusSeconds(1));
+            verify(eventPublisher, never()).publishEvent(ArgumentMatchers.any(Object.class));
+
+            invalidationBus.poll(START.plus(InvalidationBus.STALENESS_BOUND).plusSeconds(1));
+            verify(eventPublisher, times(1)).publishEvent(ReplicaResyncEvent.whileStale());
+            assertThat(invalidationBus.secondsSinceLastPoll(START.plusSeconds(6))).isEqualTo(6.0);
+        }
+
+        @Test
+        @DisplayName("should resynchronize from the head of the log once it recovers")
+        void shouldResynchronizeOnRecovery() {
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(10L, BATCH))
+                    .willThrow(new DataAccessResourceFailureException("down"));
+            invalidationBus.poll(START.plus(InvalidationBus.STALENESS_BOUND).plusSeconds(1));
+
+            given(changeLogRepository.findMaxId()).willReturn(40L);
+            invalidationBus.poll(START.plus(InvalidationBus.STALENESS_BOUND).plusSeconds(2));
+            verify(eventPublisher).publishEvent(ReplicaResyncEvent.afterCatchUp());
+
+            given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(40L, BATCH)).willReturn(List.of());
+            invalidationBus.poll(START.plus(InvalidationBus.STALENESS_BOUND).plusSeconds(3));
+            verify(changeLogRepository).findByIdGreaterThanOrderByIdAsc(40L, BATCH);
+        }
+    }
+}
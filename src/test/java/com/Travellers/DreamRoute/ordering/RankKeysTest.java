@@ -0,0 +1,89 @@
+package com.Travellers.DreamRoute.ordering;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RankKeys Unit Tests")
+public class RankKeysTest {
+
+    @Nested
+    @DisplayName("between(String before, String after)")
+    class BetweenTests {
+        @Test
+        @DisplayName("should generate keys strictly between their bounds")
+        void shouldGenerateKeysBetweenBounds() {
+            assertThat(RankKeys.between(null, null)).isEqualTo("V");
+            assertThat(RankKeys.between("V", null)).isGreaterThan("V");
+            assertThat(RankKeys.between(null, "V")).isLessThan("V");
+            assertThat(RankKeys.between("a", "b")).isStrictlyBetween("a", "b");
+            assertThat(RankKeys.between("az", "b")).isStrictlyBetween("az", "b");
+            assertThat(RankKeys.between("a", "a01")).isStrictlyBetween("a", "a01");
+            assertThat(RankKeys.between(null, "01")).isLessThan("01");
+        }
+
+        @Test
+        @DisplayName("should keep a consistent order under random insertions")
+        void shouldStayOrderedUnderRandomInsertions() {
+            Random random = new Random(11);
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                int position = random.nextInt(keys.size() + 1);
+                String before = position == 0 ? null : keys.get(position - 1);
+                String after = position == keys.size() ? null : keys.get(position);
+                keys.add(position, RankKeys.between(before, after));
+            }
+
+            assertThat(keys).isSorted().doesNotHaveDuplicates();
+            assertThat(keys).allSatisfy(key -> assertThat(key).doesNotEndWith("0").hasSizeLessThan(12));
+        }
+
+        @Test
+        @DisplayName("should grow slowly when inserting repeatedly at the same spot")
+        void shouldGrowSlowlyWhenInsertingAtTheSameSpot() {
+            String lower = "V";
+            String upper = "W";
+            for (int i = 0; i < 100; i++) {
+                upper = RankKeys.between(lower, upper);
+            }
+
+            assertThat(upper).isStrictlyBetween("V", "W").hasSizeLessThan(RankKeys.MAX_LENGTH);
+        }
+
+        @Test
+        @DisplayName("should reject bounds out of order and malformed keys")
+        void shouldRejectInvalidBounds() {
+            assertThatThrownBy(() -> RankKeys.between("b", "a"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Rank b must come before a");
+            assertThatThrownBy(() -> RankKeys.between("a", "a"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> RankKeys.between("a0", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid rank a0");
+            assertThatThrownBy(() -> RankKeys.between(null, "a-b"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("between(String before, String after, int count)")
+    class SpreadTests {
+        @Test
+        @DisplayName("should spread short, ascending keys across the gap")
+        void shouldSpreadKeys() {
+            List<String> keys = RankKeys.between(null, null, 1000);
+
+            assertThat(keys).hasSize(1000).isSorted().doesNotHaveDuplicates();
+            assertThat(keys).allSatisfy(key -> assertThat(key).hasSizeLessThanOrEqualTo(3));
+            assertThat(RankKeys.between("a", "b", 5)).isSorted()
+                    .allSatisfy(key -> assertThat(key).isStrictlyBetween("a", "b"));
+            assertThat(RankKeys.between(null, null, 0)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.Travellers.DreamRoute.repositories;
+
+import com.Travellers.DreamRoute.models.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("UserRepository normalized lookups")
+public class UserRepositoryIntegrationTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should find users by username and email regardless of case")
+    void shouldFindIgnoringCase() {
+        assertThat(userRepository.findByUsernameIgnoreCase("mAY")).map(User::getId).contains(1L);
+        assertThat(userRepository.findByEmailIgnoreCase("DEB@Example.com")).map(User::getId).contains(2L);
+        assertThat(userRepository.existsByUsername("SOFI")).isTrue();
+        assertThat(userRepository.existsByEmail("nobody@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should resolve username lookups with a point read on the unique index")
+    void shouldUseUniqueIndex() {
+        Map<String, Object> plan = jdbcTemplate.queryForMap("EXPLAIN SELECT id FROM users WHERE username_lc = lower(?)", "MAY");
+
+        assertThat(plan.get("key")).isEqualTo("uk_users_username_lc");
+        assertThat(plan.get("type")).isEqualTo("const");
+    }
+
+    @Test
+    @DisplayName("Should reject usernames and emails that differ only in case")
+    void shouldRejectCaseInsensitiveDuplicates() {
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO users(username, email, password) VALUES ('MAY', 'other@example.com', 'x')"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO users(username, email, password) VALUES ('Other', 'VIO@EXAMPLE.COM', 'x')"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,139 @@
+package com.Travellers.DreamRoute.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("RouteOptimizer Unit Tests")
+public class RouteOptimizerTest {
+    private final RouteOptimizer optimizer = new RouteOptimizer(5000, Duration.ofSeconds(2), 2, 4);
+
+    @AfterEach
+    void tearDown() {
+        optimizer.close();
+    }
+
+    private static void assertPermutation(int[] order, int stops) {
+        assertThat(Arrays.stream(order).sorted().toArray()).isEqualTo(IntStream.range(0, stops).toArray());
+    }
+
+    private static double pathLength(int[] order, double[] latitudes, double[] longitudes) {
+        double length = 0;
+        for (int i = 1; i < order.length; i++) {
+            length += haversineKm(latitudes[order[i - 1]], longitudes[order[i - 1]], latitudes[order[i]], longitudes[order[i]]);
+        }
+        return length;
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * 6371.0088 * Math.asin(Math.sqrt(a));
+    }
+
+    @Nested
+    @DisplayName("optimize(double[] latitudes, double[] longitudes)")
+    class OptimizeTests {
+        @Test
+        @DisplayName("should handle empty and tiny routes")
+        void shouldHandleTinyRoutes() {
+            assertThat(optimizer.optimize(new double[0], new double[0]).order()).isEmpty();
+            assertThat(optimizer.optimize(new double[]{10}, new double[]{10}).order()).containsExactly(0);
+
+            RouteOptimizer.Route route = optimizer.optimize(new double[]{0, 0, 0}, new double[]{0, 10, 1});
+
+            assertThat(route.order()).satisfiesAnyOf(
+                    order -> assertThat(order).containsExactly(0, 2, 1),
+                    order -> assertThat(order).containsExactly(1, 2, 0));
+            assertThat(route.distanceKm()).isCloseTo(haversineKm(0, 0, 0, 10), within(0.5));
+        }
+
+        @Test
+        @DisplayName("should visit shuffled stops along a line in order")
+        void shouldUntangleALine() {
+            int stops = 40;
+            double[] latitudes = new double[stops];
+            double[] longitudes = new double[stops];
+            int[] shuffled = IntStream.range(0, stops).map(i -> (i * 17) % stops).toArray();
+            for (int i = 0; i < stops; i++) {
+                latitudes[i] = 0;
+                longitudes[i] = shuffled[i];
+            }
+
+            RouteOptimizer.Route route = optimizer.optimize(latitudes, longitudes);
+
+            assertPermutation(route.order(), stops);
+            assertThat(route.distanceKm()).isCloseTo(haversineKm(0, 0, 0, stops - 1), within(1.0));
+        }
+
+        @Test
+        @DisplayName("should find the perimeter of a convex polygon")
+        void shouldSolveConvexPolygon() {
+            int stops = 200;
+            double[] latitudes = new double[stops];
+            double[] longitudes = new double[stops];
+            List<Integer> shuffled = new ArrayList<>(IntStream.range(0, stops).boxed().toList());
+            Collections.shuffle(shuffled, new Random(7));
+            for (int i = 0; i < stops; i++) {
+                double angle = 2 * Math.PI * shuffled.get(i) / stops;
+                latitudes[i] = 5 * Math.sin(angle);
+                longitudes[i] = 5 * Math.cos(angle);
+            }
+            double perimeterWithoutOneLeg = (stops - 1) * haversineKm(0, 5, 5 * Math.sin(2 * Math.PI / stops), 5 * Math.cos(2 * Math.PI / stops));
+
+            RouteOptimizer.Route route = optimizer.optimize(latitudes, longitudes);
+
+            assertPermutation(route.order(), stops);
+            assertThat(route.distanceKm()).isCloseTo(perimeterWithoutOneLeg, within(perimeterWithoutOneLeg * 0.01));
+            assertThat(route.distanceKm()).isCloseTo(pathLength(route.order(), latitudes, longitudes), within(1.0));
+        }
+
+        @Test
+        @DisplayName("should plan thousands of stops within the time budget")
+        void shouldScaleToThousandsOfStops() {
+            int stops = 3000;
+            Random random = new Random(42);
+            double[] latitudes = new double[stops];
+            double[] longitudes = new double[stops];
+            for (int i = 0; i < stops; i++) {
+                latitudes[i] = random.nextDouble() * 20 + 35;
+                longitudes[i] = random.nextDouble() * 30 - 10;
+            }
+            int[] identity = IntStream.range(0, stops).toArray();
+
+            long start = System.nanoTime();
+            RouteOptimizer.Route route = optimizer.optimize(latitudes, longitudes);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            assertPermutation(route.order(), stops);
+            assertThat(elapsed).isLessThan(Duration.ofSeconds(4));
+            assertThat(route.distanceKm()).isLessThan(pathLength(identity, latitudes, longitudes) / 10);
+        }
+
+        @Test
+        @DisplayName("should reject routes above the configured stop limit")
+        void shouldRejectTooManyStops() {
+            RouteOptimizer limited = new RouteOptimizer(2, Duration.ofSeconds(1), 1, 1);
+            try {
+                assertThatThrownBy(() -> limited.optimize(new double[3], new double[3]))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("A route can have at most 2 stops");
+            } finally {
+                limited.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.Travellers.DreamRoute.security.jwt;
+
+import com.Travellers.DreamRoute.models.Role;
+import com.Travellers.DreamRoute.models.User;
+import com.Travellers.DreamRoute.security.UserDetail;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtService Unit Tests")
+public class JwtServiceTest {
+    private final JwtService jwtService = new JwtService();
+
+    private UserDetail userDetail() {
+        Set<Role> roles = new LinkedHashSet<>(List.of(
+                Role.builder().id(1L).roleName("ROLE_USER").build(),
+                Role.builder().id(2L).roleName("ROLE_ADMIN").build()));
+        return new UserDetail(User.builder().id(7L).username("May").password("encoded").roles(roles).build());
+    }
+
+    @Test
+    @DisplayName("should build the principal from the verified claims")
+    void shouldBuildPrincipalFromClaims() {
+        String token = jwtService.generateToken(userDetail());
+
+        Claims claims = jwtService.parseToken(token).orElseThrow();
+        UserDetail principal = jwtService.extractUserDetail(claims).orElseThrow();
+
+        assertThat(claims.get(JwtService.ROLES_CLAIM)).isEqualTo(List.of("ROLE_USER", "ROLE_ADMIN"));
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getUsername()).isEqualTo("May");
+        assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("should reject a token whose signature does not match")
+    void shouldRejectTamperedToken() {
+        String token = jwtService.generateToken(userDetail());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtService.parseToken(tampered)).isEmpty();
+        assertThat(jwtService.isValidToken("not-a-token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should return the cached claims when the same token is verified again")
+    void shouldReuseVerifiedClaims() {
+        String token = jwtService.generateToken(userDetail());
+
+        Claims first = jwtService.parseToken(token).orElseThrow();
+        Claims second = jwtService.parseToken(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(jwtService.extractUsername(token)).isEqualTo("May");
+    }
+
+    @Test
+    @DisplayName("should reject an expired token")
+    void shouldRejectExpiredToken() {
+        String expired = Jwts.builder()
+                .subject("May")
+                .issuedAt(new Date(System.currentTimeMillis() - 60_000))
+                .expiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode("mySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong")))
+                .compact();
+
+        assertThat(jwtService.parseToken(expired)).isEmpty();
+    }
+}
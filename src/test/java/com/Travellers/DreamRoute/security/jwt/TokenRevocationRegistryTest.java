@@ -0,0 +1,75 @@
+package com.Travellers.DreamRoute.security.jwt;
+
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.models.ChangeLogEntry;
+import com.Travellers.DreamRoute.models.ChangeLogEntry.ChangeType;
+import com.Travellers.DreamRoute.models.ChangeLogEntry.EntityType;
+import com.Travellers.DreamRoute.repositories.ChangeLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationRegistry Unit Tests")
+public class TokenRevocationRegistryTest {
+    private static final Instant REVOKED_SECOND = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(10);
+    private static final Instant REVOKED_AT = REVOKED_SECOND.plusMillis(500);
+
+    @Mock
+    ChangeLogRepository changeLogRepository;
+
+    @InjectMocks
+    TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Test
+    @DisplayName("should reject tokens issued up to the second of the revocation")
+    void shouldRejectTokensIssuedBeforeRevocation() {
+        tokenRevocationRegistry.onUserChanged(new UserChangedEvent(UserChangedEvent.Type.REVOKED, 3L, REVOKED_AT, true));
+
+        assertThat(tokenRevocationRegistry.isRevoked(3L, REVOKED_SECOND.minusSeconds(60))).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(3L, REVOKED_SECOND)).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(3L, REVOKED_SECOND.plusSeconds(1))).isFalse();
+        assertThat(tokenRevocationRegistry.isRevoked(4L, REVOKED_SECOND.minusSeconds(60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should ignore changes that do not affect credentials")
+    void shouldIgnorePlainUpdates() {
+        tokenRevocationRegistry.onUserChanged(new UserChangedEvent(UserChangedEvent.Type.UPDATED, 3L, REVOKED_AT, false));
+
+        assertThat(tokenRevocationRegistry.isRevoked(3L, REVOKED_SECOND.minusSeconds(60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should load recent revocations from the change log")
+    void shouldLoadRecentRevocations() {
+        Instant recent = Instant.now().minusSeconds(60);
+        given(changeLogRepository.findByEntityTypeAndChangeTypeInAndCreatedAtAfter(
+                ArgumentMatchers.eq(EntityType.USER), ArgumentMatchers.anyCollection(), ArgumentMatchers.any(Instant.class)))
+                .willReturn(List.of(ChangeLogEntry.builder()
+                        .entityType(EntityType.USER).changeType(ChangeType.DELETED).entityId(8L).createdAt(recent).build()));
+
+        tokenRevocationRegistry.reload();
+
+        assertThat(tokenRevocationRegistry.isRevoked(8L, recent.minusSeconds(5))).isTrue();
+    }
+
+    @Test
+    @DisplayName("should forget revocations older than the token lifetime")
+    void shouldForgetExpiredRevocations() {
+        Instant now = Instant.now();
+        tokenRevocationRegistry.revoke(3L, now.minus(Duration.ofMillis(JwtService.JWT_EXPIRATION)).minusSeconds(1), now);
+
+        assertThat(tokenRevocationRegistry.isRevoked(3L, now.minus(Duration.ofHours(1)))).isFalse();
+    }
+}
@@ -0,0 +1,91 @@
+package com.Travellers.DreamRoute.security.password;
+
+import com.Travellers.DreamRoute.exceptions.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedBCryptPasswordEncoder Unit Tests")
+public class BoundedBCryptPasswordEncoderTest {
+    private final BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(4, 1, 1, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Nested
+    @DisplayName("hashing")
+    class HashingTests {
+        @Test
+        @DisplayName("should encode with the configured cost and match the raw password")
+        void shouldEncodeAndMatch() {
+            String encoded = encoder.encode("secret123");
+
+            assertThat(encoded).startsWith("$2a$04$");
+            assertThat(encoder.matches("secret123", encoded)).isTrue();
+            assertThat(encoder.matches("wrong", encoded)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should ask for an upgrade only when the stored cost is below the configured one")
+        void shouldUpgradeOnlyWhenCostIsLower() {
+            BoundedBCryptPasswordEncoder stronger = new BoundedBCryptPasswordEncoder(5, 1, 1, Duration.ofSeconds(5));
+            try {
+                assertThat(stronger.upgradeEncoding(BCrypt.hashpw("secret123", BCrypt.gensalt(4)))).isTrue();
+            } finally {
+                stronger.shutdown();
+            }
+            assertThat(encoder.upgradeEncoding(BCrypt.hashpw("secret123", BCrypt.gensalt(5)))).isFalse();
+            assertThat(encoder.upgradeEncoding("$2a$12$ujrtJeyCVy992nYx8SJ8i.b0lLycVo9D5beF8/OOWj.pt1uSFpzHq")).isFalse();
+            assertThat(encoder.upgradeEncoding(encoder.encode("secret123"))).isFalse();
+            assertThat(encoder.upgradeEncoding(null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("backpressure")
+    class BackpressureTests {
+        @Test
+        @DisplayName("should fail fast with ServiceBusyException when the pool and queue are full")
+        void shouldRejectWhenSaturated() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch running = new CountDownLatch(1);
+            CompletableFuture<Boolean> busy = CompletableFuture.supplyAsync(() -> encoder.run(() -> {
+                running.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }));
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("queued"));
+            while (encoder.queuedOperations() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> encoder.encode("rejected"))
+                    .isInstanceOf(ServiceBusyException.class);
+
+            release.countDown();
+            assertThat(busy.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(encoder.matches("queued", queued.get(5, TimeUnit.SECONDS))).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("calibrateStrength(Duration target, int minStrength, int maxStrength)")
+    class CalibrationTests {
+        @Test
+        @DisplayName("should stay within the configured bounds")
+        void shouldClampToBounds() {
+            assertThat(BoundedBCryptPasswordEncoder.calibrateStrength(Duration.ofNanos(1), 4, 8)).isEqualTo(4);
+            assertThat(BoundedBCryptPasswordEncoder.calibrateStrength(Duration.ofHours(1), 4, 8)).isEqualTo(8);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DestinationExportService Unit Tests")
+public class DestinationExportServiceTest {
+    @Mock
+    DestinationRepository destinationRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    private DestinationExportService service() {
+        return new DestinationExportService(destinationRepository, transactionManager, new ObjectMapper());
+    }
+
+    private static DestinationResponse destination(long id) {
+        return new DestinationResponse(id, "Japón", "Kioto " + id, "Templos", "https://example.com/" + id + ".png", "May");
+    }
+
+    @Test
+    @DisplayName("should write one JSON document per line inside a read-only transaction")
+    void shouldWriteNdjson() {
+        given(destinationRepository.streamAllResponses()).willReturn(Stream.of(destination(1), destination(2)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = service().exportDestinations(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(2);
+        assertThat(output.toString(StandardCharsets.UTF_8)).endsWith("}\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"city\":\"Kioto 1\"");
+        assertThat(lines[1]).startsWith("{\"id\":2,");
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("should write rows while the cursor is still being read instead of materializing them")
+    void shouldStreamRowsAsTheyAreRead() {
+        long rows = 200_000;
+        AtomicLong bytesWrittenHalfway = new AtomicLong(-1);
+        AtomicLong bytesWritten = new AtomicLong();
+        OutputStream counting = new OutputStream() {
+            @Override
+            public void write(int b) {
+                bytesWritten.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                bytesWritten.addAndGet(len);
+            }
+        };
+        given(destinationRepository.streamAllResponses()).willReturn(Stream.iterate(1L, id -> id + 1)
+                .limit(rows)
+                .peek(id -> {
+                    if (id == rows / 2) {
+                        bytesWrittenHalfway.set(bytesWritten.get());
+                    }
+                })
+                .map(DestinationExportServiceTest::destination));
+
+        long exported = service().exportDestinations(counting);
+
+        assertThat(exported).isEqualTo(rows);
+        assertThat(bytesWrittenHalfway.get()).isGreaterThan(bytesWritten.get() / 3);
+    }
+
+    @Test
+    @DisplayName("should write nothing for an empty catalog")
+    void shouldWriteNothingForEmptyCatalog() {
+        given(destinationRepository.streamAllResponses()).willReturn(Stream.empty());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThat(service().exportDestinations(output)).isZero();
+        assertThat(output.size()).isZero();
+    }
+}
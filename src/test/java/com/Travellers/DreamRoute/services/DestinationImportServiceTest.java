@@ -0,0 +1,222 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.dtos.destination.BulkDestinationResponse;
+import com.Travellers.DreamRoute.dtos.destination.BulkDestinationResult;
+import com.Travellers.DreamRoute.dtos.destination.BulkDestinationResult.Status;
+import com.Travellers.DreamRoute.dtos.destination.DestinationMapperImpl;
+import com.Travellers.DreamRoute.events.DestinationsCreatedEvent;
+import com.Travellers.DreamRoute.indexes.geo.Gazetteer;
+import com.Travellers.DreamRoute.indexes.geo.GeoPoint;
+import com.Travellers.DreamRoute.models.Destination;
+import com.Travellers.DreamRoute.models.Role;
+import com.Travellers.DreamRoute.models.User;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.Travellers.DreamRoute.repositories.UserRepository;
+import com.Travellers.DreamRoute.security.UserDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DestinationImportService Unit Tests")
+public class DestinationImportServiceTest {
+    private static final String VALID = "{\"country\":\"Japón\",\"city\":\"Kioto\",\"description\":\"Templos\",\"image\":\"https://example.com/kioto.png\"}";
+
+    @Mock
+    DestinationRepository destinationRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    Gazetteer gazetteer;
+
+    private User user;
+    private UserDetail userDetail;
+    private final AtomicLong ids = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).username("May").email("may@example.com").password("encoded")
+                .roles(Set.of(new Role(1L, "ROLE_USER", null))).build();
+        userDetail = new UserDetail(user);
+    }
+
+    private DestinationImportService service(int batchSize, int maxItems) {
+        return new DestinationImportService(destinationRepository, new DestinationMapperImpl(), userRepository, eventPublisher,
+                new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(),
+                new TransactionTemplate(transactionManager), entityManager, gazetteer, batchSize, maxItems);
+    }
+
+    private void givenUserAndRepository() {
+        given(userRepository.findByUsernameIgnoreCase("May")).willReturn(Optional.of(user));
+        given(destinationRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Destination> destinations = invocation.getArgument(0);
+            destinations.forEach(destination -> destination.setId(ids.getAndIncrement()));
+            return destinations;
+        });
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("Parsing")
+    class ParsingTests {
+        @Test
+        @DisplayName("should import NDJSON in chunks of the configured batch size")
+        void shouldImportNdjsonInBatches() {
+            givenUserAndRepository();
+
+            BulkDestinationResponse response = service(2, 100).importDestinations(
+                    body(VALID + "\n" + VALID + "\n" + VALID + "\n"), userDetail);
+
+            assertThat(response.created()).isEqualTo(3);
+            assertThat(response.rejected()).isZero();
+            assertThat(response.results()).extracting(BulkDestinationResult::index).containsExactly(0, 1, 2);
+            assertThat(response.results()).extracting(BulkDestinationResult::id).containsExactly(100L, 101L, 102L);
+            verify(destinationRepository, times(2)).saveAll(anyList());
+            verify(transactionManager, times(2)).commit(any());
+            verify(entityManager, times(2)).clear();
+            ArgumentCaptor<DestinationsCreatedEvent> events = ArgumentCaptor.forClass(DestinationsCreatedEvent.class);
+            verify(eventPublisher, times(2)).publishEvent(events.capture());
+            assertThat(events.getAllValues()).extracting(DestinationsCreatedEvent::destinationIds)
+                    .containsExactly(List.of(100L, 101L), List.of(102L));
+            verify(userRepository, times(1)).findByUsernameIgnoreCase("May");
+        }
+
+        @Test
+        @DisplayName("should report invalid items of a JSON array and import the rest")
+        void shouldReportInvalidArrayItems() {
+            givenUserAndRepository();
+            String invalid = "{\"country\":\"Japón\",\"city\":\"\",\"description\":\"Templos\",\"image\":\"ftp://example.com\"}";
+
+            BulkDestinationResponse response = service(50, 100).importDestinations(
+                    body("[" + VALID + "," + invalid + ",42," + VALID + "]"), userDetail);
+
+            assertThat(response.created()).isEqualTo(2);
+            assertThat(response.rejected()).isEqualTo(2);
+            assertThat(response.results()).extracting(BulkDestinationResult::status)
+                    .containsExactly(Status.CREATED, Status.INVALID, Status.INVALID, Status.CREATED);
+            assertThat(response.results().get(1).errors())
+                    .containsEntry("city", "City is required")
+                    .containsEntry("image", "Must be a valid URL");
+            assertThat(response.results().get(2).errors()).containsKey("item");
+            verify(destinationRepository, times(1)).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("should keep items imported before a syntax error and report where parsing stopped")
+        void shouldStopAtMalformedJson() {
+            givenUserAndRepository();
+
+            BulkDestinationResponse response = service(1, 100).importDestinations(
+                    body(VALID + "\n" + VALID + "\n{\"country\": "), userDetail);
+
+            assertThat(response.created()).isEqualTo(2);
+            assertThat(response.results()).last().satisfies(result -> {
+                assertThat(result.index()).isEqualTo(2);
+                assertThat(result.status()).isEqualTo(Status.FAILED);
+                assertThat(result.errors().get("item")).startsWith("Malformed JSON");
+            });
+        }
+
+        @Test
+        @DisplayName("should stop reading once the item limit is reached")
+        void shouldStopAtItemLimit() {
+            givenUserAndRepository();
+
+            BulkDestinationResponse response = service(50, 2).importDestinations(
+                    body(VALID + VALID + VALID + VALID), userDetail);
+
+            assertThat(response.created()).isEqualTo(2);
+            assertThat(response.results()).hasSize(3);
+            assertThat(response.results().get(2).status()).isEqualTo(Status.FAILED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence")
+    class PersistenceTests {
+        @Test
+        @DisplayName("should mark every item of a failed batch as failed and continue with the next batch")
+        void shouldReportFailedBatches() {
+            given(userRepository.findByUsernameIgnoreCase("May")).willReturn(Optional.of(user));
+            given(destinationRepository.saveAll(anyList()))
+                    .willThrow(new DataAccessResourceFailureException("connection lost"))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            BulkDestinationResponse response = service(2, 100).importDestinations(
+                    body(VALID + VALID + VALID), userDetail);
+
+            assertThat(response.results()).extracting(BulkDestinationResult::status)
+                    .containsExactly(Status.FAILED, Status.FAILED, Status.CREATED);
+            verify(transactionManager, times(1)).rollback(any());
+        }
+
+        @Test
+        @DisplayName("should fill in coordinates from the gazetteer like a single create")
+        @SuppressWarnings("unchecked")
+        void shouldFillCoordinatesFromGazetteer() {
+            givenUserAndRepository();
+            given(gazetteer.locate("Kioto", "Japón")).willReturn(Optional.of(new GeoPoint(35.0116, 135.7681)));
+
+            service(50, 100).importDestinations(body(VALID), userDetail);
+
+            ArgumentCaptor<List<Destination>> saved = ArgumentCaptor.forClass(List.class);
+            verify(destinationRepository).saveAll(saved.capture());
+            assertThat(saved.getValue()).singleElement().satisfies(destination -> {
+                assertThat(destination.getLatitude()).isEqualTo(35.0116);
+                assertThat(destination.getLongitude()).isEqualTo(135.7681);
+            });
+        }
+
+        @Test
+        @DisplayName("should not touch the database when no item is valid")
+        void shouldSkipPersistenceWhenNothingIsValid() {
+            given(userRepository.findByUsernameIgnoreCase("May")).willReturn(Optional.of(user));
+
+            BulkDestinationResponse response = service(50, 100).importDestinations(body("[]"), userDetail);
+
+            assertThat(response.created()).isZero();
+            assertThat(response.results()).isEmpty();
+            verify(destinationRepository, never()).saveAll(anyList());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationClusterResponse;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.dtos.destination.NearbyDestinationResponse;
+import com.Travellers.DreamRoute.indexes.autocomplete.AutocompleteField;
+import com.Travellers.DreamRoute.indexes.autocomplete.DestinationAutocompleteIndex;
+import com.Travellers.DreamRoute.indexes.geo.DestinationClusterIndex;
+import com.Travellers.DreamRoute.indexes.geo.DestinationGeoIndex;
+import com.Travellers.DreamRoute.indexes.geo.GeoHit;
+import com.Travellers.DreamRoute.indexes.search.DestinationSearchIndex;
+import com.Travellers.DreamRoute.indexes.search.SearchHit;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DestinationSearchService Unit Tests")
+public class DestinationSearchServiceTest {
+    @Mock
+    DestinationSearchIndex destinationSearchIndex;
+
+    @Mock
+    DestinationAutocompleteIndex destinationAutocompleteIndex;
+
+    @Mock
+    DestinationGeoIndex destinationGeoIndex;
+
+    @Mock
+    DestinationClusterIndex destinationClusterIndex;
+
+    @Mock
+    DestinationRepository destinationRepository;
+
+    @InjectMocks
+    DestinationSearchService destinationSearchService;
+
+    @Test
+    @DisplayName("Should return destinations in ranking order and skip ids no longer in the database")
+    void shouldReturnDestinationsInRankOrder() {
+        DestinationResponse tokio = new DestinationResponse(2L, "Japón", "Tokio", "Desc", "url", "Deb");
+        DestinationResponse sydney = new DestinationResponse(7L, "Australia", "Sídney", "Desc", "url", "May");
+        given(destinationSearchIndex.search("playas", 10))
+                .willReturn(List.of(new SearchHit(7L, 2.5f), new SearchHit(99L, 1.5f), new SearchHit(2L, 1.0f)));
+        given(destinationRepository.findAllResponsesByIdIn(List.of(7L, 99L, 2L))).willReturn(List.of(tokio, sydney));
+
+        List<DestinationResponse> result = destinationSearchService.searchDestinations("playas", 10);
+
+        assertThat(result).containsExactly(sydney, tokio);
+    }
+
+    @Test
+    @DisplayName("Should not query the database when nothing matches")
+    void shouldSkipDatabase_whenNoHits() {
+        given(destinationSearchIndex.search("antártida", 10)).willReturn(List.of());
+
+        assertThat(destinationSearchService.searchDestinations("antártida", 10)).isEmpty();
+        verify(destinationRepository, never()).findAllResponsesByIdIn(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the query is blank")
+    void shouldThrowIllegalArgumentException_whenQueryIsBlank() {
+        assertThatThrownBy(() -> destinationSearchService.searchDestinations("  ", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Search query is required");
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the limit is out of range")
+    void shouldThrowIllegalArgumentException_whenLimitOutOfRange() {
+        assertThatThrownBy(() -> destinationSearchService.searchDestinations("playas", 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Limit must be between 1 and " + DestinationSearchService.MAX_SEARCH_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Should resolve the autocomplete field case-insensitively")
+    void shouldAutocompleteByField() {
+        given(destinationAutocompleteIndex.complete(AutocompleteField.COUNTRY, "esp", 5)).willReturn(List.of("España"));
+
+        assertThat(destinationSearchService.autocomplete("esp", "Country", 5)).containsExactly("España");
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the autocomplete field is unknown")
+    void shouldThrowIllegalArgumentException_whenFieldIsUnknown() {
+        assertThatThrownBy(() -> destinationSearchService.autocomplete("esp", "description", 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Field must be one of: city, country");
+    }
+
+    @Test
+    @DisplayName("Should return nearby destinations closest first with their distance")
+    void shouldReturnNearbyDestinationsInDistanceOrder() {
+        DestinationResponse kyoto = new DestinationResponse(2L, "Japón", "Kioto", "Desc", "url", "Deb", 35.0116, 135.7681);
+        DestinationResponse osaka = new DestinationResponse(5L, "Japón", "Osaka", "Desc", "url", "May", 34.6937, 135.5023);
+        given(destinationGeoIndex.nearest(34.7, 135.5, 3))
+                .willReturn(List.of(new GeoHit(5L, 0.6), new GeoHit(2L, 42.9), new GeoHit(99L, 50.0)));
+        given(destinationRepository.findAllResponsesByIdIn(List.of(5L, 2L, 99L))).willReturn(List.of(kyoto, osaka));
+
+        List<NearbyDestinationResponse> result = destinationSearchService.nearbyDestinations(34.7, 135.5, 3);
+
+        assertThat(result).containsExactly(
+                new NearbyDestinationResponse(osaka, 0.6),
+                new NearbyDestinationResponse(kyoto, 42.9));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when nearby coordinates or limit are out of range")
+    void shouldThrowIllegalArgumentException_whenNearbyArgumentsOutOfRange() {
+        assertThatThrownBy(() -> destinationSearchService.nearbyDestinations(91, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Latitude must be between -90 and 90");
+        assertThatThrownBy(() -> destinationSearchService.nearbyDestinations(0, Double.NaN, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Longitude must be between -180 and 180");
+        assertThatThrownBy(() -> destinationSearchService.nearbyDestinations(0, 0, DestinationSearchService.MAX_NEARBY_LIMIT + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Limit must be between 1 and " + DestinationSearchService.MAX_NEARBY_LIMIT);
+        verify(destinationGeoIndex, never()).nearest(ArgumentMatchers.anyDouble(), ArgumentMatchers.anyDouble(), ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    @DisplayName("Should parse the bounding box and return the clusters of the index")
+    void shouldReturnClustersForBoundingBox() {
+        List<DestinationClusterResponse> clusters = List.of(new DestinationClusterResponse(48.85, 2.35, 3, List.of(1L, 2L, 3L)));
+        given(destinationClusterIndex.clusters(-10.5, 35, 10, 55.25, 5)).willReturn(clusters);
+
+        assertThat(destinationSearchService.clusters("-10.5, 35,10,55.25", 5)).isEqualTo(clusters);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the bounding box or zoom is invalid")
+    void shouldThrowIllegalArgumentException_whenClusterQueryIsInvalid() {
+        assertThatThrownBy(() -> destinationSearchService.clusters("1,2,3", 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bounding box must be west,south,east,north");
+        assertThatThrownBy(() -> destinationSearchService.clusters("a,2,3,4", 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bounding box must be west,south,east,north");
+        assertThatThrownBy(() -> destinationSearchService.clusters("0,50,10,40", 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bounding box is outside the valid coordinate range");
+        assertThatThrownBy(() -> destinationSearchService.clusters("0,40,10,50", DestinationSearchService.MAX_CLUSTER_QUERY_ZOOM + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Zoom must be between 0 and " + DestinationSearchService.MAX_CLUSTER_QUERY_ZOOM);
+    }
+}
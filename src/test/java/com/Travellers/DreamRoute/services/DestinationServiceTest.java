@@ -1,15 +1,25 @@
 package com.Travellers.DreamRoute.services;
 
+import com.Travellers.DreamRoute.caches.DestinationCache;
+import com.Travellers.DreamRoute.dtos.destination.DestinationFeedCursor;
+import com.Travellers.DreamRoute.dtos.destination.DestinationFeedEntry;
+import com.Travellers.DreamRoute.dtos.destination.DestinationFeedPage;
 import com.Travellers.DreamRoute.dtos.destination.DestinationMapperImpl;
 import com.Travellers.DreamRoute.dtos.destination.DestinationRequest;
 import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
 import com.Travellers.DreamRoute.exceptions.EntityNotFoundException;
+import com.Travellers.DreamRoute.indexes.geo.Gazetteer;
+import com.Travellers.DreamRoute.indexes.geo.GeoPoint;
 import com.Travellers.DreamRoute.models.Destination;
 import com.Travellers.DreamRoute.models.Role;
 import com.Travellers.DreamRoute.models.User;
+import com.Travellers.DreamRoute.repositories.ChangeCounterRepository;
 import com.Travellers.DreamRoute.repositories.DestinationRepository;
 import com.Travellers.DreamRoute.repositories.UserRepository;
 import com.Travellers.DreamRoute.security.UserDetail;
+import com.Travellers.DreamRoute.sync.DestinationChangeSequencer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,12 +28,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import java.util.Collections;
 import java.util.List;
@@ -42,6 +58,18 @@ public class DestinationServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    Gazetteer gazetteer;
+
+    @Mock
+    ChangeCounterRepository changeCounterRepository;
+
+    @Spy
+    DestinationCache destinationCache = new DestinationCache(new SimpleMeterRegistry());
+
     @InjectMocks
     DestinationService destinationService;
 
@@ -67,7 +95,7 @@ public class DestinationServiceTest {
                     .id(1L)
                     .username("usertest")
                     .password("encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_USER")))
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
                     .build();
 
             testDestination1 = new Destination(1L, "Colombia", "Santa Marta", "Desc1", "url1", testUser);
@@ -82,18 +110,118 @@ public class DestinationServiceTest {
                     testDestination2.getDescription(), testDestination2.getImage(), testUser.getUsername()
             );
 
-            given(destinationMapperImpl.entityToDto(testDestination1)).willReturn(testDestinationResponse1);
-            given(destinationMapperImpl.entityToDto(testDestination2)).willReturn(testDestinationResponse2);
         }
 
         @Test
         @DisplayName("Should return a list of all destination responses")
         void shouldReturnListOfDestinationResponses() {
-            given(destinationRepository.findAll()).willReturn(List.of(testDestination1, testDestination2));
+            given(destinationRepository.findAllResponses()).willReturn(List.of(testDestinationResponse1, testDestinationResponse2));
             List<DestinationResponse> result = destinationService.getAllDestinations();
             assertThat(result).hasSize(2);
             assertThat(result).containsExactly(testDestinationResponse1, testDestinationResponse2);
-            verify(destinationRepository).findAll();
+            verify(destinationRepository).findAllResponses();
+            verify(destinationRepository, never()).findAll();
+            verify(destinationMapperImpl, never()).entityToDto(ArgumentMatchers.any(Destination.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("getDestinationFeed(String after, int limit)")
+    class GetDestinationFeedTests {
+
+        private User ownerUser;
+        private User otherUser;
+        private Destination ownedDestination;
+        private Destination otherDestination1;
+        private Destination otherDestination2;
+
+        @BeforeEach
+        void setup() {
+            ownerUser = User.builder()
+                    .id(1L)
+                    .username("ownerUser")
+                    .password("encoded_password")
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
+                    .build();
+            otherUser = User.builder()
+                    .id(2L)
+                    .username("otherUser")
+                    .password("encoded_password")
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
+                    .build();
+
+            ownedDestination = new Destination(5L, "Honduras", "Roatán", "Isla bonita", "http://roatan.png", ownerUser);
+            otherDestination1 = new Destination(1L, "Colombia", "Santa Marta", "Desc1", "url1", otherUser);
+            otherDestination2 = new Destination(2L, "Japón", "Tokio", "Desc2", "url2", otherUser);
+
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(new UserDetail(ownerUser), null, List.of()));
+        }
+
+        private DestinationFeedEntry feedEntry(Destination destination, boolean owned) {
+            DestinationResponse response = new DestinationResponse(
+                    destination.getId(), destination.getCountry(), destination.getCity(),
+                    destination.getDescription(), destination.getImage(), destination.getUser().getUsername()
+            );
+            return new DestinationFeedEntry(response, owned);
+        }
+
+        @AfterEach
+        void tearDown() {
+            SecurityContextHolder.clearContext();
+        }
+
+        @Test
+        @DisplayName("Should query owner-first from the start and return a cursor when more rows exist")
+        void shouldReturnNextCursor_whenMoreRowsExist() {
+            given(destinationRepository.findFeedPage(1L, true, 0L, 0L, 3))
+                    .willReturn(List.of(feedEntry(ownedDestination, true), feedEntry(otherDestination1, false), feedEntry(otherDestination2, false)));
+
+            DestinationFeedPage page = destinationService.getDestinationFeed(null, 2);
+
+            assertThat(page.items()).hasSize(2);
+            assertThat(page.nextCursor()).isEqualTo(new DestinationFeedCursor(false, 1L).encode());
+        }
+
+        @Test
+        @DisplayName("Should resume after the cursor and return no cursor on the last page")
+        void shouldResumeFromCursor_andStopOnLastPage() {
+            String after = new DestinationFeedCursor(false, 1L).encode();
+            given(destinationRepository.findFeedPage(1L, false, 0L, 1L, 3))
+                    .willReturn(List.of(feedEntry(otherDestination2, false)));
+
+            DestinationFeedPage page = destinationService.getDestinationFeed(after, 2);
+
+            assertThat(page.items()).hasSize(1);
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should treat anonymous callers as owning nothing")
+        void shouldQueryWithoutOwner_whenAnonymous() {
+            SecurityContextHolder.clearContext();
+            given(destinationRepository.findFeedPage(null, true, 0L, 0L, 21)).willReturn(List.of());
+
+            DestinationFeedPage page = destinationService.getDestinationFeed(null, 20);
+
+            assertThat(page.items()).isEmpty();
+            verify(destinationRepository).findFeedPage(null, true, 0L, 0L, 21);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when limit is out of range")
+        void shouldThrowIllegalArgumentException_whenLimitOutOfRange() {
+            assertThatThrownBy(() -> destinationService.getDestinationFeed(null, DestinationService.MAX_FEED_LIMIT + 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Limit must be between 1 and " + DestinationService.MAX_FEED_LIMIT);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when cursor is malformed")
+        void shouldThrowIllegalArgumentException_whenCursorIsMalformed() {
+            assertThatThrownBy(() -> destinationService.getDestinationFeed("%%%", 20))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid cursor");
         }
     }
 
@@ -111,7 +239,7 @@ public class DestinationServiceTest {
                     .id(1L)
                     .username("usertest")
                     .password("encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_USER")))
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
                     .build();
 
             testDestination = new Destination(1L, "Colombia", "Santa Marta", "Desc", "url", testUser);
@@ -126,27 +254,111 @@ public class DestinationServiceTest {
         void shouldReturnDestinationResponseGivenAnId() {
             Long destinationId = 1L;
 
-            given(destinationRepository.findById(destinationId)).willReturn(Optional.of(testDestination));
-            given(destinationMapperImpl.entityToDto(testDestination)).willReturn(testDestinationResponse);
+            given(destinationRepository.findResponseById(destinationId)).willReturn(Optional.of(testDestinationResponse));
 
             DestinationResponse result = destinationService.getDestinationById(destinationId);
 
             assertThat(result).isEqualTo(testDestinationResponse);
-            verify(destinationRepository).findById(destinationId);
-            verify(destinationMapperImpl).entityToDto(testDestination);
+            verify(destinationRepository).findResponseById(destinationId);
+            verify(destinationRepository, never()).findById(ArgumentMatchers.anyLong());
         }
 
         @Test
         @DisplayName("Should throw EntityNotFoundException when Destination ID is not found")
         void shouldThrowEntityNotFoundException_whenIdNotFound() {
             Long nonExistentId = 99L;
-            given(destinationRepository.findById(nonExistentId)).willReturn(Optional.empty());
+            given(destinationRepository.findResponseById(nonExistentId)).willReturn(Optional.empty());
 
             assertThatThrownBy(() -> destinationService.getDestinationById(nonExistentId))
                     .isInstanceOf(EntityNotFoundException.class)
                     .hasMessageContaining("Destination not found with id " + nonExistentId);
 
-            verify(destinationRepository).findById(nonExistentId);
+            verify(destinationRepository).findResponseById(nonExistentId);
+        }
+
+        @Test
+        @DisplayName("Should serve repeated reads from the cache until the destination changes")
+        void shouldServeRepeatedReadsFromCache() {
+            Long destinationId = 1L;
+            given(destinationRepository.findResponseById(destinationId)).willReturn(Optional.of(testDestinationResponse));
+
+            destinationService.getDestinationById(destinationId);
+            destinationService.getDestinationById(destinationId);
+            verify(destinationRepository, times(1)).findResponseById(destinationId);
+
+            destinationCache.onDestinationChanged(DestinationChangedEvent.updated(testDestinationResponse, testUser.getId()));
+            destinationService.getDestinationById(destinationId);
+            verify(destinationRepository, times(2)).findResponseById(destinationId);
+        }
+    }
+
+    @Nested
+    @DisplayName("getCatalogVersion()")
+    class GetCatalogVersionTests {
+        @Test
+        @DisplayName("Should read the change counter once until a destination changes")
+        void shouldCacheCatalogVersion() {
+            given(changeCounterRepository.findValueByName(DestinationChangeSequencer.CHANGE_COUNTER))
+                    .willReturn(Optional.of(4L), Optional.of(5L));
+
+            assertThat(destinationService.getCatalogVersion()).isEqualTo(4L);
+            assertThat(destinationService.getCatalogVersion()).isEqualTo(4L);
+
+            destinationCache.onDestinationChanged(DestinationChangedEvent.deleted(1L, 1L));
+            assertThat(destinationService.getCatalogVersion()).isEqualTo(5L);
+            verify(changeCounterRepository, times(2)).findValueByName(DestinationChangeSequencer.CHANGE_COUNTER);
+        }
+    }
+
+    @Nested
+    @DisplayName("getDestinationsByUserId(Long id)")
+    class GetDestinationsByUserIdTests {
+
+        @Test
+        @DisplayName("Should return the projected destinations of the user")
+        void shouldReturnProjectedDestinations() {
+            DestinationResponse response = new DestinationResponse(1L, "Colombia", "Santa Marta", "Desc", "url", "usertest");
+            given(destinationRepository.findAllResponsesByUserId(1L)).willReturn(List.of(response));
+
+            List<DestinationResponse> result = destinationService.getDestinationsByUserId(1L);
+
+            assertThat(result).containsExactly(response);
+            verify(userRepository, never()).existsById(ArgumentMatchers.anyLong());
+        }
+
+        @Test
+        @DisplayName("Should cache the list of a user and drop it when one of their destinations is deleted")
+        void shouldCacheUserDestinations() {
+            DestinationResponse response = new DestinationResponse(1L, "Colombia", "Santa Marta", "Desc", "url", "usertest");
+            given(destinationRepository.findAllResponsesByUserId(1L)).willReturn(List.of(response));
+
+            destinationService.getDestinationsByUserId(1L);
+            destinationService.getDestinationsByUserId(1L);
+            verify(destinationRepository, times(1)).findAllResponsesByUserId(1L);
+
+            destinationCache.onDestinationChanged(DestinationChangedEvent.deleted(1L, 1L));
+            destinationService.getDestinationsByUserId(1L);
+            verify(destinationRepository, times(2)).findAllResponsesByUserId(1L);
+        }
+
+        @Test
+        @DisplayName("Should return an empty list when the user exists without destinations")
+        void shouldReturnEmptyList_whenUserHasNoDestinations() {
+            given(destinationRepository.findAllResponsesByUserId(6L)).willReturn(List.of());
+            given(userRepository.existsById(6L)).willReturn(true);
+
+            assertThat(destinationService.getDestinationsByUserId(6L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should throw NoSuchElementException when the user does not exist")
+        void shouldThrowNoSuchElementException_whenUserDoesNotExist() {
+            given(destinationRepository.findAllResponsesByUserId(99L)).willReturn(List.of());
+            given(userRepository.existsById(99L)).willReturn(false);
+
+            assertThatThrownBy(() -> destinationService.getDestinationsByUserId(99L))
+                    .isInstanceOf(NoSuchElementException.class)
+                    .hasMessage("User not found with id 99");
         }
     }
 
@@ -165,7 +377,7 @@ public class DestinationServiceTest {
                     .id(1L)
                     .username("usertest")
                     .password("encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_USER")))
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
                     .build();
             testUserDetail = new UserDetail(testUser);
 
@@ -197,6 +409,36 @@ public class DestinationServiceTest {
             assertThat(response).isEqualTo(expectedResponse);
             verify(userRepository).findByUsernameIgnoreCase(testUser.getUsername());
             verify(destinationRepository).save(savedDestinationEntity);
+            verify(eventPublisher).publishEvent(DestinationChangedEvent.created(expectedResponse, testUser.getId()));
+        }
+
+        @Test
+        @DisplayName("Should fill in coordinates from the gazetteer when the request has none")
+        void shouldFillCoordinatesFromGazetteer_whenRequestHasNone() {
+            DestinationRequest locatedRequest = new DestinationRequest(validRequest.country(), validRequest.city(),
+                    validRequest.description(), validRequest.image(), -33.4489, -70.6693);
+            given(userRepository.findByUsernameIgnoreCase(testUser.getUsername())).willReturn(Optional.of(testUser));
+            given(gazetteer.locate("Santiago", "Chile")).willReturn(Optional.of(new GeoPoint(-33.4489, -70.6693)));
+            given(destinationMapperImpl.dtoToEntity(locatedRequest, testUser)).willReturn(savedDestinationEntity);
+            given(destinationMapperImpl.entityToDto(savedDestinationEntity)).willReturn(expectedResponse);
+
+            destinationService.addDestination(validRequest, testUserDetail);
+
+            verify(destinationMapperImpl).dtoToEntity(locatedRequest, testUser);
+        }
+
+        @Test
+        @DisplayName("Should keep coordinates sent by the client without consulting the gazetteer")
+        void shouldKeepClientCoordinates() {
+            DestinationRequest requestWithCoordinates = new DestinationRequest(validRequest.country(), validRequest.city(),
+                    validRequest.description(), validRequest.image(), -33.0, -70.0);
+            given(userRepository.findByUsernameIgnoreCase(testUser.getUsername())).willReturn(Optional.of(testUser));
+            given(destinationMapperImpl.dtoToEntity(requestWithCoordinates, testUser)).willReturn(savedDestinationEntity);
+            given(destinationMapperImpl.entityToDto(savedDestinationEntity)).willReturn(expectedResponse);
+
+            destinationService.addDestination(requestWithCoordinates, testUserDetail);
+
+            verify(gazetteer, never()).locate(ArgumentMatchers.any(), ArgumentMatchers.any());
         }
 
         @Test
@@ -243,7 +485,7 @@ public class DestinationServiceTest {
                     .id(1L)
                     .username("ownerUser")
                     .password("encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_USER")))
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
                     .build();
             ownerUserDetail = new UserDetail(ownerUser);
 
@@ -251,7 +493,7 @@ public class DestinationServiceTest {
                     .id(2L)
                     .username("otherUser")
                     .password("encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_USER")))
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
                     .build();
             otherUserDetail = new UserDetail(otherUser);
 
@@ -259,7 +501,7 @@ public class DestinationServiceTest {
                     .id(3L)
                     .username("adminUser")
                     .password("encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_ADMIN")))
+                    .roles(Collections.singleton(createRole("ROLE_ADMIN")))
                     .build();
             adminUserDetail = new UserDetail(adminUser);
 
@@ -305,6 +547,22 @@ public class DestinationServiceTest {
 
             verify(destinationRepository).save(ArgumentMatchers.any(Destination.class));
             verify(destinationMapperImpl).entityToDto(updatedOwnedDestinationEntity);
+            verify(eventPublisher).publishEvent(DestinationChangedEvent.updated(expectedResponse, ownerUser.getId()));
+        }
+
+        @Test
+        @DisplayName("Should geocode the updated city when the request has no coordinates")
+        void shouldGeocodeUpdatedCity_whenRequestHasNoCoordinates() {
+            Long destinationId = ownedDestination.getId();
+            given(destinationRepository.findById(destinationId)).willReturn(Optional.of(ownedDestination));
+            given(gazetteer.locate("Updated City", "Updated Country")).willReturn(Optional.of(new GeoPoint(10.5, -20.25)));
+            given(destinationRepository.save(ownedDestination)).willReturn(ownedDestination);
+            given(destinationMapperImpl.entityToDto(ownedDestination)).willReturn(expectedResponse);
+
+            destinationService.updateDestination(destinationId, updateRequest, ownerUserDetail);
+
+            assertThat(ownedDestination.getLatitude()).isEqualTo(10.5);
+            assertThat(ownedDestination.getLongitude()).isEqualTo(-20.25);
         }
 
         @Test
@@ -403,7 +661,7 @@ public class DestinationServiceTest {
                     .id(1L)
                     .username("ownerUser")
                     .password("encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_USER")))
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
                     .build();
             ownerUserDetail = new UserDetail(ownerUser);
 
@@ -411,7 +669,7 @@ public class DestinationServiceTest {
                     .id(2L)
                     .username("otherUser")
                     .password("encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_USER")))
+                    .roles(Collections.singleton(createRole("ROLE_USER")))
                     .build();
             otherUserDetail = new UserDetail(otherUser);
 
@@ -419,7 +677,7 @@ public class DestinationServiceTest {
                     .id(3L)
                     .username("adminUser")
                     .password("encoded_password")
-                    .roles(Collections.singletonList(createRole("ROLE_ADMIN")))
+                    .roles(Collections.singleton(createRole("ROLE_ADMIN")))
                     .build();
             adminUserDetail = new UserDetail(adminUser);
 
@@ -438,6 +696,7 @@ public class DestinationServiceTest {
             assertThat(result).isEqualTo("Destination with id " + destinationId + " has been deleted");
             verify(destinationRepository).findById(destinationId);
             verify(destinationRepository).delete(ownedDestination);
+            verify(eventPublisher).publishEvent(DestinationChangedEvent.deleted(destinationId, ownerUser.getId()));
         }
 
         @Test
@@ -465,6 +724,7 @@ public class DestinationServiceTest {
 
             verify(destinationRepository).findById(destinationId);
             verify(destinationRepository, never()).delete(ArgumentMatchers.any(Destination.class));
+            verify(eventPublisher, never()).publishEvent(ArgumentMatchers.any(Object.class));
         }
 
         @Test
@@ -0,0 +1,117 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationDelta;
+import com.Travellers.DreamRoute.dtos.destination.DestinationDeltaEntry;
+import com.Travellers.DreamRoute.dtos.destination.DestinationDeltaToken;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.repositories.ChangeCounterRepository;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.Travellers.DreamRoute.sync.DestinationChangeSequencer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.List;
+import java.util.Optional;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DestinationSyncService Unit Tests")
+public class DestinationSyncServiceTest {
+    private final DestinationResponse madrid = new DestinationResponse(1L, "España", "Madrid", "Desc", "url", "May", 40.4168, -3.7038);
+    private final DestinationResponse paris = new DestinationResponse(2L, "Francia", "París", "Desc", "url", "May", 48.8566, 2.3522);
+
+    @Mock
+    DestinationRepository destinationRepository;
+
+    @Mock
+    ChangeCounterRepository changeCounterRepository;
+
+    @InjectMocks
+    DestinationSyncService destinationSyncService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(changeCounterRepository.findValueByName(DestinationChangeSequencer.PRUNED_COUNTER)).thenReturn(Optional.of(0L));
+    }
+
+    @Test
+    @DisplayName("Should start from the beginning without tombstones when no token is given")
+    void shouldReturnCatalog_whenTokenIsMissing() {
+        given(destinationRepository.findDeltaPage(0L, 0L, false, 3)).willReturn(List.of(
+                new DestinationDeltaEntry(0L, 1L, madrid),
+                new DestinationDeltaEntry(4L, 2L, paris)));
+
+        DestinationDelta delta = destinationSyncService.getChangesSince(null, 2);
+
+        assertThat(delta.changed()).containsExactly(madrid, paris);
+        assertThat(delta.hasMore()).isFalse();
+        assertThat(delta.reset()).isFalse();
+        assertThat(DestinationDeltaToken.decode(delta.nextToken())).isEqualTo(new DestinationDeltaToken(4L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should split changes and deletions and stop the token at the last returned row")
+    void shouldReturnDelta_afterToken() {
+        String since = new DestinationDeltaToken(4L, 2L).encode();
+        given(destinationRepository.findDeltaPage(4L, 2L, true, 3)).willReturn(List.of(
+                new DestinationDeltaEntry(5L, 1L, madrid),
+                new DestinationDeltaEntry(6L, 7L, null),
+                new DestinationDeltaEntry(7L, 2L, paris)));
+
+        DestinationDelta delta = destinationSyncService.getChangesSince(since, 2);
+
+        assertThat(delta.changed()).containsExactly(madrid);
+        assertThat(delta.deleted()).containsExactly(7L);
+        assertThat(delta.hasMore()).isTrue();
+        assertThat(DestinationDeltaToken.decode(delta.nextToken())).isEqualTo(new DestinationDeltaToken(6L, 7L));
+    }
+
+    @Test
+    @DisplayName("Should hand back the same token when nothing changed")
+    void shouldKeepToken_whenNothingChanged() {
+        String since = new DestinationDeltaToken(9L, 3L).encode();
+        given(destinationRepository.findDeltaPage(9L, 3L, true, 501)).willReturn(List.of());
+
+        DestinationDelta delta = destinationSyncService.getChangesSince(since, 500);
+
+        assertThat(delta.changed()).isEmpty();
+        assertThat(delta.deleted()).isEmpty();
+        assertThat(delta.nextToken()).isEqualTo(since);
+    }
+
+    @Test
+    @DisplayName("Should restart the sync when tombstones after the token have been pruned")
+    void shouldReset_whenTokenIsOlderThanPrunedTombstones() {
+        given(changeCounterRepository.findValueByName(DestinationChangeSequencer.PRUNED_COUNTER)).willReturn(Optional.of(20L));
+        given(destinationRepository.findDeltaPage(0L, 0L, false, 11)).willReturn(List.of(new DestinationDeltaEntry(0L, 1L, madrid)));
+
+        DestinationDelta delta = destinationSyncService.getChangesSince(new DestinationDeltaToken(15L, 4L).encode(), 10);
+
+        assertThat(delta.reset()).isTrue();
+        assertThat(delta.changed()).containsExactly(madrid);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for a malformed token or limit")
+    void shouldThrowIllegalArgumentException_whenInputIsInvalid() {
+        assertThatThrownBy(() -> destinationSyncService.getChangesSince("not-a-token", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid change token");
+        assertThatThrownBy(() -> destinationSyncService.getChangesSince(null, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Limit must be between 1 and " + DestinationSyncService.MAX_LIMIT);
+        verify(destinationRepository, never()).findDeltaPage(anyLong(), anyLong(), anyBoolean(), anyInt());
+    }
+}
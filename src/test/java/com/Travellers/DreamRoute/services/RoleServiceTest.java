@@ -1,10 +1,10 @@
 package com.Travellers.DreamRoute.services;
 
+import com.Travellers.DreamRoute.caches.RoleRegistry;
 import com.Travellers.DreamRoute.dtos.role.RoleMapperImpl;
 import com.Travellers.DreamRoute.dtos.role.RoleResponse;
 import com.Travellers.DreamRoute.exceptions.EntityNotFoundException;
 import com.Travellers.DreamRoute.models.Role;
-import com.Travellers.DreamRoute.repositories.RoleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,7 +24,7 @@ import static org.mockito.BDDMockito.given;
 public class RoleServiceTest {
 
     @Mock
-    RoleRepository roleRepository;
+    RoleRegistry roleRegistry;
 
     @Mock
     RoleMapperImpl roleMapperImpl;
@@ -48,7 +48,7 @@ public class RoleServiceTest {
         @Test
         @DisplayName("getAllRoles")
         void shouldReturnAllRoles() {
-            given(roleRepository.findAll()).willReturn(List.of(role));
+            given(roleRegistry.all()).willReturn(List.of(role));
             given(roleMapperImpl.entityToDto(role)).willReturn(roleResponse);
 
             List<RoleResponse> result = roleService.getAllRoles();
@@ -66,7 +66,7 @@ public class RoleServiceTest {
         @Test
         @DisplayName("should return RoleResponse for valid id")
         void shouldReturnRoleResponse() {
-            given(roleRepository.findById(1L)).willReturn(Optional.of(role));
+            given(roleRegistry.findById(1L)).willReturn(Optional.of(role));
             given(roleMapperImpl.entityToDto(role)).willReturn(roleResponse);
 
             RoleResponse result = roleService.getRoleById(1L);
@@ -78,7 +78,7 @@ public class RoleServiceTest {
         @Test
         @DisplayName("should throw EntityNotFoundException for invalid id")
         void shouldThrowWhenIdNotFound() {
-            given(roleRepository.findById(99L)).willReturn(Optional.empty());
+            given(roleRegistry.findById(99L)).willReturn(Optional.empty());
 
             Exception exception = assertThrows(EntityNotFoundException.class, () -> roleService.getRoleById(99L));
 
@@ -0,0 +1,83 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.dtos.route.RouteResponse;
+import com.Travellers.DreamRoute.routing.RouteOptimizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.List;
+import java.util.NoSuchElementException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RouteService Unit Tests")
+public class RouteServiceTest {
+    private final DestinationResponse madrid = new DestinationResponse(1L, "España", "Madrid", "Desc", "url", "May", 40.4168, -3.7038);
+    private final DestinationResponse paris = new DestinationResponse(2L, "Francia", "París", "Desc", "url", "May", 48.8566, 2.3522);
+    private final DestinationResponse atlantis = new DestinationResponse(3L, "Atlantis", "Atlantis", "Desc", "url", "May");
+
+    @Mock
+    DestinationService destinationService;
+
+    @Mock
+    RouteOptimizer routeOptimizer;
+
+    @InjectMocks
+    RouteService routeService;
+
+    @Test
+    @DisplayName("Should return stops in the optimized order and report destinations without coordinates")
+    void shouldOrderLocatedDestinations() {
+        given(destinationService.getDestinationsByUserId(1L)).willReturn(List.of(madrid, atlantis, paris));
+        given(routeOptimizer.optimize(new double[]{40.4168, 48.8566}, new double[]{-3.7038, 2.3522}))
+                .willReturn(new RouteOptimizer.Route(new int[]{1, 0}, 1053.0));
+
+        RouteResponse route = routeService.planRoute(1L);
+
+        assertThat(route.stops()).containsExactly(paris, madrid);
+        assertThat(route.totalDistanceKm()).isEqualTo(1053.0);
+        assertThat(route.unlocatedDestinationIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should route only the requested destinations, ignoring duplicates")
+    void shouldRouteRequestedDestinations() {
+        given(destinationService.getDestinationsByUserId(1L)).willReturn(List.of(madrid, atlantis, paris));
+        given(routeOptimizer.optimize(new double[]{48.8566}, new double[]{2.3522}))
+                .willReturn(new RouteOptimizer.Route(new int[]{0}, 0));
+
+        RouteResponse route = routeService.planRoute(1L, List.of(2L, 2L));
+
+        assertThat(route.stops()).containsExactly(paris);
+        assertThat(route.unlocatedDestinationIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when a requested destination does not belong to the user")
+    void shouldThrowIllegalArgumentException_whenDestinationIsNotOwned() {
+        given(destinationService.getDestinationsByUserId(1L)).willReturn(List.of(madrid));
+
+        assertThatThrownBy(() -> routeService.planRoute(1L, List.of(1L, 9L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Destinations not found for user 1: [9]");
+        verify(routeOptimizer, never()).optimize(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("Should propagate NoSuchElementException when the user does not exist")
+    void shouldPropagateNoSuchElementException_whenUserDoesNotExist() {
+        given(destinationService.getDestinationsByUserId(99L)).willThrow(new NoSuchElementException("User not found with id 99"));
+
+        assertThatThrownBy(() -> routeService.planRoute(99L))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -0,0 +1,378 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.collaboration.HybridClock;
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.dtos.trip.MoveStopRequest;
+import com.Travellers.DreamRoute.dtos.trip.TripRequest;
+import com.Travellers.DreamRoute.dtos.trip.TripResponse;
+import com.Travellers.DreamRoute.dtos.trip.TripStopRequest;
+import com.Travellers.DreamRoute.dtos.trip.TripStopResponse;
+import com.Travellers.DreamRoute.dtos.trip.TripSummary;
+import com.Travellers.DreamRoute.events.TripChangedEvent;
+import com.Travellers.DreamRoute.exceptions.EntityNotFoundException;
+import com.Travellers.DreamRoute.invalidation.ReplicaIdentity;
+import com.Travellers.DreamRoute.models.Destination;
+import com.Travellers.DreamRoute.models.Role;
+import com.Travellers.DreamRoute.models.Trip;
+import com.Travellers.DreamRoute.models.TripStop;
+import com.Travellers.DreamRoute.models.User;
+import com.Travellers.DreamRoute.ordering.RankKeys;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.Travellers.DreamRoute.repositories.TripRepository;
+import com.Travellers.DreamRoute.repositories.TripStopRepository;
+import com.Travellers.DreamRoute.repositories.UserRepository;
+import com.Travellers.DreamRoute.security.UserDetail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripService Unit Tests")
+public class TripServiceTest {
+    private final DestinationResponse madrid = new DestinationResponse(1L, "España", "Madrid", "Desc", "url", "May", 40.4168, -3.7038);
+    private final DestinationResponse paris = new DestinationResponse(2L, "Francia", "París", "Desc", "url", "May", 48.8566, 2.3522);
+
+    private User owner;
+    private UserDetail ownerDetail;
+    private Trip trip;
+
+    @Mock
+    TripRepository tripRepository;
+
+    @Mock
+    TripStopRepository tripStopRepository;
+
+    @Mock
+    DestinationRepository destinationRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    DestinationService destinationService;
+
+    @Spy
+    HybridClock hybridClock = new HybridClock();
+
+    @Spy
+    ReplicaIdentity replicaIdentity = new ReplicaIdentity();
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    TripService tripService;
+
+    @BeforeEach
+    void setUp() {
+        owner = User.builder()
+                .id(1L)
+                .username("May")
+                .roles(Set.of(Role.builder().id(1L).roleName("ROLE_USER").build()))
+                .build();
+        ownerDetail = new UserDetail(owner);
+        trip = Trip.builder().id(5L).name("Europa").user(owner).build();
+    }
+
+    private TripStop stop(Long id, String rank) {
+        return TripStop.builder().id(id).elementId("e" + id).trip(trip).destination(Destination.builder().id(id).build())
+                .rank(rank).site("seed").build();
+    }
+
+    private UserDetail collaboratorDetail() {
+        return new UserDetail(User.builder()
+                .id(2L)
+                .username("Deb")
+                .roles(Set.of(Role.builder().id(1L).roleName("ROLE_USER").build()))
+                .build());
+    }
+
+    @Nested
+    @DisplayName("getTrip(Long id)")
+    class GetTripTests {
+        @Test
+        @DisplayName("Should combine the trip summary with its stops in rank order")
+        void shouldReturnTripWithStops() {
+            List<TripStopResponse> stops = List.of(new TripStopResponse(10L, "e10", "V", madrid),
+                    new TripStopResponse(11L, "e11", "k", paris));
+            given(tripRepository.findSummaryById(5L)).willReturn(Optional.of(new TripSummary(5L, "Europa", 1L, "May")));
+            given(tripStopRepository.findAllResponsesByTripId(5L)).willReturn(stops);
+
+            TripResponse response = tripService.getTrip(5L);
+
+            assertThat(response).isEqualTo(new TripResponse(5L, "Europa", "May", stops));
+        }
+
+        @Test
+        @DisplayName("Should throw EntityNotFoundException when the trip does not exist")
+        void shouldThrowEntityNotFoundException_whenTripDoesNotExist() {
+            given(tripRepository.findSummaryById(99L)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> tripService.getTrip(99L))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessage("Trip not found with id 99");
+        }
+    }
+
+    @Nested
+    @DisplayName("createTrip(TripRequest request, UserDetail userDetails)")
+    class CreateTripTests {
+        @Test
+        @DisplayName("Should create the stops in request order with evenly spread ranks")
+        void shouldCreateTripWithRankedStops() {
+            given(destinationService.getDestinationsByUserId(1L)).willReturn(List.of(madrid, paris));
+            given(userRepository.getReferenceById(1L)).willReturn(owner);
+            given(tripRepository.save(any(Trip.class))).willAnswer(invocation -> {
+                Trip saved = invocation.getArgument(0);
+                saved.setId(5L);
+                return saved;
+            });
+            given(destinationRepository.getReferenceById(1L)).willReturn(Destination.builder().id(1L).build());
+            given(destinationRepository.getReferenceById(2L)).willReturn(Destination.builder().id(2L).build());
+
+            TripResponse response = tripService.createTrip(new TripRequest("Europa", List.of(2L, 1L)), ownerDetail);
+
+            assertThat(response.id()).isEqualTo(5L);
+            assertThat(response.username()).isEqualTo("May");
+            assertThat(response.stops()).extracting(TripStopResponse::destination).containsExactly(paris, madrid);
+            assertThat(response.stops()).extracting(TripStopResponse::rank).isEqualTo(RankKeys.between(null, null, 2));
+            assertThat(response.stops()).extracting(TripStopResponse::elementId).doesNotContainNull().doesNotHaveDuplicates();
+            verify(eventPublisher).publishEvent(TripChangedEvent.changed(5L, 1L));
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when a destination does not belong to the user")
+        void shouldThrowIllegalArgumentException_whenDestinationIsNotOwned() {
+            given(destinationService.getDestinationsByUserId(1L)).willReturn(List.of(madrid));
+
+            assertThatThrownBy(() -> tripService.createTrip(new TripRequest("Europa", List.of(1L, 9L)), ownerDetail))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Destinations not found for user 1: [9]");
+            verify(tripRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("addStop / moveStop")
+    class PositionTests {
+        @BeforeEach
+        void lockTrip() {
+            given(tripRepository.findByIdForUpdate(5L)).willReturn(Optional.of(trip));
+        }
+
+        private String writtenRank(TripStop stop, boolean removed) {
+            ArgumentCaptor<String> rank = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<Long> clock = ArgumentCaptor.forClass(Long.class);
+            String site = replicaIdentity.getId();
+            verify(tripStopRepository).updateIfNewer(eq(5L), eq(stop.getElementId()), rank.capture(), eq(removed),
+                    clock.capture(), eq(site));
+            assertThat(clock.getValue()).isGreaterThan(stop.getClock());
+            return rank.getValue();
+        }
+
+        @Test
+        @DisplayName("Should append a new stop after the last one when no position is given")
+        void shouldAppendStop() {
+            given(destinationService.getDestinationsByUserId(1L)).willReturn(List.of(madrid, paris));
+            given(destinationRepository.getReferenceById(2L)).willReturn(Destination.builder().id(2L).build());
+            given(tripStopRepository.findLast(5L, 0L, Limit.of(1))).willReturn(List.of(stop(10L, "k")));
+            given(tripStopRepository.save(any(TripStop.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            TripStopResponse response = tripService.addStop(5L, new TripStopRequest(2L, null, null), ownerDetail);
+
+            assertThat(response.rank()).isGreaterThan("k");
+            assertThat(response.destination()).isEqualTo(paris);
+        }
+
+        @Test
+        @DisplayName("Should rewrite only the moved stop's rank, between the given stop and its successor")
+        void shouldMoveStopAfterAnother() {
+            TripStop moved = stop(12L, "t");
+            given(tripStopRepository.findLiveByIdAndTripId(12L, 5L)).willReturn(Optional.of(moved));
+            given(tripStopRepository.findLiveByIdAndTripId(10L, 5L)).willReturn(Optional.of(stop(10L, "V")));
+            given(tripStopRepository.findNext(5L, "V", 12L, Limit.of(1))).willReturn(List.of(stop(11L, "k")));
+            given(destinationService.getDestinationById(12L)).willReturn(madrid);
+
+            TripStopResponse response = tripService.moveStop(5L, 12L, new MoveStopRequest(10L, null), ownerDetail);
+
+            assertThat(writtenRank(moved, false)).isStrictlyBetween("V", "k").isEqualTo(response.rank());
+            verify(tripStopRepository, never()).saveAllAndFlush(anyList());
+            verify(eventPublisher).publishEvent(TripChangedEvent.changed(5L, 1L));
+        }
+
+        @Test
+        @DisplayName("Should move a stop to the front when only the following stop is given")
+        void shouldMoveStopToTheFront() {
+            TripStop moved = stop(12L, "t");
+            given(tripStopRepository.findLiveByIdAndTripId(12L, 5L)).willReturn(Optional.of(moved));
+            given(tripStopRepository.findLiveByIdAndTripId(10L, 5L)).willReturn(Optional.of(stop(10L, "V")));
+            given(tripStopRepository.findPrevious(5L, "V", 12L, Limit.of(1))).willReturn(List.of());
+            given(destinationService.getDestinationById(12L)).willReturn(madrid);
+
+            tripService.moveStop(5L, 12L, new MoveStopRequest(null, 10L), ownerDetail);
+
+            assertThat(writtenRank(moved, false)).isLessThan("V");
+        }
+
+        @Test
+        @DisplayName("Should rebalance the trip's ranks when a key grows too long")
+        @SuppressWarnings("unchecked")
+        void shouldRebalanceLongKeys() {
+            String crowded = "V".repeat(RankKeys.MAX_LENGTH - 1) + "W";
+            String next = "V".repeat(RankKeys.MAX_LENGTH) + "W";
+            TripStop first = stop(10L, crowded);
+            TripStop second = stop(11L, next);
+            TripStop moved = stop(12L, "z");
+            given(tripStopRepository.findLiveByIdAndTripId(12L, 5L)).willReturn(Optional.of(moved));
+            given(tripStopRepository.findLiveByIdAndTripId(10L, 5L)).willReturn(Optional.of(first));
+            given(tripStopRepository.findLiveByIdAndTripId(11L, 5L)).willReturn(Optional.of(second));
+            given(tripStopRepository.findAllLiveByTripId(5L)).willReturn(List.of(second, first, moved));
+            given(destinationService.getDestinationById(12L)).willReturn(madrid);
+
+            tripService.moveStop(5L, 12L, new MoveStopRequest(11L, 10L), ownerDetail);
+
+            ArgumentCaptor<List<TripStop>> rebalanced = ArgumentCaptor.forClass(List.class);
+            verify(tripStopRepository).saveAllAndFlush(rebalanced.capture());
+            assertThat(rebalanced.getValue()).containsExactly(second, first, moved);
+            assertThat(second.getRank()).isLessThan(first.getRank()).hasSize(1);
+            assertThat(writtenRank(moved, false)).isStrictlyBetween(second.getRank(), first.getRank())
+                    .hasSizeLessThanOrEqualTo(RankKeys.MAX_LENGTH);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the given neighbours are out of order")
+        void shouldThrowIllegalArgumentException_whenNeighboursAreOutOfOrder() {
+            given(tripStopRepository.findLiveByIdAndTripId(12L, 5L)).willReturn(Optional.of(stop(12L, "t")));
+            given(tripStopRepository.findLiveByIdAndTripId(10L, 5L)).willReturn(Optional.of(stop(10L, "V")));
+            given(tripStopRepository.findLiveByIdAndTripId(11L, 5L)).willReturn(Optional.of(stop(11L, "k")));
+
+            assertThatThrownBy(() -> tripService.moveStop(5L, 12L, new MoveStopRequest(11L, 10L), ownerDetail))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Stop 11 does not come before stop 10");
+        }
+
+        @Test
+        @DisplayName("Should throw AccessDeniedException when the trip belongs to another user")
+        void shouldThrowAccessDeniedException_whenTripIsNotOwned() {
+            UserDetail stranger = new UserDetail(User.builder()
+                    .id(2L)
+                    .username("Deb")
+                    .roles(Set.of(Role.builder().id(1L).roleName("ROLE_USER").build()))
+                    .build());
+
+            assertThatThrownBy(() -> tripService.moveStop(5L, 12L, new MoveStopRequest(null, null), stranger))
+                    .isInstanceOf(AccessDeniedException.class);
+            verify(tripStopRepository, never()).findLiveByIdAndTripId(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should let a collaborator move stops of the owner's trip")
+        void shouldAllowCollaboratorToMoveStop() {
+            trip.getCollaboratorIds().add(2L);
+            TripStop moved = stop(12L, "t");
+            given(tripStopRepository.findLiveByIdAndTripId(12L, 5L)).willReturn(Optional.of(moved));
+            given(tripStopRepository.findLast(5L, 12L, Limit.of(1))).willReturn(List.of(stop(11L, "k")));
+            given(destinationService.getDestinationById(12L)).willReturn(madrid);
+
+            tripService.moveStop(5L, 12L, new MoveStopRequest(null, null), collaboratorDetail());
+
+            assertThat(writtenRank(moved, false)).isGreaterThan("k");
+            verify(eventPublisher).publishEvent(TripChangedEvent.changed(5L, 1L));
+        }
+
+        @Test
+        @DisplayName("Should keep a removed stop as a tombstone with a newer clock")
+        void shouldTombstoneRemovedStop() {
+            TripStop removed = stop(12L, "t");
+            given(tripStopRepository.findLiveByIdAndTripId(12L, 5L)).willReturn(Optional.of(removed));
+
+            tripService.removeStop(5L, 12L, ownerDetail);
+
+            assertThat(writtenRank(removed, true)).isEqualTo("t");
+            verify(tripStopRepository, never()).delete(any());
+            verify(eventPublisher).publishEvent(TripChangedEvent.changed(5L, 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("addCollaborator / removeCollaborator")
+    class CollaboratorTests {
+        @BeforeEach
+        void lockTrip() {
+            given(tripRepository.findByIdForUpdate(5L)).willReturn(Optional.of(trip));
+        }
+
+        private String writtenRank(TripStop stop, boolean removed) {
+            ArgumentCaptor<String> rank = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<Long> clock = ArgumentCaptor.forClass(Long.class);
+            String site = replicaIdentity.getId();
+            verify(tripStopRepository).updateIfNewer(eq(5L), eq(stop.getElementId()), rank.capture(), eq(removed),
+                    clock.capture(), eq(site));
+            assertThat(clock.getValue()).isGreaterThan(stop.getClock());
+            return rank.getValue();
+        }
+
+        @Test
+        @DisplayName("Should share the trip with an existing user")
+        void shouldAddCollaborator() {
+            given(userRepository.existsById(2L)).willReturn(true);
+
+            tripService.addCollaborator(5L, 2L, ownerDetail);
+
+            assertThat(trip.getCollaboratorIds()).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("Should throw NoSuchElementException when the user does not exist")
+        void shouldThrowNoSuchElementException_whenUserDoesNotExist() {
+            given(userRepository.existsById(9L)).willReturn(false);
+
+            assertThatThrownBy(() -> tripService.addCollaborator(5L, 9L, ownerDetail))
+                    .isInstanceOf(NoSuchElementException.class)
+                    .hasMessage("User not found with id 9");
+        }
+
+        @Test
+        @DisplayName("Should not let a collaborator share the trip further")
+        void shouldThrowAccessDeniedException_whenCollaboratorAddsCollaborator() {
+            trip.getCollaboratorIds().add(2L);
+
+            assertThatThrownBy(() -> tripService.addCollaborator(5L, 3L, collaboratorDetail()))
+                    .isInstanceOf(AccessDeniedException.class);
+            verify(userRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("Should stop sharing the trip with a collaborator")
+        void shouldRemoveCollaborator() {
+            trip.getCollaboratorIds().add(2L);
+
+            tripService.removeCollaborator(5L, 2L, ownerDetail);
+
+            assertThat(trip.getCollaboratorIds()).isEmpty();
+            verify(eventPublisher).publishEvent(TripChangedEvent.changed(5L, trip.getUser().getId()));
+        }
+    }
+}
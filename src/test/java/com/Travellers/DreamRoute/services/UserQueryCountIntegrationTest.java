@@ -0,0 +1,74 @@
+package com.Travellers.DreamRoute.services;
+
+import com.Travellers.DreamRoute.dtos.user.UserResponse;
+import com.Travellers.DreamRoute.support.HibernateQueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = HibernateQueryCounter.STATISTICS_PROPERTY)
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("UserService query count")
+public class UserQueryCountIntegrationTest {
+    private static final int EXTRA_USERS = 50;
+    private static final int DESTINATIONS_PER_USER = 3;
+    private static final long MAX_STATEMENTS_FOR_USER_LISTING = 2;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void seedUsers() {
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> userRoles = new ArrayList<>();
+        List<Object[]> destinations = new ArrayList<>();
+        for (int i = 0; i < EXTRA_USERS; i++) {
+            long userId = 100 + i;
+            users.add(new Object[]{userId, "traveller" + i, "traveller" + i + "@example.com", "Traveller12345."});
+            userRoles.add(new Object[]{userId, 1});
+            if (i % 2 == 0) {
+                userRoles.add(new Object[]{userId, 2});
+            }
+            for (int j = 0; j < DESTINATIONS_PER_USER; j++) {
+                long destinationId = 1000 + i * DESTINATIONS_PER_USER + j;
+                destinations.add(new Object[]{destinationId, "País", "Ciudad " + destinationId, "Descripción", "https://example.com/img.png", userId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users(id, username, email, password) VALUES (?, ?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO users_roles(user_id, role_id) VALUES (?, ?)", userRoles);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO destinations(id, country, city, description, image_url, user_id) VALUES (?, ?, ?, ?, ?, ?)", destinations);
+    }
+
+    @Test
+    @DisplayName("GET /users/all should take a bounded number of queries regardless of user count")
+    void getAllUsers_usesBoundedNumberOfQueries() {
+        HibernateQueryCounter queryCounter = new HibernateQueryCounter(entityManagerFactory);
+        queryCounter.reset();
+
+        List<UserResponse> users = userService.getAllUsers();
+
+        assertThat(users).hasSize(6 + EXTRA_USERS);
+        assertThat(users).filteredOn(user -> user.username().equals("traveller0"))
+                .singleElement()
+                .satisfies(user -> {
+                    assertThat(user.roles()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+                    assertThat(user.destinations()).hasSize(DESTINATIONS_PER_USER);
+                });
+        assertThat(queryCounter.preparedStatements()).isLessThanOrEqualTo(MAX_STATEMENTS_FOR_USER_LISTING);
+    }
+}
@@ -1,15 +1,20 @@
 package com.Travellers.DreamRoute.services;
 
+import com.Travellers.DreamRoute.caches.RoleRegistry;
 import com.Travellers.DreamRoute.dtos.user.UserMapperImpl;
 import com.Travellers.DreamRoute.dtos.user.UserRequest;
 import com.Travellers.DreamRoute.dtos.user.UserResponse;
 import com.Travellers.DreamRoute.dtos.user.UserUpdateRequest;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.events.UserRenamedEvent;
 import com.Travellers.DreamRoute.exceptions.EntityNotFoundException;
+import com.Travellers.DreamRoute.models.Destination;
 import com.Travellers.DreamRoute.models.Role;
 import com.Travellers.DreamRoute.models.User;
-import com.Travellers.DreamRoute.repositories.RoleRepository;
 import com.Travellers.DreamRoute.repositories.UserRepository;
 import com.Travellers.DreamRoute.security.UserDetail;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,16 +23,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -43,14 +55,22 @@ public class UserServiceTest {
     UserMapperImpl userMapperImpl;
 
     @Mock
-    RoleRepository roleRepository;
+    RoleRegistry roleRegistry;
 
     @Mock
     BCryptPasswordEncoder passwordEncoder;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     UserService userService;
 
+    private static Object userChangedEvent(UserChangedEvent.Type type, Long userId) {
+        return argThat((Object event) -> event instanceof UserChangedEvent changed
+                && changed.type() == type && changed.userId().equals(userId));
+    }
+
     User testUser, testUser2;
     UserResponse testUserResponse, testUserResponse2;
 
@@ -74,7 +94,7 @@ public class UserServiceTest {
                 .username("testuser")
                 .email("test@dreamroute.com")
                 .password("encodedTestDreamRoute1!")
-                .roles(new ArrayList<>(List.of(userRole)))
+                .roles(new HashSet<>(Set.of(userRole)))
                 .build();
 
         testUser2 = User.builder()
@@ -82,7 +102,7 @@ public class UserServiceTest {
                 .username("testuser2")
                 .email("test2@dreamroute.com")
                 .password("encodedTestDreamRoute2!")
-                .roles(new ArrayList<>(List.of(adminRole)))
+                .roles(new HashSet<>(Set.of(adminRole)))
                 .build();
 
         testUserResponse = new UserResponse(
@@ -106,7 +126,7 @@ public class UserServiceTest {
                .username("admin_user_test")
                .email("admin_user@test.com")
                .password("encodedAdminPassword")
-               .roles(new ArrayList<>(List.of(adminRole)))
+               .roles(new HashSet<>(Set.of(adminRole)))
                .build();
 
        normalUser = User.builder()
@@ -114,7 +134,7 @@ public class UserServiceTest {
                .username("normal_user_test")
                .email("normal_user@test.com")
                .password("encodedNormalUserPassword")
-               .roles(new ArrayList<>(List.of(userRole)))
+               .roles(new HashSet<>(Set.of(userRole)))
                .build();
 
        anotherNormalUser = User.builder()
@@ -122,7 +142,7 @@ public class UserServiceTest {
                .username("another_normal_user_test")
                .email("another_user@test.com")
                .password("encodedAnotherNormalPassword")
-               .roles(new ArrayList<>(List.of(userRole)))
+               .roles(new HashSet<>(Set.of(userRole)))
                .build();
 
        adminUserDetail = new UserDetail(adminUser);
@@ -194,6 +214,8 @@ public class UserServiceTest {
         void shouldDeleteUserByUserIdSuccessfullyWhenUserIsAdmin() {
             Long userIdToDelete = testUser.getId();
             UserDetail userDetailTest = adminUserDetail;
+            Destination ownedDestination = new Destination(5L, "Colombia", "Santa Marta", "Desc", "url", testUser);
+            testUser.getDestinations().add(ownedDestination);
 
             given(userRepository.findById(userIdToDelete)).willReturn(Optional.of(testUser));
 
@@ -202,6 +224,8 @@ public class UserServiceTest {
             assertThat(result).isEqualTo("User with id " + userIdToDelete + " has been deleted");
             verify(userRepository, times(1)).findById(userIdToDelete);
             verify(userRepository, times(1)).delete(testUser);
+            verify(eventPublisher, times(1)).publishEvent(DestinationChangedEvent.deleted(5L, userIdToDelete));
+            verify(eventPublisher, times(1)).publishEvent(userChangedEvent(UserChangedEvent.Type.DELETED, userIdToDelete));
         }
 
         @Test
@@ -268,7 +292,7 @@ public class UserServiceTest {
                     .username(request.username())
                     .email(request.email())
                     .password(request.password())
-                    .roles(new ArrayList<>(List.of(defaultRole)))
+                    .roles(new HashSet<>(Set.of(defaultRole)))
                     .build();
 
             given(userMapperImpl.dtoToEntity(
@@ -277,12 +301,10 @@ public class UserServiceTest {
                     org.mockito.ArgumentMatchers.any(List.class)
             )).willReturn(newUserMocked);
 
-            given(userRepository.existsByUsername(request.username())).willReturn(false);
-            given(userRepository.existsByEmail(request.email())).willReturn(false);
-            given(roleRepository.findByRoleNameIgnoreCase("ROLE_USER")).willReturn(Optional.of(defaultRole));
+            given(roleRegistry.findByName("ROLE_USER")).willReturn(Optional.of(defaultRole));
             given(passwordEncoder.encode(request.password())).willReturn("encodedPassword123");
 
-            given(userRepository.save(org.mockito.ArgumentMatchers.any(User.class))).willAnswer(invocation -> {
+            given(userRepository.saveAndFlush(org.mockito.ArgumentMatchers.any(User.class))).willAnswer(invocation -> {
                 User userToSave = invocation.getArgument(0);
                 userToSave.setId(1L);
                 return userToSave;
@@ -304,16 +326,14 @@ public class UserServiceTest {
             assertThat(response.email()).isEqualTo(newUserMocked.getEmail());
             assertThat(response.roles()).containsExactly("ROLE_USER");
 
-            verify(userRepository, times(1)).existsByUsername(request.username());
-            verify(userRepository, times(1)).existsByEmail(request.email());
-            verify(roleRepository, times(1)).findByRoleNameIgnoreCase("ROLE_USER");
+            verify(roleRegistry, times(1)).findByName("ROLE_USER");
             verify(userMapperImpl, times(1)).dtoToEntity(
                     org.mockito.ArgumentMatchers.any(UserRequest.class),
                     org.mockito.ArgumentMatchers.any(List.class),
                     org.mockito.ArgumentMatchers.any(List.class)
             );
             verify(passwordEncoder, times(1)).encode(request.password());
-            verify(userRepository, times(1)).save(org.mockito.ArgumentMatchers.any(User.class));
+            verify(userRepository, times(1)).saveAndFlush(org.mockito.ArgumentMatchers.any(User.class));
             verify(userMapperImpl, times(1)).entityToDto(org.mockito.ArgumentMatchers.any(User.class));
         }
 
@@ -326,14 +346,14 @@ public class UserServiceTest {
                     "newPassword123#"
             );
 
-            given(userRepository.existsByUsername(request.username())).willReturn(true);
+            givenInsertViolates(request, "users.uk_users_username_lc");
 
             Exception exception = assertThrows(IllegalArgumentException.class, () -> {
                 userService.registerUser(request);
             });
 
             assertThat(exception.getMessage()).contains("Username already taken");
-            verify(userRepository, times(1)).existsByUsername(request.username());
+            verify(userRepository, never()).existsByUsername(org.mockito.ArgumentMatchers.anyString());
             verify(userRepository, never()).existsByEmail(org.mockito.ArgumentMatchers.anyString());
         }
 
@@ -346,17 +366,41 @@ public class UserServiceTest {
                     "newPassword123#"
             );
 
-            given(userRepository.existsByUsername(request.username())).willReturn(false);
-            given(userRepository.existsByEmail(request.email())).willReturn(true);
+            givenInsertViolates(request, "users.uk_users_email_lc");
 
             Exception exception = assertThrows(IllegalArgumentException.class, () -> {
                 userService.registerUser(request);
             });
 
             assertThat(exception.getMessage()).contains("Email already registered");
-            verify(userRepository, times(1)).existsByUsername(request.username());
-            verify(userRepository, times(1)).existsByEmail(request.email());
-            verify(roleRepository, never()).findByRoleNameIgnoreCase(org.mockito.ArgumentMatchers.anyString());
+            verify(userMapperImpl, never()).entityToDto(org.mockito.ArgumentMatchers.any(User.class));
+        }
+
+        @Test
+        @DisplayName("should rethrow integrity violations that are not duplicate credentials")
+        void shouldRethrowUnknownIntegrityViolations() {
+            UserRequest request = new UserRequest(
+                    "newuser",
+                    "newuser@example.com",
+                    "newPassword123#"
+            );
+            givenInsertViolates(request, "fk_unknown");
+
+            assertThrows(DataIntegrityViolationException.class, () -> userService.registerUser(request));
+        }
+
+        private void givenInsertViolates(UserRequest request, String constraintName) {
+            Role defaultRole = new Role(1L, "ROLE_USER", new ArrayList<>());
+            given(roleRegistry.findByName("ROLE_USER")).willReturn(Optional.of(defaultRole));
+            given(userMapperImpl.dtoToEntity(
+                    org.mockito.ArgumentMatchers.any(UserRequest.class),
+                    org.mockito.ArgumentMatchers.any(List.class),
+                    org.mockito.ArgumentMatchers.any(List.class)
+            )).willReturn(User.builder().username(request.username()).email(request.email()).build());
+            given(passwordEncoder.encode(request.password())).willReturn("encodedPassword123");
+            given(userRepository.saveAndFlush(org.mockito.ArgumentMatchers.any(User.class))).willThrow(
+                    new DataIntegrityViolationException("could not execute statement",
+                            new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry"), constraintName)));
         }
     }
 
@@ -395,6 +439,23 @@ public class UserServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("updatePassword(UserDetails userDetails, String newPassword)")
+    class UpdatePasswordTests {
+        @Test
+        @DisplayName("Should store the re-encoded password of the authenticated user")
+        void shouldStoreUpgradedHash() {
+            given(userRepository.findByUsernameIgnoreCase(testUser.getUsername())).willReturn(Optional.of(testUser));
+            given(userRepository.save(testUser)).willReturn(testUser);
+
+            UserDetail result = userService.updatePassword(new UserDetail(testUser), "$2a$11$upgradedHash");
+
+            assertThat(result.getPassword()).isEqualTo("$2a$11$upgradedHash");
+            verify(userRepository, times(1)).save(testUser);
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+
     @Nested
     @DisplayName("Admin user update scenarios")
     class AdminUpdateTests {
@@ -402,6 +463,7 @@ public class UserServiceTest {
         @DisplayName("Admin should be able to update their own username and email")
         void adminCanUpdateOwnUsernameAndEmail() {
             Long targetUserId = adminUser.getId();
+            String previousUsername = adminUser.getUsername();
             String newUsername = "updatedAdminUsername";
             String newEmail = "updated_admin@test.com";
             UserUpdateRequest userRequest = new UserUpdateRequest(newUsername, newEmail, null, List.of());
@@ -434,6 +496,8 @@ public class UserServiceTest {
             verify(userRepository, times(1)).save(any(User.class));
             verify(passwordEncoder, never()).encode(org.mockito.ArgumentMatchers.anyString());
             verify(userMapperImpl, times(1)).entityToDto(any(User.class));
+            verify(eventPublisher, times(1)).publishEvent(new UserRenamedEvent(targetUserId, previousUsername, newUsername));
+            verify(eventPublisher, times(1)).publishEvent(userChangedEvent(UserChangedEvent.Type.REVOKED, targetUserId));
         }
 
         @Test
@@ -482,7 +546,7 @@ public class UserServiceTest {
             UserUpdateRequest userRequest = new UserUpdateRequest(anotherNormalUser.getUsername(), anotherNormalUser.getEmail(), null, newRoles);
 
             given(userRepository.findById(targetUserId)).willReturn(Optional.of(anotherNormalUser));
-            given(roleRepository.findByRoleNameIgnoreCase("ROLE_ADMIN")).willReturn(Optional.of(adminRole));
+            given(roleRegistry.resolveAll(newRoles)).willReturn(new LinkedHashSet<>(List.of(adminRole)));
 
             given(userRepository.save(org.mockito.ArgumentMatchers.any(User.class))).willAnswer(invocation -> {
                 User userToSave = invocation.getArgument(0);
@@ -505,7 +569,7 @@ public class UserServiceTest {
             assertThat(result.roles()).containsExactly("ROLE_ADMIN");
 
             verify(userRepository, times(1)).findById(targetUserId);
-            verify(roleRepository, times(1)).findByRoleNameIgnoreCase("ROLE_ADMIN");
+            verify(roleRegistry, times(1)).resolveAll(newRoles);
             verify(userRepository, times(1)).save(any(User.class));
             verify(userMapperImpl, times(1)).entityToDto(any(User.class));
         }
@@ -518,14 +582,14 @@ public class UserServiceTest {
             UserUpdateRequest userRequest = new UserUpdateRequest(anotherNormalUser.getUsername(), anotherNormalUser.getEmail(), null, newRoles);
 
             given(userRepository.findById(targetUserId)).willReturn(Optional.of(anotherNormalUser));
-            given(roleRepository.findByRoleNameIgnoreCase("ROLE_NON_EXISTENT")).willReturn(Optional.empty());
+            given(roleRegistry.resolveAll(newRoles)).willThrow(new RuntimeException("Role not found: ROLE_NON_EXISTENT"));
 
             RuntimeException thrown = assertThrows(RuntimeException.class, () ->
                     userService.updateUser(targetUserId, userRequest, adminUserDetail));
 
             assertThat(thrown.getMessage()).isEqualTo("Role not found: ROLE_NON_EXISTENT");
             verify(userRepository, times(1)).findById(targetUserId);
-            verify(roleRepository, times(1)).findByRoleNameIgnoreCase("ROLE_NON_EXISTENT");
+            verify(roleRegistry, times(1)).resolveAll(newRoles);
             verify(userRepository, never()).save(org.mockito.ArgumentMatchers.any(User.class));
         }
 
@@ -645,7 +709,7 @@ public class UserServiceTest {
 
             assertThat(thrown.getMessage()).isEqualTo("Users are not allowed to change their own roles");
             verify(userRepository, times(1)).findById(targetUserId);
-            verify(roleRepository, never()).findByRoleNameIgnoreCase(org.mockito.ArgumentMatchers.anyString());
+            verify(roleRegistry, never()).resolveAll(org.mockito.ArgumentMatchers.anyCollection());
             verify(userRepository, never()).save(org.mockito.ArgumentMatchers.any(User.class));
         }
 
@@ -681,6 +745,8 @@ public class UserServiceTest {
             verify(userRepository, times(1)).findById(targetUserId);
             verify(userRepository, times(1)).save(any(User.class));
             verify(userMapperImpl, times(1)).entityToDto(any(User.class));
+            verify(eventPublisher, never()).publishEvent(any(UserRenamedEvent.class));
+            verify(eventPublisher, times(1)).publishEvent(userChangedEvent(UserChangedEvent.Type.UPDATED, targetUserId));
         }
 
         @Test
@@ -0,0 +1,27 @@
+package com.Travellers.DreamRoute.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+public class HibernateQueryCounter {
+    public static final String STATISTICS_PROPERTY = "spring.jpa.properties.hibernate.generate_statistics=true";
+
+    private final Statistics statistics;
+
+    public HibernateQueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public long preparedStatements() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    public long loadedEntities() {
+        return statistics.getEntityLoadCount();
+    }
+}
@@ -0,0 +1,81 @@
+package com.Travellers.DreamRoute.sync;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationRequest;
+import com.Travellers.DreamRoute.dtos.user.UserUpdateRequest;
+import com.Travellers.DreamRoute.models.Role;
+import com.Travellers.DreamRoute.models.User;
+import com.Travellers.DreamRoute.security.UserDetail;
+import com.Travellers.DreamRoute.services.DestinationService;
+import com.Travellers.DreamRoute.services.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("DestinationChangeSequencer lock ordering")
+public class DestinationChangeSequencerIntegrationTest {
+    private static final int ROUNDS = 25;
+    private static final long OWNER_ID = 1L;
+    private static final long DESTINATION_ID = 7L;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DestinationService destinationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UserDetail admin = new UserDetail(User.builder()
+            .id(OWNER_ID)
+            .username("May")
+            .roles(Set.of(Role.builder().id(2L).roleName("ROLE_ADMIN").build()))
+            .build());
+
+    @Test
+    @DisplayName("A rename racing an update of one of the user's destinations should never deadlock")
+    void renameAndUpdateDoNotDeadlock() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                CyclicBarrier start = new CyclicBarrier(2);
+                String username = "May" + round;
+                String city = "Sídney " + round;
+                Callable<Object> rename = () -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return userService.updateUser(OWNER_ID, new UserUpdateRequest(username, null, null, null), admin);
+                };
+                Callable<Object> update = () -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return destinationService.updateDestination(DESTINATION_ID, new DestinationRequest(
+                            "Australia", city, "Descripción", "https://example.com/sydney.png", -33.8688, 151.2093), admin);
+                };
+
+                for (Future<Object> result : executor.invokeAll(List.of(rename, update))) {
+                    assertThat(result.get()).isNotNull();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT username FROM users WHERE id = ?", String.class, OWNER_ID))
+                .isEqualTo("May" + (ROUNDS - 1));
+        assertThat(jdbcTemplate.queryForObject("SELECT city FROM destinations WHERE id = ?", String.class, DESTINATION_ID))
+                .isEqualTo("Sídney " + (ROUNDS - 1));
+    }
+}
@@ -0,0 +1,172 @@
+package com.Travellers.DreamRoute.sync;
+
+import com.Travellers.DreamRoute.dtos.destination.DestinationResponse;
+import com.Travellers.DreamRoute.events.DestinationChangedEvent;
+import com.Travellers.DreamRoute.events.UserChangedEvent;
+import com.Travellers.DreamRoute.events.UserRenamedEvent;
+import com.Travellers.DreamRoute.models.ChangeCounter;
+import com.Travellers.DreamRoute.models.DestinationTombstone;
+import com.Travellers.DreamRoute.repositories.ChangeCounterRepository;
+import com.Travellers.DreamRoute.repositories.DestinationRepository;
+import com.Travellers.DreamRoute.repositories.DestinationTombstoneRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DestinationChangeSequencer Unit Tests")
+public class DestinationChangeSequencerTest {
+    private final DestinationResponse madrid = new DestinationResponse(1L, "España", "Madrid", "Desc", "url", "May", 40.4168, -3.7038);
+
+    @Mock
+    DestinationRepository destinationRepository;
+
+    @Mock
+    DestinationTombstoneRepository tombstoneRepository;
+
+    @Mock
+    ChangeCounterRepository changeCounterRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    EntityManager entityManager;
+
+    private DestinationChangeSequencer sequencer;
+
+    @BeforeEach
+    void setUp() {
+        sequencer = new DestinationChangeSequencer(destinationRepository, tombstoneRepository, changeCounterRepository,
+                transactionManager, entityManager, Duration.ofDays(30));
+    }
+
+    @Nested
+    @DisplayName("Inside a transaction")
+    class TransactionTests {
+        private final ChangeCounter counter = new ChangeCounter(DestinationChangeSequencer.CHANGE_COUNTER, 41L);
+
+        @BeforeEach
+        void beginTransaction() {
+            TransactionSynchronizationManager.initSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+        }
+
+        @AfterEach
+        void endTransaction() {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        private void commit() {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.beforeCommit(false));
+        }
+
+        @Test
+        @DisplayName("Should stamp every change of the transaction with one number at commit")
+        @SuppressWarnings("unchecked")
+        void shouldStampChangesAtCommit() {
+            given(changeCounterRepository.findByNameForUpdate(DestinationChangeSequencer.CHANGE_COUNTER)).willReturn(Optional.of(counter));
+            given(destinationRepository.lockIdsByUserIdIn(Set.of(3L))).willReturn(List.of(5L, 6L));
+
+            sequencer.onDestinationChanged(DestinationChangedEvent.created(madrid, 1L));
+            sequencer.onDestinationChanged(DestinationChangedEvent.updated(madrid, 1L));
+            sequencer.onDestinationChanged(DestinationChangedEvent.deleted(9L, 2L));
+            sequencer.onUserRenamed(new UserRenamedEvent(3L, "Mary", "Maria"));
+            verify(changeCounterRepository, never()).findByNameForUpdate(any());
+
+            commit();
+
+            assertThat(counter.getValue()).isEqualTo(42L);
+            InOrder lockOrder = inOrder(entityManager, destinationRepository, changeCounterRepository);
+            lockOrder.verify(entityManager).flush();
+            lockOrder.verify(destinationRepository).lockIdsByUserIdIn(Set.of(3L));
+            lockOrder.verify(changeCounterRepository).findByNameForUpdate(DestinationChangeSequencer.CHANGE_COUNTER);
+            lockOrder.verify(destinationRepository).updateChangeSeq(Set.of(1L, 5L, 6L), 42L);
+            ArgumentCaptor<List<DestinationTombstone>> tombstones = ArgumentCaptor.forClass(List.class);
+            verify(tombstoneRepository).saveAll(tombstones.capture());
+            assertThat(tombstones.getValue()).singleElement().satisfies(tombstone -> {
+                assertThat(tombstone.getDestinationId()).isEqualTo(9L);
+                assertThat(tombstone.getUserId()).isEqualTo(2L);
+                assertThat(tombstone.getChangeSeq()).isEqualTo(42L);
+            });
+        }
+
+        @Test
+        @DisplayName("Should only leave a tombstone for a destination deleted after being changed")
+        void shouldPreferDeletion_whenDestinationIsChangedAndDeleted() {
+            given(changeCounterRepository.findByNameForUpdate(DestinationChangeSequencer.CHANGE_COUNTER)).willReturn(Optional.of(counter));
+
+            sequencer.onDestinationChanged(DestinationChangedEvent.updated(madrid, 1L));
+            sequencer.onDestinationChanged(DestinationChangedEvent.deleted(1L, 1L));
+            commit();
+
+            verify(destinationRepository, never()).updateChangeSeq(anyCollection(), anyLong());
+            verify(tombstoneRepository).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("Should take a number when a user is deleted, even without destinations")
+        void shouldStamp_whenUserIsDeleted() {
+            given(changeCounterRepository.findByNameForUpdate(DestinationChangeSequencer.CHANGE_COUNTER)).willReturn(Optional.of(counter));
+
+            sequencer.onUserDeleted(UserChangedEvent.updated(3L));
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+
+            sequencer.onUserDeleted(UserChangedEvent.deleted(3L));
+            commit();
+
+            assertThat(counter.getValue()).isEqualTo(42L);
+            verify(tombstoneRepository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("Should ignore changes relayed from other replicas")
+        void shouldIgnoreRemoteChanges() {
+            sequencer.onDestinationChanged(DestinationChangedEvent.created(madrid, 1L).asRemote());
+
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should prune old tombstones and remember how far it pruned")
+    void shouldPruneTombstones() {
+        ChangeCounter floor = new ChangeCounter(DestinationChangeSequencer.PRUNED_COUNTER, 10L);
+        given(changeCounterRepository.findByNameForUpdate(DestinationChangeSequencer.PRUNED_COUNTER)).willReturn(Optional.of(floor));
+        given(tombstoneRepository.findMaxChangeSeqDeletedBefore(any(Instant.class))).willReturn(Optional.of(25L));
+        given(tombstoneRepository.deleteThroughChangeSeq(25L)).willReturn(3);
+
+        sequencer.pruneTombstones();
+
+        assertThat(floor.getValue()).isEqualTo(25L);
+        verify(tombstoneRepository).deleteThroughChangeSeq(25L);
+    }
+}
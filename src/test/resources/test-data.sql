@@ -1,5 +1,9 @@
+DELETE FROM trip_stops;
+DELETE FROM trip_collaborators;
+DELETE FROM trips;
 DELETE FROM users_roles;
 DELETE FROM destinations;
+DELETE FROM destination_tombstones;
 DELETE FROM users;
 DELETE FROM roles;
 
@@ -22,14 +26,22 @@ INSERT INTO users_roles(user_id, role_id) VALUES
 (4, 1),
 (5, 1);
 
-INSERT INTO destinations(id, country, city, description, image_url, user_id) VALUES
-(1, 'Colombia', 'Santa Marta', 'La más hermosa y maravillosa ciudad del mundo, aunque calurosa llena de playas refrescantes', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583230/santa-marta-img_vdhss8.jpg', 1),
-(2, 'Japón', 'Tokio', 'Una ciudad futurista con una mezcla vibrante de cultura tradicional y tecnología avanzada.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583231/tokyo-img_xnywbv.jpg', 2),
-(3, 'Italia', 'Venecia', 'Canales, góndolas y una arquitectura única hacen de esta ciudad un sueño romántico.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583232/venice-img_ekobnb.jpg', 2),
-(4, 'Islandia', 'Reikiavik', 'Auroras boreales, volcanes, y aguas termales en un entorno natural impresionante.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583233/iceland-img_uqzldo.jpg', 3),
-(5, 'Tailandia', 'Chiang Mai', 'Templos budistas, mercados nocturnos y naturaleza tropical exuberante.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583234/chiangmai-img_crz1mv.jpg', 4),
-(6, 'Estados Unidos', 'Nueva York', 'La ciudad que nunca duerme: rascacielos, Broadway y diversidad cultural.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583235/nyc-img_k6eoa7.jpg', 2),
-(7, 'Australia', 'Sídney', 'Icono de la costa australiana con playas, ópera y naturaleza.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583236/sydney-img_hgjycy.jpg', 1),
-(8, 'Egipto', 'El Cairo', 'Pirámides, historia milenaria y una cultura fascinante en pleno desierto.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583237/cairo-img_qzkmcz.jpg', 3),
-(9, 'Francia', 'París', 'La ciudad del amor con su icónica Torre Eiffel, museos y gastronomía.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583238/paris-img_jgcsje.jpg', 4),
-(10, 'Argentina', 'Bariloche', 'Paisajes de montaña, lagos y chocolate en la Patagonia argentina.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583239/bariloche-img_jsqzbg.jpg', 1);
\ No newline at end of file
+INSERT INTO destinations(id, country, city, description, image_url, latitude, longitude, user_id) VALUES
+(1, 'Colombia', 'Santa Marta', 'La más hermosa y maravillosa ciudad del mundo, aunque calurosa llena de playas refrescantes', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583230/santa-marta-img_vdhss8.jpg', 11.2408, -74.199, 1),
+(2, 'Japón', 'Tokio', 'Una ciudad futurista con una mezcla vibrante de cultura tradicional y tecnología avanzada.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583231/tokyo-img_xnywbv.jpg', 35.6762, 139.6503, 2),
+(3, 'Italia', 'Venecia', 'Canales, góndolas y una arquitectura única hacen de esta ciudad un sueño romántico.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583232/venice-img_ekobnb.jpg', 45.4408, 12.3155, 2),
+(4, 'Islandia', 'Reikiavik', 'Auroras boreales, volcanes, y aguas termales en un entorno natural impresionante.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583233/iceland-img_uqzldo.jpg', 64.1466, -21.9426, 3),
+(5, 'Tailandia', 'Chiang Mai', 'Templos budistas, mercados nocturnos y naturaleza tropical exuberante.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583234/chiangmai-img_crz1mv.jpg', 18.7883, 98.9853, 4),
+(6, 'Estados Unidos', 'Nueva York', 'La ciudad que nunca duerme: rascacielos, Broadway y diversidad cultural.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583235/nyc-img_k6eoa7.jpg', 40.7128, -74.006, 2),
+(7, 'Australia', 'Sídney', 'Icono de la costa australiana con playas, ópera y naturaleza.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583236/sydney-img_hgjycy.jpg', -33.8688, 151.2093, 1),
+(8, 'Egipto', 'El Cairo', 'Pirámides, historia milenaria y una cultura fascinante en pleno desierto.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583237/cairo-img_qzkmcz.jpg', 30.0444, 31.2357, 3),
+(9, 'Francia', 'París', 'La ciudad del amor con su icónica Torre Eiffel, museos y gastronomía.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583238/paris-img_jgcsje.jpg', 48.8566, 2.3522, 4),
+(10, 'Argentina', 'Bariloche', 'Paisajes de montaña, lagos y chocolate en la Patagonia argentina.', 'https://res.cloudinary.com/dwc2jpfbw/image/upload/v1752583239/bariloche-img_jsqzbg.jpg', -41.1335, -71.3103, 1);
+
+INSERT INTO trips(id, name, user_id) VALUES
+(1, 'Vuelta al mundo', 1);
+
+INSERT INTO trip_stops(id, element_id, trip_id, destination_id, stop_rank, removed, clock, site) VALUES
+(1, 'e1', 1, 1, 'V', false, 1, 'seed'),
+(2, 'e2', 1, 7, 'k', false, 1, 'seed'),
+(3, 'e3', 1, 10, 't', false, 1, 'seed');
\ No newline at end of file